@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.benchmark;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.query.FunctionDomainException;
+import org.apache.geode.cache.query.NameResolutionException;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.TypeMismatchException;
+
+/**
+ * Measures a range index whose keys each map to a few entries, which is the case where the index
+ * keeps a small array of entries per key. The update benchmark moves entries between keys so the
+ * per key arrays are created, grown and shrunk.
+ */
+@Fork(3)
+public class RangeIndexMaintenanceBenchmark {
+
+  private static final int ENTRIES = 10000;
+
+  private static final int ENTRIES_PER_KEY = 3;
+
+  @State(Scope.Benchmark)
+  public static class CacheState {
+    private Region region;
+    private Query query;
+    private int next;
+
+    public CacheState() {}
+
+    @Setup
+    public void setup() {
+      Cache cache = new CacheFactory().set("mcast-port", "0").set("locators", "").create();
+
+      region = cache.createRegionFactory(RegionShortcut.REPLICATE).create("region");
+      try {
+        cache.getQueryService().createIndex("Status", "id", "/region");
+
+        IntStream.range(0, ENTRIES).forEach(
+            i -> region.put(i, new RangeQueryWithIndexBenchmark.Value(i / ENTRIES_PER_KEY)));
+        query = cache.getQueryService().newQuery("select * from /region where id > 0");
+
+        SelectResults results = query();
+        assertEquals(ENTRIES - ENTRIES_PER_KEY, results.size());
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    public SelectResults query() throws NameResolutionException, TypeMismatchException,
+        QueryInvocationTargetException, FunctionDomainException {
+      return (SelectResults) query.execute();
+    }
+
+    public Object update() {
+      int key = next++ % ENTRIES;
+      // Move the entry to the next key and back again on the following pass
+      int id = key / ENTRIES_PER_KEY + (next / ENTRIES) % 2;
+      return region.put(key, new RangeQueryWithIndexBenchmark.Value(id));
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 20)
+  @Measurement(iterations = 20)
+  public Object query(CacheState state) throws NameResolutionException, TypeMismatchException,
+      QueryInvocationTargetException, FunctionDomainException {
+    return state.query();
+  }
+
+  @Benchmark
+  @Warmup(iterations = 20)
+  @Measurement(iterations = 20)
+  public Object update(CacheState state) {
+    return state.update();
+  }
+}
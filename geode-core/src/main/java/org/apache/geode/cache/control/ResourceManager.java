@@ -244,4 +244,55 @@ public interface ResourceManager {
    * @since Geode 1.0
    */
   public float getEvictionOffHeapPercentage();
+
+  /**
+   * Set the maximum number of bucket images this member sends to other members at the same time,
+   * whether a rebalance or redundancy recovery asked for them. Transfers beyond the limit wait
+   * until another one finishes. The initial value is taken from the
+   * <code>gemfire.ResourceManager.MAX_BUCKET_TRANSFERS</code> system property.
+   *
+   * <p>
+   * Transfers already in progress are not affected; waiting ones start as soon as the new limit
+   * allows.
+   *
+   * @param maxTransfers the maximum number of concurrent bucket transfers, or zero for no limit
+   * @throws IllegalArgumentException if maxTransfers is negative
+   * @see #getMaxBucketTransfers()
+   * @since Geode 1.4
+   */
+  public void setMaxBucketTransfers(int maxTransfers);
+
+  /**
+   * Get the maximum number of bucket images this member sends to other members at the same time.
+   *
+   * @return the maximum number of concurrent bucket transfers, or zero if there is no limit
+   * @see #setMaxBucketTransfers(int)
+   * @since Geode 1.4
+   */
+  public int getMaxBucketTransfers();
+
+  /**
+   * Set the number of bytes per second all the bucket images this member sends to other members
+   * may use together. The initial value is taken from the
+   * <code>gemfire.ResourceManager.BUCKET_TRANSFER_BYTES_PER_SECOND</code> system property.
+   *
+   * <p>
+   * Transfers in progress continue at the new rate immediately.
+   *
+   * @param bytesPerSecond the bandwidth of all bucket transfers, or zero for no limit
+   * @throws IllegalArgumentException if bytesPerSecond is negative
+   * @see #getBucketTransferBytesPerSecond()
+   * @since Geode 1.4
+   */
+  public void setBucketTransferBytesPerSecond(long bytesPerSecond);
+
+  /**
+   * Get the number of bytes per second all the bucket images this member sends to other members
+   * may use together.
+   *
+   * @return the bandwidth of all bucket transfers, or zero if there is no limit
+   * @see #setBucketTransferBytesPerSecond(long)
+   * @since Geode 1.4
+   */
+  public long getBucketTransferBytesPerSecond();
 }
@@ -15,8 +15,12 @@
 
 package org.apache.geode.cache.partition;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.geode.distributed.DistributedMember;
+
 /**
  * The detailed results of rebalancing a partitioned region.
  *
@@ -137,4 +141,30 @@ public interface PartitionRebalanceInfo {
    * @return the time, in milliseconds, spent transferring primaries for this region
    */
   public long getPrimaryTransferTime();
+
+  /**
+   * Returns the rate, in operations per second, at which each member was applying operations to
+   * its buckets of this region and the regions colocated with it when the rebalance started. Only
+   * a {@link org.apache.geode.cache.control.RebalanceOperation#simulate() simulated} rebalance
+   * reports operation loads, for any other rebalance the map is empty.
+   *
+   * @return the operations per second of each member at the time the rebalance started
+   * @since Geode 1.4
+   */
+  public default Map<DistributedMember, Float> getOperationLoadsBefore() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Returns the rate, in operations per second, at which each member is predicted to apply
+   * operations to its buckets of this region and the regions colocated with it once the bucket
+   * moves of a {@link org.apache.geode.cache.control.RebalanceOperation#simulate() simulated}
+   * rebalance are done. For any other rebalance the map is empty.
+   *
+   * @return the predicted operations per second of each member after the rebalance
+   * @since Geode 1.4
+   */
+  public default Map<DistributedMember, Float> getOperationLoadsAfter() {
+    return Collections.emptyMap();
+  }
 }
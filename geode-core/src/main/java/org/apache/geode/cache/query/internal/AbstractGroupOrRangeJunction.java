@@ -211,7 +211,8 @@ public abstract class AbstractGroupOrRangeJunction extends AbstractCompiledValue
 
 
 
-  private List getCondtionsSortedOnIncreasingEstimatedIndexResultSize(ExecutionContext context)
+  private List getCondtionsSortedOnIncreasingEstimatedIndexResultSize(ExecutionContext context,
+      int[] sortedSizeEstimates)
       throws FunctionDomainException, TypeMismatchException, NameResolutionException,
       QueryInvocationTargetException {
     // The checks before this function is invoked
@@ -221,17 +222,19 @@ public abstract class AbstractGroupOrRangeJunction extends AbstractCompiledValue
 
     List sortedList = new ArrayList(this._operands.length);
     int len = this._operands.length;
+    // Each operand's size estimate is computed once, estimates of range conditions have to look
+    // at both ends of the index
     for (int i = 0; i < len; ++i) {
       Filter toSort = (Filter) this._operands[i];
       int indxRsltToSort = toSort.getSizeEstimate(context);
-      int sortedListLen = sortedList.size();
       int j = 0;
-      for (; j < sortedListLen; ++j) {
-        Filter currSorted = (Filter) sortedList.get(j);
-        if (currSorted.getSizeEstimate(context) > indxRsltToSort) {
+      for (; j < i; ++j) {
+        if (sortedSizeEstimates[j] > indxRsltToSort) {
           break;
         }
       }
+      System.arraycopy(sortedSizeEstimates, j, sortedSizeEstimates, j + 1, i - j);
+      sortedSizeEstimates[j] = indxRsltToSort;
       sortedList.add(j, toSort);
     }
     return sortedList;
@@ -253,12 +256,14 @@ public abstract class AbstractGroupOrRangeJunction extends AbstractCompiledValue
     // using the intermediate results so far (passed in)
     // put results into new intermediate results
 
+    int[] sizeEstimates = new int[this._operands.length];
     List sortedConditionsList =
-        this.getCondtionsSortedOnIncreasingEstimatedIndexResultSize(context);
+        this.getCondtionsSortedOnIncreasingEstimatedIndexResultSize(context, sizeEstimates);
 
     // Sort the operands in increasing order of resultset size
     Iterator i = sortedConditionsList.iterator();
     // SortedSet intersectionSet = new TreeSet(new SelectResultsComparator());
+    int position = 0;
     while (i.hasNext()) {
       // Asif:TODO The intermediate ResultSet should be passed as null when
       // invoking filterEvaluate. Just because filterEvaluate is being called,
@@ -278,6 +283,12 @@ public abstract class AbstractGroupOrRangeJunction extends AbstractCompiledValue
       // RangeJunction then the Filter is a RangeJunctionEvaluator
       SelectResults filterResults = null;
       Filter filter = (Filter) i.next();
+      if (_operator == LITERAL_and && position > 0 && QueryUtils
+          .shouldIterateRemainingOperands(intermediateResults, sizeEstimates[position])) {
+        // The residual filter operands will be transferred for iter evaluation
+        break;
+      }
+      ++position;
       boolean isConditioningNeeded = filter.isConditioningNeededForIndex(
           this.indpndntItr.length == 1 ? this.indpndntItr[0] : null, context,
           this.completeExpansion);
@@ -20,9 +20,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -50,8 +48,13 @@ import org.apache.geode.pdx.internal.PdxInstanceImpl;
 public class AttributeDescriptor {
   private final String _name;
   private final MethodInvocationAuthorizer _methodInvocationAuthorizer;
-  /** cache for remembering the correct Member for a class and attribute */
-  private static final ConcurrentMap<List, Member> _localCache = new ConcurrentHashMap();
+  /**
+   * cache for remembering the correct Member for a class and attribute. The members are made
+   * accessible before they are cached, and the cache is keyed first by class so that a lookup for
+   * each evaluated entry does not need to allocate a key.
+   */
+  private static final ConcurrentMap<Class, ConcurrentMap<String, Member>> _localCache =
+      new ConcurrentHashMap<>();
 
 
 
@@ -142,23 +145,33 @@ public class AttributeDescriptor {
 
     // mapping: public field (same name), method (getAttribute()),
     // method (attribute())
-    List key = new ArrayList();
-    key.add(targetClass);
-    key.add(_name);
-
-    Member m = _localCache.computeIfAbsent(key, k -> {
-      Member member = getReadField(targetClass);
-      return member == null ? getReadMethod(targetClass) : member;
-    });
+    ConcurrentMap<String, Member> members = _localCache.get(targetClass);
+    if (members == null) {
+      members = new ConcurrentHashMap<>();
+      ConcurrentMap<String, Member> existing = _localCache.putIfAbsent(targetClass, members);
+      if (existing != null) {
+        members = existing;
+      }
+    }
 
+    Member m = members.get(_name);
     if (m == null) {
-      throw new NameNotFoundException(
-          LocalizedStrings.AttributeDescriptor_NO_PUBLIC_ATTRIBUTE_NAMED_0_WAS_FOUND_IN_CLASS_1
-              .toLocalizedString(new Object[] {_name, targetClass.getName()}));
+      m = getReadField(targetClass);
+      if (m == null) {
+        m = getReadMethod(targetClass);
+      }
+      if (m == null) {
+        throw new NameNotFoundException(
+            LocalizedStrings.AttributeDescriptor_NO_PUBLIC_ATTRIBUTE_NAMED_0_WAS_FOUND_IN_CLASS_1
+                .toLocalizedString(new Object[] {_name, targetClass.getName()}));
+      }
+      // override security for nonpublic derived classes with public members
+      ((AccessibleObject) m).setAccessible(true);
+      Member existing = members.putIfAbsent(_name, m);
+      if (existing != null) {
+        m = existing;
+      }
     }
-
-    // override security for nonpublic derived classes with public members
-    ((AccessibleObject) m).setAccessible(true);
     return m;
   }
 
@@ -14,6 +14,7 @@
  */
 package org.apache.geode.cache.query.internal;
 
+import org.apache.geode.cache.query.Aggregator;
 import org.apache.geode.cache.query.AmbiguousNameException;
 import org.apache.geode.cache.query.FunctionDomainException;
 import org.apache.geode.cache.query.NameResolutionException;
@@ -21,6 +22,7 @@ import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.TypeMismatchException;
 import org.apache.geode.cache.query.internal.aggregate.Avg;
 import org.apache.geode.cache.query.internal.aggregate.AvgBucketNode;
+import org.apache.geode.cache.query.internal.aggregate.AvgBucketResultsCombiner;
 import org.apache.geode.cache.query.internal.aggregate.AvgDistinct;
 import org.apache.geode.cache.query.internal.aggregate.AvgDistinctPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.AvgPRQueryNode;
@@ -29,6 +31,7 @@ import org.apache.geode.cache.query.internal.aggregate.CountDistinct;
 import org.apache.geode.cache.query.internal.aggregate.CountDistinctPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.CountPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.DistinctAggregator;
+import org.apache.geode.cache.query.internal.aggregate.DistinctBucketResultsCombiner;
 import org.apache.geode.cache.query.internal.aggregate.MaxMin;
 import org.apache.geode.cache.query.internal.aggregate.Sum;
 import org.apache.geode.cache.query.internal.aggregate.SumDistinct;
@@ -107,6 +110,31 @@ public class CompiledAggregateFunction extends AbstractCompiledValue {
 
   }
 
+  /**
+   * Returns an aggregator that combines the results this function produces on several buckets into
+   * one result of the same form, as if the buckets had been evaluated together.
+   */
+  public Aggregator createBucketResultsCombiner() {
+    if (this.distinctOnly && this.aggFuncType != OQLLexerTokenTypes.MAX
+        && this.aggFuncType != OQLLexerTokenTypes.MIN) {
+      return new DistinctBucketResultsCombiner();
+    }
+    switch (this.aggFuncType) {
+      case OQLLexerTokenTypes.SUM:
+        return new Sum();
+      case OQLLexerTokenTypes.MAX:
+        return new MaxMin(true);
+      case OQLLexerTokenTypes.MIN:
+        return new MaxMin(false);
+      case OQLLexerTokenTypes.AVG:
+        return new AvgBucketResultsCombiner();
+      case OQLLexerTokenTypes.COUNT:
+        return new CountPRQueryNode();
+      default:
+        throw new UnsupportedOperationException("Aggregate function not implemented");
+    }
+  }
+
   private String getStringRep() {
     switch (this.aggFuncType) {
 
@@ -14,13 +14,16 @@
  */
 package org.apache.geode.cache.query.internal;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.apache.geode.cache.query.Aggregator;
@@ -365,6 +368,76 @@ public class CompiledGroupBySelect extends CompiledSelect {
     return keepAdding;
   }
 
+  /**
+   * Combines the results of several buckets of one member, so that the member sends the query node
+   * a single partial result per group instead of one per bucket. The bucket results must be merged
+   * in group order, which puts the partial results of a group next to each other. The combined
+   * results have the same form as the results of a single bucket.
+   */
+  public List combineBucketResults(Collection mergedBucketResults) {
+    List combinedResults = new ArrayList();
+    Aggregator[] combiners = new Aggregator[this.aggregateFunctions.length];
+    Object groupRow = null;
+    boolean groupStarted = false;
+    for (Object row : mergedBucketResults) {
+      if (!groupStarted || !isSameGroup(groupRow, row)) {
+        if (groupStarted) {
+          combinedResults.add(terminateCombiners(groupRow, combiners));
+        }
+        groupRow = row;
+        groupStarted = true;
+        for (int i = 0; i < combiners.length; i++) {
+          combiners[i] = this.aggregateFunctions[i].createBucketResultsCombiner();
+        }
+      }
+      if (row instanceof Struct) {
+        Object[] values = ((Struct) row).getFieldValues();
+        int pos = -1;
+        for (Aggregator combiner : combiners) {
+          pos = this.aggregateColsPos.nextSetBit(pos + 1);
+          combiner.accumulate(values[pos]);
+        }
+      } else {
+        for (Aggregator combiner : combiners) {
+          combiner.accumulate(row);
+        }
+      }
+    }
+    if (groupStarted) {
+      combinedResults.add(terminateCombiners(groupRow, combiners));
+    }
+    return combinedResults;
+  }
+
+  private boolean isSameGroup(Object groupRow, Object row) {
+    if (row instanceof Struct) {
+      Object[] groupValues = ((Struct) groupRow).getFieldValues();
+      Object[] values = ((Struct) row).getFieldValues();
+      for (int i = 0; i < values.length; i++) {
+        if (!this.aggregateColsPos.get(i) && !Objects.equals(groupValues[i], values[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+    // a single column is either the aggregate of the only group or the group itself
+    return this.aggregateFunctions.length > 0 || Objects.equals(groupRow, row);
+  }
+
+  private Object terminateCombiners(Object groupRow, Aggregator[] combiners) {
+    if (groupRow instanceof Struct) {
+      Struct struct = (Struct) groupRow;
+      Object[] values = copyStruct(struct);
+      int pos = -1;
+      for (Aggregator combiner : combiners) {
+        pos = this.aggregateColsPos.nextSetBit(pos + 1);
+        values[pos] = combiner.terminate();
+      }
+      return new StructImpl((StructTypeImpl) struct.getStructType(), values);
+    }
+    return combiners.length > 0 ? combiners[0].terminate() : groupRow;
+  }
+
   private void refreshAggregators(Aggregator[] aggregators, ExecutionContext context)
       throws FunctionDomainException, TypeMismatchException, NameResolutionException,
       QueryInvocationTargetException {
@@ -825,6 +825,7 @@ public class CompiledIn extends AbstractCompiledValue implements Indexable {
                 + evalColln.getClass());
       }
     }
+    QueryObserverHolder.getInstance().afterIndexSizeEstimate(idxInfo[0]._index, key, size);
     return size;
   }
 
@@ -227,7 +227,8 @@ public class CompiledJunction extends AbstractCompiledValue implements Negatable
     return result;
   }
 
-  private List getCondtionsSortedOnIncreasingEstimatedIndexResultSize(ExecutionContext context)
+  private List getCondtionsSortedOnIncreasingEstimatedIndexResultSize(ExecutionContext context,
+      int[] sortedSizeEstimates)
       throws FunctionDomainException, TypeMismatchException, NameResolutionException,
       QueryInvocationTargetException {
     // The checks invoked before this function have ensured that all the
@@ -235,17 +236,19 @@ public class CompiledJunction extends AbstractCompiledValue implements Negatable
     // Also need for sorting will not arise if there are only two operands
     int len = this._operands.length;
     List sortedList = new ArrayList(len);
+    // Each operand's size estimate is computed once, estimates of range conditions have to look
+    // at both ends of the index
     for (int i = 0; i < len; ++i) {
       Filter toSort = (Filter) this._operands[i];
       int indxRsltToSort = toSort.getSizeEstimate(context);
-      int sortedListLen = sortedList.size();
       int j = 0;
-      for (; j < sortedListLen; ++j) {
-        Filter currSorted = (Filter) sortedList.get(j);
-        if (currSorted.getSizeEstimate(context) > indxRsltToSort) {
+      for (; j < i; ++j) {
+        if (sortedSizeEstimates[j] > indxRsltToSort) {
           break;
         }
       }
+      System.arraycopy(sortedSizeEstimates, j, sortedSizeEstimates, j + 1, i - j);
+      sortedSizeEstimates[j] = indxRsltToSort;
       sortedList.add(j, toSort);
     }
     return sortedList;
@@ -262,11 +265,13 @@ public class CompiledJunction extends AbstractCompiledValue implements Negatable
     // evaluate the result set from the indexed values
     // using the intermediate results so far (passed in)
     // put results into new intermediate results
+    int[] sizeEstimates = new int[this._operands.length];
     List sortedConditionsList =
-        this.getCondtionsSortedOnIncreasingEstimatedIndexResultSize(context);
+        this.getCondtionsSortedOnIncreasingEstimatedIndexResultSize(context, sizeEstimates);
 
     // Sort the operands in increasing order of resultset size
     Iterator sortedConditionsItr = sortedConditionsList.iterator();
+    int position = 0;
     while (sortedConditionsItr.hasNext()) {
       // Asif:TODO The intermediate ResultSet should be passed as null when invoking
       // filterEvaluate. Just because filterEvaluate is being called, itself
@@ -280,8 +285,14 @@ public class CompiledJunction extends AbstractCompiledValue implements Negatable
       // recursion being ended by evaluating auxIterEvaluate if any. The passing
       // of IntermediateResult in filterEvalaute causes AND junction evaluation
       // to be corrupted , if the intermediateResultset contains some value.
-      SelectResults filterResults =
-          ((Filter) sortedConditionsItr.next()).filterEvaluate(context, null);
+      Filter filter = (Filter) sortedConditionsItr.next();
+      if (_operator == LITERAL_and && position > 0 && QueryUtils
+          .shouldIterateRemainingOperands(intermediateResults, sizeEstimates[position])) {
+        // The remaining filter operands will be transferred for iter evaluation
+        break;
+      }
+      ++position;
+      SelectResults filterResults = filter.filterEvaluate(context, null);
       if (_operator == LITERAL_and) {
         if (filterResults != null && filterResults.isEmpty()) {
           return filterResults;
@@ -52,6 +52,12 @@ public class CompiledOperation extends AbstractCompiledValue {
   private final List args;
   private static final ConcurrentMap cache = new ConcurrentHashMap();
 
+  /**
+   * The dispatch used by the last evaluation. Entries of a region are usually of one type, so this
+   * lets most evaluations skip building a key for, and looking it up in, the shared cache.
+   */
+  private volatile CachedDispatch lastDispatch;
+
 
   // receiver is an ID or PATH that contains the operation name
   public CompiledOperation(CompiledValue receiver, String methodName, List args) {
@@ -253,9 +259,17 @@ public class CompiledOperation extends AbstractCompiledValue {
     }
 
     // see if in cache
-    MethodDispatch methodDispatch;
-    List key = Arrays.asList(new Object[] {resolutionType, this.methodName, argTypes});
-    methodDispatch = (MethodDispatch) CompiledOperation.cache.get(key);
+    MethodDispatch methodDispatch = null;
+    CachedDispatch cachedDispatch = this.lastDispatch;
+    if (cachedDispatch != null && cachedDispatch.matches(resolutionType, argTypes)) {
+      methodDispatch = cachedDispatch.methodDispatch;
+    } else {
+      List key = Arrays.asList(new Object[] {resolutionType, this.methodName, argTypes});
+      methodDispatch = (MethodDispatch) CompiledOperation.cache.get(key);
+      if (methodDispatch != null) {
+        this.lastDispatch = new CachedDispatch(resolutionType, argTypes, methodDispatch);
+      }
+    }
     if (methodDispatch == null) {
       try {
         methodDispatch =
@@ -271,7 +285,9 @@ public class CompiledOperation extends AbstractCompiledValue {
         }
       }
       // cache
+      List key = Arrays.asList(new Object[] {resolutionType, this.methodName, argTypes});
       CompiledOperation.cache.putIfAbsent(key, methodDispatch);
+      this.lastDispatch = new CachedDispatch(resolutionType, argTypes, methodDispatch);
     }
     if (receiver instanceof PdxInstance) {
       try {
@@ -324,4 +340,22 @@ public class CompiledOperation extends AbstractCompiledValue {
     rcvr.generateCanonicalizedExpression(clauseBuffer, context);
   }
 
+  /**
+   * A resolved method dispatch together with the receiver and argument types it was resolved for.
+   */
+  private static class CachedDispatch {
+    private final Class resolutionType;
+    private final List argTypes;
+    private final MethodDispatch methodDispatch;
+
+    CachedDispatch(Class resolutionType, List argTypes, MethodDispatch methodDispatch) {
+      this.resolutionType = resolutionType;
+      this.argTypes = argTypes;
+      this.methodDispatch = methodDispatch;
+    }
+
+    boolean matches(Class resolutionType, List argTypes) {
+      return this.resolutionType == resolutionType && this.argTypes.equals(argTypes);
+    }
+  }
 }
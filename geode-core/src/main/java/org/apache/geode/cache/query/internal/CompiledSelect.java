@@ -678,6 +678,7 @@ public class CompiledSelect extends AbstractCompiledValue {
       QueryInvocationTargetException {
 
     SelectResults results = prepareEmptyResultSet(context, false);
+    boundOrderedResultsToLimit(results, context);
 
     // TODO: SELF : Work on limit implementation on bulk get
     // check for bulk get optimization
@@ -870,6 +871,7 @@ public class CompiledSelect extends AbstractCompiledValue {
     } else {
       int numElementsAdded = 0;
       SelectResults pResultSet = prepareEmptyResultSet(context, ignoreOrderBy);
+      boundOrderedResultsToLimit(pResultSet, context);
       boolean isStructType = resultSet.getCollectionType().getElementType() != null
           && resultSet.getCollectionType().getElementType().isStructType();
       if (isStructType) {
@@ -917,6 +919,22 @@ public class CompiledSelect extends AbstractCompiledValue {
     }
   }
 
+  /**
+   * If the results are sorted as they are added and the query has a LIMIT, keeps only the first
+   * LIMIT results in sort order instead of sorting every result and then applying the limit. On a
+   * partitioned region this makes each bucket return its top LIMIT results.
+   */
+  private void boundOrderedResultsToLimit(SelectResults results, ExecutionContext context)
+      throws FunctionDomainException, TypeMismatchException, NameResolutionException,
+      QueryInvocationTargetException {
+    if (results instanceof SortedResultsBag && !((SortedResultsBag) results).dataPreordered()) {
+      int limitValue = evaluateLimitValue(context, this.limit);
+      if (limitValue >= 0) {
+        ((SortedResultsBag) results).setMaxSize(limitValue);
+      }
+    }
+  }
+
   public enum DataContainerType {
     // isOrdered, distinct, elementType.isStructType(), ignoreOrderBy
     UNORDERED_DISTINCT_STRUCT(false, true, true, true),
@@ -116,7 +116,11 @@ public class CompiledUndefined extends AbstractCompiledValue implements Negatabl
     }
 
     int op = _is_defined ? TOK_NE : TOK_EQ;
-    return idxInfo[0]._index.getSizeEstimate(QueryService.UNDEFINED, op, idxInfo[0]._matchLevel);
+    int size =
+        idxInfo[0]._index.getSizeEstimate(QueryService.UNDEFINED, op, idxInfo[0]._matchLevel);
+    QueryObserverHolder.getInstance().afterIndexSizeEstimate(idxInfo[0]._index,
+        QueryService.UNDEFINED, size);
+    return size;
   }
 
   public int getOperator() {
@@ -51,6 +51,11 @@ public interface CompiledValue {
   String INDEX_INFO = "index_info";
   int indexThresholdSize =
       Integer.getInteger(INDX_THRESHOLD_PROP_STR, INDEX_RESULT_THRESHOLD_DEFAULT);
+  int INDEX_INTERSECTION_RATIO_DEFAULT = 10;
+  String INDX_INTERSECTION_RATIO_PROP_STR =
+      DistributionConfig.GEMFIRE_PREFIX + "Query.INDEX_INTERSECTION_RATIO";
+  int indexIntersectionRatio =
+      Integer.getInteger(INDX_INTERSECTION_RATIO_PROP_STR, INDEX_INTERSECTION_RATIO_DEFAULT);
   String RESULT_TYPE = "result_type";
   String PROJ_ATTRIB = "projection";
   String ORDERBY_ATTRIB = "orderby";
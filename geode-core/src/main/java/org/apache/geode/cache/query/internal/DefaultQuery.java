@@ -48,6 +48,8 @@ import org.apache.geode.cache.query.RegionNotFoundException;
 import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.cache.query.TypeMismatchException;
 import org.apache.geode.cache.query.internal.cq.InternalCqQuery;
+import org.apache.geode.cache.query.internal.index.IndexManager;
+import org.apache.geode.cache.query.internal.index.IndexUtils;
 import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.internal.NanoTimer;
 import org.apache.geode.internal.cache.BucketRegion;
@@ -548,6 +550,7 @@ public class DefaultQuery implements Query {
       }
       Object results = null;
       try {
+        waitForQueuedIndexUpdates(context);
         // two-pass evaluation.
         // first pre-compute dependencies, cached in the context.
         this.compiledQuery.computeDependencies(context);
@@ -579,6 +582,39 @@ public class DefaultQuery implements Query {
     }
   }
 
+  /**
+   * Waits for asynchronous index maintenance on the regions, or the local buckets of the
+   * partitioned regions, read by this query. Does nothing unless
+   * {@link IndexManager#ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME} is set.
+   */
+  private void waitForQueuedIndexUpdates(ExecutionContext context) {
+    if (IndexManager.ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME <= 0
+        || context.isCqQueryContext()) {
+      return;
+    }
+    for (Object regionPath : getRegionsInQuery(context.bindArguments)) {
+      Region region = this.cache.getRegion((String) regionPath);
+      if (region instanceof PartitionedRegion) {
+        PartitionedRegion pr = (PartitionedRegion) region;
+        List bucketList = context.getBucketList();
+        if (bucketList != null && pr.getDataStore() != null) {
+          for (Object bucketId : bucketList) {
+            waitForQueuedIndexUpdates(pr.getDataStore().getLocalBucketById((Integer) bucketId));
+          }
+        }
+      } else {
+        waitForQueuedIndexUpdates(region);
+      }
+    }
+  }
+
+  private static void waitForQueuedIndexUpdates(Region region) {
+    IndexManager indexManager = IndexUtils.getIndexManager(region, false);
+    if (indexManager != null) {
+      indexManager.waitForQueuedIndexUpdates();
+    }
+  }
+
   private QueryExecutor checkQueryOnPR(Object[] parameters)
       throws RegionNotFoundException, PartitionOfflineException {
 
@@ -42,6 +42,8 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
   private static final ThreadLocal indexInfo = new ThreadLocal();
   private static final ThreadLocal lastKeyUsed = new ThreadLocal();
   private static final ThreadLocal lastIndexUsed = new ThreadLocal();
+  // {index name, size estimate} of the estimates made before the indexes were used
+  private static final ThreadLocal lastSizeEstimates = new ThreadLocal();
   private volatile TestHook th;
 
   public void beforeIndexLookup(Index index, int oper, Object key) {
@@ -58,6 +60,7 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
       iInfo = new IndexInfo();
     }
     iInfo.addRegionId(index.getRegion().getFullPath());
+    addSizeEstimate(iInfo, index, indexName);
     indexMap.put(indexName, iInfo);
     this.lastIndexUsed.set(index);
     this.lastKeyUsed.set(key);
@@ -82,6 +85,7 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
       iInfo = new IndexInfo();
     }
     iInfo.addRegionId(index.getRegion().getFullPath());
+    addSizeEstimate(iInfo, index, index.getName());
     indexMap.put(index.getName(), iInfo);
     this.lastIndexUsed.set(index);
     if (th != null) {
@@ -116,6 +120,29 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
     }
   }
 
+  /**
+   * Remembers the estimate so it can be reported next to the actual results if the index is used
+   */
+  @Override
+  public void afterIndexSizeEstimate(Index index, Object key, int estimate) {
+    Map<String, Integer> estimates = (Map) lastSizeEstimates.get();
+    if (estimates == null) {
+      estimates = new HashMap<String, Integer>();
+      lastSizeEstimates.set(estimates);
+    }
+    estimates.put(getIndexName(index, key), estimate);
+  }
+
+  private void addSizeEstimate(IndexInfo iInfo, Index index, String indexName) {
+    Map<String, Integer> estimates = (Map) lastSizeEstimates.get();
+    if (estimates != null) {
+      Integer estimate = estimates.remove(indexName);
+      if (estimate != null) {
+        iInfo.getEstimates().put(index.getRegion().getFullPath(), estimate);
+      }
+    }
+  }
+
   private String getIndexName(Index index, Object key) {
     String indexName;
     if ((index instanceof MapRangeIndex || index instanceof CompactMapRangeIndex)
@@ -137,12 +164,51 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
       th.hook(4);
     }
     this.indexInfo.set(null);
+    lastSizeEstimates.set(null);
   }
 
   public void setIndexInfo(Map indexInfoMap) {
     indexInfo.set(indexInfoMap);
   }
 
+  /**
+   * Returns this thread's index information, creating it if there is none yet, so that threads
+   * querying buckets on behalf of this thread can add theirs with {@link #moveUsedIndexesTo(Map)}.
+   */
+  public Map getOrCreateUsedIndexes() {
+    Map map = (Map) this.indexInfo.get();
+    if (map == null) {
+      map = new HashMap<String, IndexInfo>();
+      this.indexInfo.set(map);
+    }
+    return map;
+  }
+
+  /**
+   * Merges the index information gathered by this thread into the given map, which may be shared
+   * by several threads, and clears this thread's state. Used by the threads that query the buckets
+   * of a partitioned region in parallel, so the indexes they used are reported for the query.
+   */
+  public void moveUsedIndexesTo(Map target) {
+    Map<String, IndexInfo> indexMap = (Map) this.indexInfo.get();
+    if (indexMap != null) {
+      synchronized (target) {
+        for (Entry<String, IndexInfo> entry : indexMap.entrySet()) {
+          IndexInfo existing = (IndexInfo) target.get(entry.getKey());
+          if (existing == null) {
+            target.put(entry.getKey(), entry.getValue());
+          } else {
+            existing.merge(entry.getValue());
+          }
+        }
+      }
+    }
+    this.indexInfo.set(null);
+    this.lastIndexUsed.set(null);
+    this.lastKeyUsed.set(null);
+    lastSizeEstimates.set(null);
+  }
+
   public Map getUsedIndexes() {
     Map map = (Map) this.indexInfo.get();
     if (map == null) {
@@ -163,6 +229,8 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
   public class IndexInfo {
     // A {RegionFullPath, results} map for an Index lookup on a Region.
     private Map<String, Integer> results = new Object2ObjectOpenHashMap();
+    // A {RegionFullPath, estimated results} map for the lookups whose size was estimated first.
+    private Map<String, Integer> estimates = new Object2ObjectOpenHashMap();
 
     public Map getResults() {
       return results;
@@ -180,6 +248,10 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
       }
     }
 
+    public Map<String, Integer> getEstimates() {
+      return estimates;
+    }
+
     public Set getRegionIds() {
       return results.keySet();
     }
@@ -194,11 +266,19 @@ public class IndexTrackingQueryObserver extends QueryObserverAdapter {
       for (Integer i : results.values()) {
         total += i.intValue();
       }
-      return "(Results: " + total + ")";
+      if (estimates.isEmpty()) {
+        return "(Results: " + total + ")";
+      }
+      int estimated = 0;
+      for (Integer i : estimates.values()) {
+        estimated += i.intValue();
+      }
+      return "(Estimated: " + estimated + ", Results: " + total + ")";
     }
 
     public void merge(IndexInfo src) {
       this.addResults(src.getResults());
+      this.estimates.putAll(src.getEstimates());
     }
   }
 
@@ -106,6 +106,16 @@ public interface QueryObserver {
    */
   void afterIndexLookup(Collection results);
 
+  /**
+   * Called once the query subsystem has estimated how many results an index lookup would return,
+   * when deciding the order in which to evaluate filter operands.
+   *
+   * @param index The index whose results were estimated
+   * @param key The key of the lookup being estimated
+   * @param estimate The estimated number of results
+   */
+  void afterIndexSizeEstimate(Index index, Object key, int estimate);
+
   /**
    * Called immediately after the query expression is evaluated.
    *
@@ -79,6 +79,28 @@ public class QueryUtils {
     }
   }
 
+  /**
+   * Returns true if an AND junction should stop intersecting index results and leave the next
+   * filter operand, and the ones after it, to be evaluated against the results it already has.
+   * Operands are filter evaluated in increasing order of their size estimate, so once the next one
+   * is expected to return many times more entries than are left, typically an equality condition on
+   * a low cardinality field, checking each remaining result is cheaper than materializing that
+   * operand's index results only to intersect them.
+   */
+  static boolean shouldIterateRemainingOperands(SelectResults intermediateResults,
+      int nextSizeEstimate) {
+    if (intermediateResults == null || CompiledValue.indexIntersectionRatio <= 0) {
+      return false;
+    }
+    if (nextSizeEstimate == Integer.MAX_VALUE) {
+      // a nested junction dependent on the current scope reports this to be evaluated last, it is
+      // not an estimate of its size
+      return false;
+    }
+    return nextSizeEstimate > (long) intermediateResults.size()
+        * CompiledValue.indexIntersectionRatio;
+  }
+
   /**
    * Return a SelectResults that is the union of c1 and c2. May or may not return a modified c1 or
    * c2.
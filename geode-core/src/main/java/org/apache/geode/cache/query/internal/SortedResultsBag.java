@@ -41,6 +41,13 @@ public class SortedResultsBag<E> extends Bag implements Ordered {
   private final boolean orderedDataAddition;
   private final boolean emitNullAtStart;
 
+  /**
+   * The maximum number of elements kept, or -1 to keep all of them. Only the first LIMIT elements
+   * of an ordered query can be part of its result, so once the bag is full the greatest element is
+   * dropped after each addition.
+   */
+  private int maxSize = -1;
+
   /**
    * Constructor for unordered input
    *
@@ -150,6 +157,56 @@ public class SortedResultsBag<E> extends Bag implements Ordered {
     return false;
   }
 
+  /**
+   * Bounds the number of elements kept to the given size. Only supported for unordered input,
+   * where the elements are sorted as they are added.
+   */
+  void setMaxSize(int maxSize) {
+    if (this.orderedDataAddition) {
+      throw new IllegalStateException("the size of preordered results can not be bounded");
+    }
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public boolean add(Object element) {
+    boolean added = super.add(element);
+    removeBeyondMaxSize();
+    return added;
+  }
+
+  @Override
+  public int addAndGetOccurence(Object element) {
+    int occurrence = super.addAndGetOccurence(element);
+    removeBeyondMaxSize();
+    return occurrence;
+  }
+
+  /**
+   * Removes the element emitted last if the bag holds more than {@link #maxSize} elements.
+   */
+  private void removeBeyondMaxSize() {
+    if (this.maxSize < 0 || this.size <= this.maxSize) {
+      return;
+    }
+    if (this.numNulls > 0 && (!this.emitNullAtStart || this.sortedMap.isEmpty())) {
+      this.numNulls--;
+    } else {
+      Map.Entry<E, Integer> last = ((TreeMap<E, Integer>) this.sortedMap).lastEntry();
+      int count = last.getValue();
+      if (count == 1) {
+        this.sortedMap.remove(last.getKey());
+        Comparator comparator = comparator();
+        if (comparator instanceof OrderByComparator) {
+          ((OrderByComparator) comparator).removeEvaluatedSortCriteria(last.getKey());
+        }
+      } else {
+        this.sortedMap.put(last.getKey(), count - 1);
+      }
+    }
+    this.size--;
+  }
+
   @Override
   protected int mapGet(Object element) {
     Integer count = this.sortedMap.get(element);
@@ -22,6 +22,11 @@ import java.util.NoSuchElementException;
 /**
  * A wrapper around an object array for storing values in index data structure with minimal set of
  * operations supported and the maximum size of 128 elements
+ * <p>
+ * One of these is kept for every index key that maps to more than one entry, so it is kept as
+ * small as possible: size and data changes are made atomic by synchronizing on the array itself
+ * rather than on a separate lock object. Callers that need to make several calls atomically, such
+ * as {@link MemoryIndexStore}, synchronize on the array as well.
  *
  * @since GemFire 7.0
  */
@@ -30,9 +35,6 @@ public class IndexElemArray implements Iterable, Collection {
   private Object[] elementData;
   private volatile byte size;
 
-  /* lock for making size and data changes atomically. */
-  private Object lock = new Object();
-
   public IndexElemArray(int initialCapacity) {
     if (initialCapacity < 0) {
       throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
@@ -41,7 +43,7 @@ public class IndexElemArray implements Iterable, Collection {
   }
 
   /**
-   * Constructs an empty list with an initial capacity of ten.
+   * Constructs an empty list with an initial capacity of {@link IndexManager#INDEX_ELEMARRAY_SIZE}.
    */
   public IndexElemArray() {
     this(IndexManager.INDEX_ELEMARRAY_SIZE);
@@ -105,7 +107,7 @@ public class IndexElemArray implements Iterable, Collection {
    * such index.
    */
   public int indexOf(Object o) {
-    synchronized (lock) {
+    synchronized (this) {
       if (o == null) {
         for (int i = 0; i < size; i++)
           if (elementData[i] == null)
@@ -128,7 +130,7 @@ public class IndexElemArray implements Iterable, Collection {
    *
    */
   public Object get(int index) {
-    synchronized (lock) {
+    synchronized (this) {
       RangeCheck(index);
       return elementData[index];
     }
@@ -144,7 +146,7 @@ public class IndexElemArray implements Iterable, Collection {
    *
    */
   public Object set(int index, Object element) {
-    synchronized (lock) {
+    synchronized (this) {
       RangeCheck(index);
 
       Object oldValue = (Object) elementData[index];
@@ -162,7 +164,7 @@ public class IndexElemArray implements Iterable, Collection {
    * @throws ArrayIndexOutOfBoundsException
    */
   public boolean add(Object e) {
-    synchronized (lock) {
+    synchronized (this) {
       ensureCapacity(size + 1);
       elementData[size] = e;
       ++size;
@@ -182,7 +184,7 @@ public class IndexElemArray implements Iterable, Collection {
    * @return <tt>true</tt> if this list contained the specified element
    */
   public boolean remove(Object o) {
-    synchronized (lock) {
+    synchronized (this) {
       if (o == null) {
         for (int index = 0; index < size; index++)
           if (elementData[index] == null) {
@@ -220,7 +222,7 @@ public class IndexElemArray implements Iterable, Collection {
    */
   public void clear() {
     // Let gc do its work
-    synchronized (lock) {
+    synchronized (this) {
       for (int i = 0; i < size; i++) {
         elementData[i] = null;
       }
@@ -243,7 +245,7 @@ public class IndexElemArray implements Iterable, Collection {
   public boolean addAll(Collection c) {
     Object[] a = c.toArray();
     int numNew = a.length;
-    synchronized (lock) {
+    synchronized (this) {
       ensureCapacity(size + numNew);
       System.arraycopy(a, 0, elementData, size, numNew);
       size += numNew;
@@ -268,7 +270,7 @@ public class IndexElemArray implements Iterable, Collection {
     private int len;
 
     IndexArrayListIterator() {
-      synchronized (lock) {
+      synchronized (IndexElemArray.this) {
         elements = elementData;
         len = size;
       }
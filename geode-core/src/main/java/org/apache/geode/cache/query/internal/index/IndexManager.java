@@ -108,6 +108,14 @@ public class IndexManager {
   private final int INDEX_MAINTENANCE_BUFFER =
       Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "AsynchIndexMaintenanceThreshold", -1);
 
+  /**
+   * The number of milliseconds a query waits for the index updates queued on an asynchronously
+   * maintained region before the query started to be applied, so that the query sees the writes
+   * that completed before it. Zero, the default, makes queries use the indexes as they are.
+   */
+  public static long ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME =
+      Long.getLong(DistributionConfig.GEMFIRE_PREFIX + "AsynchIndexMaintenanceQueryWaitTime", 0);
+
   public static boolean JOIN_OPTIMIZATION =
       !Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "index.DisableJoinOptimization");
 
@@ -142,8 +150,13 @@ public class IndexManager {
   public static final String INDEX_ELEMARRAY_SIZE_PROP = "index_elemarray_size";
   public static final int INDEX_ELEMARRAY_THRESHOLD =
       Integer.parseInt(System.getProperty(INDEX_ELEMARRAY_THRESHOLD_PROP, "100"));
+  /**
+   * Initial capacity of the array created when a second entry is added for an index key. Most keys
+   * of a range index on a numeric or date field map to only a couple of entries, so the array
+   * starts out just big enough for the two entries it is created with.
+   */
   public static final int INDEX_ELEMARRAY_SIZE =
-      Integer.parseInt(System.getProperty(INDEX_ELEMARRAY_SIZE_PROP, "5"));
+      Integer.parseInt(System.getProperty(INDEX_ELEMARRAY_SIZE_PROP, "2"));
   public static final AtomicLong SAFE_QUERY_TIME = new AtomicLong(0);
   public static boolean ENABLE_UPDATE_IN_PROGRESS_INDEX_CALCULATION = true;
   /** The NULL constant */
@@ -174,6 +187,27 @@ public class IndexManager {
     }
   }
 
+  /**
+   * If this region's indexes are maintained asynchronously and
+   * {@link #ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME} is set, waits until the index updates queued
+   * before this call have been applied. Gives up once the wait time has passed, in which case the
+   * query uses the indexes as they are.
+   */
+  public void waitForQueuedIndexUpdates() {
+    long waitTime = ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME;
+    if (isIndexMaintenanceTypeSynchronous() || waitTime <= 0) {
+      return;
+    }
+    try {
+      if (!this.updater.waitForQueuedTasks(waitTime) && logger.isDebugEnabled()) {
+        logger.debug("Index updates for {} were not applied within {} ms",
+            this.region.getFullPath(), waitTime);
+      }
+    } catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   /**
    * Stores the largest combination of current time + delta If there is a large delta/hiccup in
    * timings, this allows us to calculate the correct results for a query but, reevaluate more
@@ -1411,6 +1445,14 @@ public class IndexManager {
 
     private volatile BlockingQueue pendingTasks;
 
+    // The number of tasks added to and processed from pendingTasks. Queries compare the two to wait
+    // for the tasks queued before they started.
+    private final AtomicLong queuedTasks = new AtomicLong();
+
+    private volatile long processedTasks;
+
+    private final Object processedTasksLock = new Object();
+
     /**
      * Creates instance of IndexUpdaterThread
      */
@@ -1432,7 +1474,38 @@ public class IndexManager {
       task[0] = action;
       task[1] = entry;
       task[2] = opCode;
-      pendingTasks.add(task);
+      // counted before it is added so that a task is never in the queue without being counted
+      queuedTasks.incrementAndGet();
+      try {
+        pendingTasks.add(task);
+      } catch (RuntimeException e) {
+        queuedTasks.decrementAndGet();
+        throw e;
+      }
+    }
+
+    /**
+     * Waits until the tasks queued before this call have been processed.
+     *
+     * @return true if they were processed, false if the timeout elapsed or this thread stopped
+     *         first
+     */
+    boolean waitForQueuedTasks(long timeoutMillis) throws InterruptedException {
+      long target = queuedTasks.get();
+      if (processedTasks >= target) {
+        return true;
+      }
+      long deadline = System.currentTimeMillis() + timeoutMillis;
+      synchronized (processedTasksLock) {
+        while (processedTasks < target && this.running) {
+          long remaining = deadline - System.currentTimeMillis();
+          if (remaining <= 0) {
+            return false;
+          }
+          processedTasksLock.wait(remaining);
+        }
+      }
+      return processedTasks >= target;
     }
 
     /**
@@ -1470,12 +1543,19 @@ public class IndexManager {
               break;
             }
             updateIndexes(task);
+            synchronized (processedTasksLock) {
+              processedTasks++;
+              processedTasksLock.notifyAll();
+            }
           } catch (InterruptedException ignore) {
             return; // give up (exit the thread)
           }
         }
       } finally {
         this.running = false;
+        synchronized (processedTasksLock) {
+          processedTasksLock.notifyAll();
+        }
       }
     }
 
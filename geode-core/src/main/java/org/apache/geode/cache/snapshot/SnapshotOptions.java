@@ -101,4 +101,28 @@ public interface SnapshotOptions<K, V> extends Serializable {
    * @since Geode 1.3
    */
   SnapshotOptions<K, V> setParallelMode(boolean parallel);
+
+  /**
+   * Returns true if the entries in an exported snapshot file will be compressed.
+   *
+   * @return true if compression has been enabled
+   *
+   * @since Geode 1.4
+   */
+  boolean isCompressed();
+
+  /**
+   * Enables compression of the entries written to a snapshot file. Compressed snapshots are
+   * considerably smaller for regions with repetitive values, at the cost of additional CPU time on
+   * export and import. Compressed snapshot files are recognized automatically when they are loaded
+   * or read, but can not be loaded by members older than Geode 1.4.
+   * <p>
+   * This flag is ignored for import operations.
+   *
+   * @param compressed true if the snapshot entries should be compressed
+   * @return the snapshot options
+   *
+   * @since Geode 1.4
+   */
+  SnapshotOptions<K, V> setCompressed(boolean compressed);
 }
@@ -194,6 +194,17 @@ public class DistributionManager implements DM {
   public static final int MAX_SERIAL_QUEUE_THREAD =
       Integer.getInteger("DistributionManager.MAX_SERIAL_QUEUE_THREAD", 20).intValue();
 
+  /**
+   * The number of lanes in which the serial messages of each sender are processed. Messages that
+   * modify the same key of the same region are always processed in the same lane, so they keep
+   * their order while messages for other keys are processed concurrently. Zero, the default,
+   * processes all serial messages of a sender in order on one thread.
+   *
+   * @see KeyOrderedExecutor
+   */
+  public static final int SERIAL_QUEUE_LANES =
+      Integer.getInteger("DistributionManager.SERIAL_QUEUE_LANES", 0).intValue();
+
   /**
    * Whether or not to include link local addresses in the list of addresses we use to determine if
    * two members are no the same host.
@@ -494,6 +505,16 @@ public class DistributionManager implements DM {
 
   private SerialQueuedExecutorPool serialQueuedExecutorPool;
 
+  /** The threads that drain the serial message lanes, null if SERIAL_QUEUE_LANES is zero */
+  private ThreadPoolExecutor serialLanePool;
+
+  /** The statistics of each serial message lane */
+  private SerialLaneStats[] serialLaneStats;
+
+  /** The serial message lanes of each sender */
+  private final ConcurrentMap<InternalDistributedMember, KeyOrderedExecutor> serialLaneExecutors =
+      new ConcurrentHashMap<>();
+
   private final Semaphore parallelGIIs = new Semaphore(InitialImageOperation.MAX_PARALLEL_GIIS);
 
   /**
@@ -875,6 +896,38 @@ public class DistributionManager implements DM {
             this.stats.getSerialProcessorHelper(), tf);
         this.serialThread = executor;
       }
+      if (SERIAL_QUEUE_LANES > 0) {
+        ThreadFactory tf = new ThreadFactory() {
+          private int next = 0;
+
+          public Thread newThread(final Runnable command) {
+            DistributionManager.this.stats.incSerialPooledThreadStarts();
+            final Runnable r = new Runnable() {
+              public void run() {
+                DistributionManager.this.stats.incNumSerialThreads(1);
+                try {
+                  ConnectionTable.threadWantsSharedResources();
+                  Connection.makeReaderThread();
+                  runUntilShutdown(command);
+                } finally {
+                  ConnectionTable.releaseThreadsSockets();
+                  DistributionManager.this.stats.incNumSerialThreads(-1);
+                }
+              }
+            };
+            Thread thread = new Thread(group, r, "Serial Lane Message Processor " + (next++));
+            thread.setDaemon(true);
+            return thread;
+          }
+        };
+        // a lane holds a thread only while it has messages, so the pool does not need a queue
+        this.serialLanePool = new PooledExecutorWithDMStats(new SynchronousQueue(),
+            Integer.MAX_VALUE, this.stats.getSerialPooledProcessorHelper(), tf);
+        this.serialLaneStats = new SerialLaneStats[SERIAL_QUEUE_LANES];
+        for (int i = 0; i < SERIAL_QUEUE_LANES; i++) {
+          this.serialLaneStats[i] = new SerialLaneStats(system, "serialLane-" + i);
+        }
+      }
       {
         BlockingQueue q = new LinkedBlockingQueue();
         ThreadFactory tf = new ThreadFactory() {
@@ -1994,6 +2047,10 @@ public class DistributionManager implements DM {
     if (this.serialQueuedExecutorPool != null) {
       this.serialQueuedExecutorPool.shutdown();
     }
+    es = this.serialLanePool;
+    if (es != null) {
+      es.shutdown();
+    }
     es = this.functionExecutionThread;
     if (es != null) {
       es.shutdown();
@@ -2036,10 +2093,10 @@ public class DistributionManager implements DM {
     long start = System.currentTimeMillis();
     long remaining = timeInMillis;
 
-    ExecutorService[] allExecutors = new ExecutorService[] {this.serialThread, this.viewThread,
-        this.functionExecutionThread, this.functionExecutionPool, this.partitionedRegionThread,
-        this.partitionedRegionPool, this.highPriorityPool, this.waitingPool,
-        this.prMetaDataCleanupThreadPool, this.threadPool};
+    ExecutorService[] allExecutors = new ExecutorService[] {this.serialThread,
+        this.serialLanePool, this.viewThread, this.functionExecutionThread,
+        this.functionExecutionPool, this.partitionedRegionThread, this.partitionedRegionPool,
+        this.highPriorityPool, this.waitingPool, this.prMetaDataCleanupThreadPool, this.threadPool};
     for (ExecutorService es : allExecutors) {
       if (es != null) {
         es.awaitTermination(remaining, TimeUnit.MILLISECONDS);
@@ -2288,6 +2345,11 @@ public class DistributionManager implements DM {
       // ABSOLUTELY ESSENTIAL that we close the distribution channel!
       try {
         // For safety, but channel close in a finally AFTER this...
+        if (this.serialLaneStats != null) {
+          for (SerialLaneStats laneStats : this.serialLaneStats) {
+            laneStats.close();
+          }
+        }
         if (this.stats != null) {
           this.stats.close();
           try {
@@ -3322,6 +3384,8 @@ public class DistributionManager implements DM {
       if (this.serialQueuedExecutorPool != null) {
         serialQueuedExecutorPool.handleMemberDeparture(theId);
       }
+      // messages already in its lanes are still processed
+      this.serialLaneExecutors.remove(theId);
     }
   }
 
@@ -3876,6 +3940,51 @@ public class DistributionManager implements DM {
     }
   }
 
+  /**
+   * Returns true if serial messages are processed in lanes keyed on
+   * {@link DistributionMessage#getOrderingKey}.
+   */
+  public boolean hasSerialLanes() {
+    return this.serialLanePool != null;
+  }
+
+  /**
+   * Processes a serial message from the given sender after the sender's earlier messages with the
+   * same ordering key, or after all of its earlier messages if the key is null. Reader threads are
+   * throttled while the sender has more than SERIAL_QUEUE_SIZE_LIMIT messages waiting.
+   */
+  public void executeInSerialLane(InternalDistributedMember sender, Object orderingKey,
+      Runnable task) {
+    KeyOrderedExecutor executor = this.serialLaneExecutors.get(sender);
+    if (executor == null) {
+      executor = new KeyOrderedExecutor(this.serialLanePool, SERIAL_QUEUE_LANES,
+          this.serialLaneStats);
+      KeyOrderedExecutor existing = this.serialLaneExecutors.putIfAbsent(sender, executor);
+      if (existing != null) {
+        executor = existing;
+      }
+    }
+    // when TCP/IP is disabled we must not block the UDP reader thread
+    if (executor.getPendingTasks() >= SERIAL_QUEUE_SIZE_LIMIT
+        && !DistributionMessage.isPreciousThread() && !this.system.getConfig().getDisableTcp()) {
+      boolean interrupted = Thread.interrupted();
+      try {
+        do {
+          this.stats.getSerialQueueHelper().incThrottleCount();
+          Thread.sleep(1);
+        } while (executor.getPendingTasks() >= SERIAL_QUEUE_SIZE_THROTTLE
+            && !this.serialLanePool.isShutdown());
+      } catch (InterruptedException ex) {
+        interrupted = true;
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+    executor.execute(orderingKey, task);
+  }
+
   /** returns the serialThread's queue if throttling is being used, null if not */
   public OverflowQueueWithDMStats getSerialQueue(InternalDistributedMember sender) {
     if (MULTI_SERIAL_EXECUTORS) {
@@ -424,6 +424,13 @@ public abstract class DistributionMessage implements DataSerializableFixedID, Cl
       }
     }
 
+    // with serial lanes only the messages that must be processed by the reader are inline
+    boolean useSerialLanes = !forceInline
+        && getProcessorType() == DistributionManager.SERIAL_EXECUTOR && dm.hasSerialLanes();
+    if (useSerialLanes) {
+      inlineProcess = false;
+    }
+
     inlineProcess |= forceInline;
 
     if (inlineProcess) {
@@ -435,7 +442,7 @@ public abstract class DistributionMessage implements DataSerializableFixedID, Cl
       }
     } else { // not inline
       try {
-        getExecutor(dm).execute(new SizeableRunnable(this.getBytesRead()) {
+        Runnable task = new SizeableRunnable(this.getBytesRead()) {
           public void run() {
             scheduleAction(dm);
           }
@@ -444,7 +451,12 @@ public abstract class DistributionMessage implements DataSerializableFixedID, Cl
           public String toString() {
             return "Processing {" + DistributionMessage.this.toString() + "}";
           }
-        });
+        };
+        if (useSerialLanes) {
+          dm.executeInSerialLane(getSender(), getOrderingKey(dm), task);
+        } else {
+          getExecutor(dm).execute(task);
+        }
       } catch (RejectedExecutionException ex) {
         if (!dm.shutdownInProgress()) { // fix for bug 32395
           logger.warn(LocalizedMessage.create(
@@ -490,6 +502,18 @@ public abstract class DistributionMessage implements DataSerializableFixedID, Cl
   }
 
 
+  /**
+   * Returns the key that orders this message with respect to the other serial messages of its
+   * sender when they are processed in lanes (see {@link DistributionManager#SERIAL_QUEUE_LANES}).
+   * Messages with equal keys are processed in the order they were received. A null key, the
+   * default, processes this message after all earlier messages of the sender and before any later
+   * one. Messages must only return a key if their processing does not depend on messages for
+   * other keys.
+   */
+  public Object getOrderingKey(DistributionManager dm) {
+    return null;
+  }
+
   /** most messages should not force in-line processing */
   public boolean getInlineProcess() {
     return false;
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.SystemFailure;
+import org.apache.geode.internal.logging.LogService;
+
+/**
+ * Executes the serial messages of one sender in a fixed number of lanes. Tasks with the same
+ * ordering key always go to the same lane and are run in the order they were submitted; tasks in
+ * different lanes may run concurrently. Lanes do not own a thread, each one drains its queue on a
+ * thread borrowed from a shared pool while it has work to do.
+ * <p>
+ * A task without an ordering key is a barrier: it runs only after every task submitted before it
+ * has completed, and no task submitted after it starts until it has completed. Lanes that reach the
+ * barrier give their thread back to the pool instead of blocking it; the last lane to arrive runs
+ * the barrier task and then restarts the others.
+ *
+ * @since Geode 1.4
+ */
+public class KeyOrderedExecutor {
+
+  private static final Logger logger = LogService.getLogger();
+
+  /** The maximum number of tasks a lane runs before giving its thread to another lane */
+  private static final int DRAIN_BATCH_SIZE = 64;
+
+  private final Executor pool;
+
+  private final Lane[] lanes;
+
+  private final SerialLaneStats[] stats;
+
+  /** The number of tasks submitted to this executor that have not completed */
+  private final AtomicInteger pending = new AtomicInteger();
+
+  /**
+   * @param pool the executor whose threads drain the lanes
+   * @param numLanes the number of lanes
+   * @param stats the statistics of each lane, or null
+   */
+  public KeyOrderedExecutor(Executor pool, int numLanes, SerialLaneStats[] stats) {
+    if (numLanes < 1) {
+      throw new IllegalArgumentException("numLanes must be positive: " + numLanes);
+    }
+    this.pool = pool;
+    this.stats = stats;
+    this.lanes = new Lane[numLanes];
+    for (int i = 0; i < numLanes; i++) {
+      this.lanes[i] = new Lane(i);
+    }
+  }
+
+  /**
+   * Runs the given task after all tasks previously submitted with the same ordering key, or after
+   * all previously submitted tasks if the key is null.
+   */
+  public void execute(Object orderingKey, Runnable task) {
+    this.pending.incrementAndGet();
+    if (orderingKey == null) {
+      Barrier barrier = new Barrier(task, this.lanes.length);
+      // two barriers must be queued in the same order in every lane
+      synchronized (this.lanes) {
+        for (Lane lane : this.lanes) {
+          lane.add(barrier);
+        }
+      }
+    } else {
+      this.lanes[laneOf(orderingKey, this.lanes.length)].add(task);
+    }
+  }
+
+  /**
+   * Returns the number of submitted tasks that have not completed yet.
+   */
+  public int getPendingTasks() {
+    return this.pending.get();
+  }
+
+  static int laneOf(Object orderingKey, int numLanes) {
+    return Math.abs(orderingKey.hashCode() % numLanes);
+  }
+
+  private void run(Runnable task) {
+    try {
+      task.run();
+    } catch (VirtualMachineError err) {
+      SystemFailure.initiateFailure(err);
+      // If this ever returns, rethrow the error. We're poisoned
+      // now, so don't let this thread continue.
+      throw err;
+    } catch (Throwable t) {
+      SystemFailure.checkFailure();
+      // keep the lane alive, the next task must still run
+      logger.warn("Exception running serial message task {}", task, t);
+    } finally {
+      this.pending.decrementAndGet();
+    }
+  }
+
+  /**
+   * A task that must not run concurrently with any other task of this executor. It is added to
+   * every lane and runs once all of them have reached it.
+   */
+  private static class Barrier {
+    final Runnable task;
+
+    final AtomicInteger lanesToArrive;
+
+    Barrier(Runnable task, int numLanes) {
+      this.task = task;
+      this.lanesToArrive = new AtomicInteger(numLanes);
+    }
+  }
+
+  private class Lane implements Runnable {
+    private final int index;
+
+    /** Holds Runnables and Barriers, guarded by this lane */
+    private final ArrayDeque<Object> queue = new ArrayDeque<>();
+
+    /**
+     * True while a drain of this lane is submitted to the pool, running, or parked at a barrier.
+     * Guarded by this lane.
+     */
+    private boolean scheduled;
+
+    Lane(int index) {
+      this.index = index;
+    }
+
+    void add(Object item) {
+      boolean schedule;
+      synchronized (this) {
+        this.queue.add(item);
+        schedule = !this.scheduled;
+        this.scheduled = true;
+      }
+      SerialLaneStats laneStats = getStats();
+      if (laneStats != null) {
+        laneStats.incQueueSize(1);
+      }
+      if (schedule) {
+        submit();
+      }
+    }
+
+    void submit() {
+      try {
+        pool.execute(this);
+      } catch (RejectedExecutionException e) {
+        synchronized (this) {
+          this.scheduled = false;
+        }
+        throw e;
+      }
+    }
+
+    public void run() {
+      boolean drained = false;
+      try {
+        drained = drain();
+      } finally {
+        if (!drained) {
+          // let other lanes have the thread, this one still holds its scheduled flag. This also
+          // keeps the lane going if a task failed with an error that was rethrown.
+          resume();
+        }
+      }
+    }
+
+    /**
+     * Runs up to DRAIN_BATCH_SIZE items, returning true if the lane no longer needs to be resumed
+     * because its queue is empty or it is parked at a barrier.
+     */
+    private boolean drain() {
+      for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+        Object item;
+        synchronized (this) {
+          item = this.queue.poll();
+          if (item == null) {
+            this.scheduled = false;
+            return true;
+          }
+        }
+        SerialLaneStats laneStats = getStats();
+        if (laneStats != null) {
+          laneStats.incQueueSize(-1);
+        }
+        if (item instanceof Barrier) {
+          Barrier barrier = (Barrier) item;
+          if (barrier.lanesToArrive.decrementAndGet() > 0) {
+            // park: the last lane to reach the barrier resubmits this one
+            if (laneStats != null) {
+              laneStats.incBarrierWaits();
+            }
+            return true;
+          }
+          try {
+            KeyOrderedExecutor.this.run(barrier.task);
+          } finally {
+            for (Lane lane : lanes) {
+              if (lane != this) {
+                lane.resume();
+              }
+            }
+          }
+          if (laneStats != null) {
+            laneStats.incTasksCompleted();
+          }
+        } else {
+          KeyOrderedExecutor.this.run((Runnable) item);
+          if (laneStats != null) {
+            laneStats.incTasksCompleted();
+          }
+        }
+      }
+      return false;
+    }
+
+    private void resume() {
+      try {
+        pool.execute(this);
+      } catch (RejectedExecutionException e) {
+        // the pool is shutting down, the remaining tasks are abandoned
+        synchronized (this) {
+          this.scheduled = false;
+        }
+      }
+    }
+
+    private SerialLaneStats getStats() {
+      return stats == null ? null : stats[this.index];
+    }
+
+    @Override
+    public String toString() {
+      return "SerialLane " + this.index;
+    }
+  }
+}
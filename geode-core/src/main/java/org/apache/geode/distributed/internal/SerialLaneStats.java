@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.StatisticsTypeFactory;
+import org.apache.geode.internal.statistics.StatisticsTypeFactoryImpl;
+
+/**
+ * Statistics about one lane of the {@link KeyOrderedExecutor}s that process serial messages. The
+ * lane with a given index of every sender's executor shares the same instance.
+ *
+ * @since Geode 1.4
+ */
+public class SerialLaneStats {
+
+  private static final StatisticsType type;
+
+  //////////////////// Statistic "Id" Fields ////////////////////
+
+  private static final int queueSizeId;
+  private static final int tasksCompletedId;
+  private static final int barrierWaitsId;
+
+  static {
+    String statName = "SerialLaneStats";
+    String statDescription = "Statistics about a lane of the serial message executors";
+
+    StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
+
+    type = f.createType(statName, statDescription, new StatisticDescriptor[] {
+        f.createIntGauge("queueSize",
+            "The number of serial messages waiting to be processed in this lane.", "messages"),
+        f.createLongCounter("tasksCompleted",
+            "The number of serial messages processed in this lane.", "messages"),
+        f.createLongCounter("barrierWaits",
+            "The number of times this lane stopped to wait for the other lanes to reach a message without an ordering key.",
+            "waits")});
+
+    // Initialize id fields
+    queueSizeId = type.nameToId("queueSize");
+    tasksCompletedId = type.nameToId("tasksCompleted");
+    barrierWaitsId = type.nameToId("barrierWaits");
+  }
+
+  ////////////////////// Instance Fields //////////////////////
+
+  /** The Statistics object that we delegate most behavior to */
+  private final Statistics stats;
+
+  /////////////////////// Constructors ///////////////////////
+
+  public SerialLaneStats(StatisticsFactory f, String name) {
+    this.stats = f.createAtomicStatistics(type, name);
+  }
+
+  ///////////////////// Instance Methods /////////////////////
+
+  public void close() {
+    this.stats.close();
+  }
+
+  public int getQueueSize() {
+    return this.stats.getInt(queueSizeId);
+  }
+
+  public void incQueueSize(int delta) {
+    this.stats.incInt(queueSizeId, delta);
+  }
+
+  public long getTasksCompleted() {
+    return this.stats.getLong(tasksCompletedId);
+  }
+
+  public void incTasksCompleted() {
+    this.stats.incLong(tasksCompletedId, 1);
+  }
+
+  public long getBarrierWaits() {
+    return this.stats.getLong(barrierWaitsId);
+  }
+
+  public void incBarrierWaits() {
+    this.stats.incLong(barrierWaitsId, 1);
+  }
+}
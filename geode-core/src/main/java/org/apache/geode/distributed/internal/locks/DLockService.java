@@ -1441,6 +1441,17 @@ public class DLockService extends DistributedLockService {
                 // loop back around due to expiration
                 continue;
               }
+              if (leaseCoversRequest(token, requestLeaseTime)) {
+                // the grantor would keep the lease it has, so it is not bothered
+                token.grantLock(token.getLeaseExpireTime(), lockId, recursionBefore + 1,
+                    token.getLesseeThread());
+                getStats().incLocalReentrantGrants();
+                logger.trace(LogMarker.DLS, "{}, name: {} - reentered lock locally: {}", this,
+                    name, token);
+                gotLock = true;
+                keepTrying = false;
+                continue;
+              }
             } // isLeaseHeldByCurrentThread
           } // token sync
 
@@ -1566,6 +1577,20 @@ public class DLockService extends DistributedLockService {
     }
   }
 
+  /**
+   * Returns true if the lease the current thread holds on the token lasts at least as long as the
+   * requested lease. The grantor extends the lease of a reentered lock to the later of the two
+   * expirations, so such a reentry does not need to ask the grantor.
+   */
+  private static boolean leaseCoversRequest(DLockToken token, long requestLeaseTime) {
+    long leaseExpireTime = token.getLeaseExpireTime();
+    if (leaseExpireTime == Long.MAX_VALUE) {
+      return true;
+    }
+    return requestLeaseTime < Long.MAX_VALUE
+        && leaseExpireTime - token.getCurrentTime() >= requestLeaseTime;
+  }
+
   private boolean grantLocalDLockAfterObtainingRemoteLock(Object name, DLockToken token,
       int threadId, long leaseExpireTime, int lockId, LockGrantorId theLockGrantorId,
       DLockRequestProcessor processor, int recursion) {
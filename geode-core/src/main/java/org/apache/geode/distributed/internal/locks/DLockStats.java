@@ -98,6 +98,7 @@ public class DLockStats implements DistributedLockStats {
   private static final int becomeGrantorRequestsId;
   private static final int freeResourcesCompletedId;
   private static final int freeResourcesFailedId;
+  private static final int localReentrantGrantsId;
 
   /** returns the current nano time, if time stats are enabled */
   static long getStatTime() {
@@ -234,6 +235,8 @@ public class DLockStats implements DistributedLockStats {
         "Total number of times this member has freed resources for a distributed lock.";
     final String freeResourcesFailedDesc =
         "Total number of times this member has attempted to free resources for a distributed lock which remained in use.";
+    final String localReentrantGrantsDesc =
+        "Total number of times a thread reentered a distributed lock it held without asking the grantor because its lease already covered the request.";
 
     StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
 
@@ -318,7 +321,8 @@ public class DLockStats implements DistributedLockStats {
         f.createLongCounter("lockReleaseTime", lockReleaseTimeDesc, "nanoseconds", false),
         f.createIntCounter("becomeGrantorRequests", becomeGrantorRequestsDesc, "operations"),
         f.createIntCounter("freeResourcesCompleted", freeResourcesCompletedDesc, "operations"),
-        f.createIntCounter("freeResourcesFailed", freeResourcesFailedDesc, "operations"),});
+        f.createIntCounter("freeResourcesFailed", freeResourcesFailedDesc, "operations"),
+        f.createLongCounter("localReentrantGrants", localReentrantGrantsDesc, "operations"),});
 
     // Initialize id fields
     grantorsId = type.nameToId("grantors");
@@ -388,6 +392,7 @@ public class DLockStats implements DistributedLockStats {
     becomeGrantorRequestsId = type.nameToId("becomeGrantorRequests");
     freeResourcesCompletedId = type.nameToId("freeResourcesCompleted");
     freeResourcesFailedId = type.nameToId("freeResourcesFailed");
+    localReentrantGrantsId = type.nameToId("localReentrantGrants");
   } // static block
 
   /** The Statistics object that we delegate most behavior to */
@@ -965,6 +970,14 @@ public class DLockStats implements DistributedLockStats {
     this.stats.incInt(freeResourcesFailedId, 1);
   }
 
+  public long getLocalReentrantGrants() {
+    return this.stats.getLong(localReentrantGrantsId);
+  }
+
+  public void incLocalReentrantGrants() {
+    this.stats.incLong(localReentrantGrantsId, 1);
+  }
+
   // -------------------------------------------------------------------------
   // StatHelpers for dedicated dlock executors
   // -------------------------------------------------------------------------
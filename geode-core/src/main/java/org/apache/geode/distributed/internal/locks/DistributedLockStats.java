@@ -266,4 +266,9 @@ public interface DistributedLockStats {
   public int getFreeResourcesFailed();
 
   public void incFreeResourcesFailed();
+
+  // reentered locks granted without a request to the grantor
+  public long getLocalReentrantGrants();
+
+  public void incLocalReentrantGrants();
 }
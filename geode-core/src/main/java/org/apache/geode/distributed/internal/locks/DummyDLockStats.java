@@ -368,6 +368,12 @@ public class DummyDLockStats implements DistributedLockStats {
 
   public void incFreeResourcesFailed() {}
 
+  public long getLocalReentrantGrants() {
+    return -1;
+  }
+
+  public void incLocalReentrantGrants() {}
+
   public static class DummyPoolStatHelper implements PoolStatHelper {
     public void startJob() {}
 
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.locks;
+
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.internal.InternalDistributedSystem;
+import org.apache.geode.internal.util.HashUtils;
+
+/**
+ * A distributed lock service whose locks are spread over several {@link DLockService} stripes by
+ * the hash of the lock name. Each stripe elects its own grantor, so the lock and unlock requests of
+ * the service are shared by as many grantors as there are stripes instead of all going to one
+ * member. Every member must create the service with the same number of stripes.
+ * <p>
+ * Suspending locking suspends every stripe, in stripe order, so the service behaves like a single
+ * lock service for callers that lock the whole service.
+ *
+ * @since Geode 1.4
+ */
+public class StripedDLockService extends DistributedLockService {
+
+  private final String name;
+
+  private final DLockService[] stripes;
+
+  private StripedDLockService(String name, DLockService[] stripes) {
+    this.name = name;
+    this.stripes = stripes;
+  }
+
+  /**
+   * Creates a distributed lock service with the given number of stripes.
+   *
+   * @throws IllegalArgumentException if serviceName is invalid, numStripes is not positive or this
+   *         process has already created the named service
+   */
+  public static StripedDLockService create(String serviceName, InternalDistributedSystem ds,
+      int numStripes) {
+    DLockService.validateServiceName(serviceName);
+    if (numStripes < 1) {
+      throw new IllegalArgumentException("numStripes must be positive: " + numStripes);
+    }
+    DLockService[] stripes = new DLockService[numStripes];
+    boolean created = false;
+    try {
+      for (int i = 0; i < numStripes; i++) {
+        stripes[i] = (DLockService) DLockService.create(getStripeName(serviceName, i), ds,
+            true /* distributed */, true /* destroyOnDisconnect */,
+            false /* automateFreeResources */);
+      }
+      created = true;
+    } finally {
+      if (!created) {
+        for (DLockService stripe : stripes) {
+          if (stripe != null) {
+            stripe.destroyAndRemove();
+          }
+        }
+      }
+    }
+    return new StripedDLockService(serviceName, stripes);
+  }
+
+  /**
+   * Returns the name of the {@link DLockService} of the given stripe of the named service.
+   */
+  public static String getStripeName(String serviceName, int stripe) {
+    return serviceName + "_stripe" + stripe;
+  }
+
+  /**
+   * Returns the stripe of the given lock name. Every member must pick the same stripe for a name,
+   * so the stripe is chosen by {@link HashUtils#stableHashCode(Object)} rather than by the name's
+   * own hash code, which differs between JVMs for enums and for classes that do not override it.
+   *
+   * @throws IllegalArgumentException if the name can not be serialized
+   */
+  static int stripeOf(Object name, int numStripes) {
+    return Math.abs(HashUtils.stableHashCode(name) % numStripes);
+  }
+
+  private DLockService getStripe(Object name) {
+    return this.stripes[stripeOf(name, this.stripes.length)];
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public int getNumStripes() {
+    return this.stripes.length;
+  }
+
+  @Override
+  public boolean lock(Object name, long waitTimeMillis, long leaseTimeMillis) {
+    return getStripe(name).lock(name, waitTimeMillis, leaseTimeMillis);
+  }
+
+  @Override
+  public boolean lockInterruptibly(Object name, long waitTimeMillis, long leaseTimeMillis)
+      throws InterruptedException {
+    return getStripe(name).lockInterruptibly(name, waitTimeMillis, leaseTimeMillis);
+  }
+
+  @Override
+  public void unlock(Object name) {
+    getStripe(name).unlock(name);
+  }
+
+  @Override
+  public boolean isHeldByCurrentThread(Object name) {
+    return getStripe(name).isHeldByCurrentThread(name);
+  }
+
+  /**
+   * Queries the grantor of the name's stripe for the current holder of the named lock.
+   *
+   * @see DLockService#queryLock(Object)
+   */
+  public DLockRemoteToken queryLock(Object name) {
+    return getStripe(name).queryLock(name);
+  }
+
+  @Override
+  public void freeResources(Object name) {
+    getStripe(name).freeResources(name);
+  }
+
+  @Override
+  public boolean suspendLockingInterruptibly(long waitTimeMillis) throws InterruptedException {
+    long end = waitTimeMillis < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + waitTimeMillis;
+    int suspended = 0;
+    try {
+      for (; suspended < this.stripes.length; suspended++) {
+        if (!this.stripes[suspended].suspendLockingInterruptibly(remaining(end, waitTimeMillis))) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      if (suspended < this.stripes.length) {
+        resumeStripes(suspended);
+      }
+    }
+  }
+
+  @Override
+  public boolean suspendLocking(long waitTimeMillis) {
+    long end = waitTimeMillis < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + waitTimeMillis;
+    int suspended = 0;
+    try {
+      for (; suspended < this.stripes.length; suspended++) {
+        if (!this.stripes[suspended].suspendLocking(remaining(end, waitTimeMillis))) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      if (suspended < this.stripes.length) {
+        resumeStripes(suspended);
+      }
+    }
+  }
+
+  private static long remaining(long end, long waitTimeMillis) {
+    if (waitTimeMillis < 0) {
+      return waitTimeMillis;
+    }
+    return Math.max(0, end - System.currentTimeMillis());
+  }
+
+  /**
+   * Resumes locking of the first count stripes, in reverse order.
+   */
+  private void resumeStripes(int count) {
+    for (int i = count - 1; i >= 0; i--) {
+      this.stripes[i].resumeLocking();
+    }
+  }
+
+  @Override
+  public void resumeLocking() {
+    resumeStripes(this.stripes.length);
+  }
+
+  /**
+   * Returns true if the current thread has suspended locking of every stripe. Suspending locking
+   * suspends either every stripe or none, so a thread that holds only some of them is still
+   * waiting for the rest or releasing them.
+   */
+  @Override
+  public boolean isLockingSuspendedByCurrentThread() {
+    for (DLockService stripe : this.stripes) {
+      if (!stripe.isLockingSuspendedByCurrentThread()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Makes this member the grantor of every stripe.
+   */
+  @Override
+  public void becomeLockGrantor() {
+    for (DLockService stripe : this.stripes) {
+      stripe.becomeLockGrantor();
+    }
+  }
+
+  /**
+   * Returns true if this member is the grantor of every stripe.
+   */
+  @Override
+  public boolean isLockGrantor() {
+    for (DLockService stripe : this.stripes) {
+      if (!stripe.isLockGrantor()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of stripes this member is the grantor of.
+   */
+  public int getGrantedStripes() {
+    int granted = 0;
+    for (DLockService stripe : this.stripes) {
+      if (stripe.isLockGrantor()) {
+        granted++;
+      }
+    }
+    return granted;
+  }
+
+  /**
+   * Destroys every stripe of this service.
+   */
+  public void destroy() {
+    for (DLockService stripe : this.stripes) {
+      stripe.destroyAndRemove();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "StripedDLockService@" + Integer.toHexString(hashCode()) + " named " + this.name
+        + " with " + this.stripes.length + " stripes";
+  }
+}
@@ -132,6 +132,27 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
   public static final long MEMBER_SUSPECT_COLLECTION_INTERVAL =
       Long.getLong("geode.suspect-member-collection-interval", 200);
 
+  /**
+   * The failure detector that decides when the next neighbor is checked. With the default, "ring",
+   * the neighbor is checked when it has been silent for member-timeout. With "phi-accrual" it is
+   * checked as soon as the phi computed from the arrival times of its heartbeats exceeds
+   * PHI_ACCRUAL_THRESHOLD. Either way the check waits member-timeout for a reply before the
+   * neighbor is suspected.
+   */
+  public static final String FAILURE_DETECTOR =
+      System.getProperty("geode.failure-detector", "ring");
+
+  /**
+   * The phi above which the phi-accrual failure detector checks a member
+   */
+  public static final int PHI_ACCRUAL_THRESHOLD =
+      Integer.getInteger("geode.phi-accrual-threshold", 8);
+
+  /**
+   * The number of heartbeat inter-arrival times the phi-accrual failure detector keeps per member
+   */
+  private static final int PHI_ACCRUAL_SAMPLE_SIZE = 100;
+
   private volatile long currentTimeStamp;
 
   /**
@@ -151,6 +172,12 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
   private final ConcurrentHashMap<InternalDistributedMember, NetView> suspectedMemberInView =
       new ConcurrentHashMap<>();
 
+  /**
+   * Members a heartbeat request has been sent to and not yet answered. The monitor does not check
+   * them again until the request has been answered or has timed out.
+   */
+  private final Set<InternalDistributedMember> membersInCheck = ConcurrentHashMap.newKeySet();
+
   /**
    * Members undergoing final checks
    */
@@ -198,6 +225,11 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
    */
   private DMStats stats;
 
+  /**
+   * The phi-accrual failure detector, or null if the ring failure detector is used
+   */
+  private volatile PhiAccrualFailureDetector<InternalDistributedMember> phiAccrualDetector;
+
   /**
    * this class is to avoid garbage
    */
@@ -261,7 +293,17 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
 
         long interval = memberTimeoutInMillis / GMSHealthMonitor.LOGICAL_INTERVAL;
         long lastTS = currentTime - nextNeighborTS.getTime();
-        if (lastTS + interval >= memberTimeoutInMillis) {
+        PhiAccrualFailureDetector<InternalDistributedMember> detector = phiAccrualDetector;
+        if (detector != null && detector.isMonitoring(neighbour)) {
+          // any other traffic from the neighbor since the previous run also counts as a sign of
+          // life, so only check it if its heartbeats are late and it has otherwise been quiet
+          if (!detector.isAvailable(neighbour, currentTime)
+              && lastTS >= 2 * getMonitorInterval()) {
+            logger.trace("Checking member {} with phi {}", neighbour,
+                detector.phi(neighbour, currentTime));
+            checkMember(neighbour);
+          }
+        } else if (lastTS + interval >= memberTimeoutInMillis) {
           logger.trace("Checking member {} ", neighbour);
           // now do check request for this member;
           checkMember(neighbour);
@@ -409,6 +451,11 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
     // as check may take time
     setNextNeighbor(cv, mbr);
 
+    if (!membersInCheck.add(mbr)) {
+      // the previous check of this member is still waiting for a reply
+      return;
+    }
+
     // we need to check this member
     checkExecutor.execute(() -> {
       boolean pinged = false;
@@ -416,6 +463,8 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
         pinged = GMSHealthMonitor.this.doCheckMember(mbr, true);
       } catch (CancelException e) {
         return;
+      } finally {
+        membersInCheck.remove(mbr);
       }
 
       if (!pinged) {
@@ -637,7 +686,7 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
       }
     });
     Monitor m = this.new Monitor(memberTimeout);
-    long delay = memberTimeout / LOGICAL_INTERVAL;
+    long delay = getMonitorInterval();
     monitorFuture = scheduler.scheduleAtFixedRate(m, delay, delay, TimeUnit.MILLISECONDS);
 
     // suspectRequestCollectorThread = this.new RequestCollector<SuspectRequest>("Geode Suspect
@@ -667,6 +716,32 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
 
   }
 
+  /**
+   * Returns the period of the monitor. The phi-accrual failure detector is consulted four times per
+   * heartbeat interval so that a late neighbor is noticed soon after its phi crosses the threshold.
+   */
+  private long getMonitorInterval() {
+    long interval = memberTimeout / LOGICAL_INTERVAL;
+    if (phiAccrualDetector != null) {
+      interval = Math.max(1, interval / 4);
+    }
+    return interval;
+  }
+
+  /**
+   * Replaces the ring failure detector with a phi-accrual failure detector that expects a heartbeat
+   * every heartbeat interval. Must be called before {@link #start()}.
+   */
+  void usePhiAccrualDetector(double threshold) {
+    long heartbeatInterval = memberTimeout / LOGICAL_INTERVAL;
+    phiAccrualDetector = new PhiAccrualFailureDetector<>(threshold, PHI_ACCRUAL_SAMPLE_SIZE,
+        Math.max(1, heartbeatInterval / 10), 0, heartbeatInterval);
+  }
+
+  PhiAccrualFailureDetector<InternalDistributedMember> getPhiAccrualDetector() {
+    return phiAccrualDetector;
+  }
+
   ServerSocket createServerSocket(InetAddress socketAddress, int[] portRange) {
     ServerSocket serverSocket;
     try {
@@ -845,6 +920,10 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
     // memberVsLastMsgTS.put(mbr, customTS);
     // }
     // }
+    PhiAccrualFailureDetector<InternalDistributedMember> detector = phiAccrualDetector;
+    if (detector != null) {
+      detector.retainAll(newView.getMembers());
+    }
     currentView = newView;
     setNextNeighbor(newView, null);
   }
@@ -934,6 +1013,11 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
     services = s;
     memberTimeout = s.getConfig().getMemberTimeout();
     this.stats = services.getStatistics();
+    if ("phi-accrual".equalsIgnoreCase(FAILURE_DETECTOR)) {
+      usePhiAccrualDetector(PHI_ACCRUAL_THRESHOLD);
+    } else {
+      phiAccrualDetector = null;
+    }
     services.getMessenger().addHandler(HeartbeatRequestMessage.class, this);
     services.getMessenger().addHandler(HeartbeatMessage.class, this);
     services.getMessenger().addHandler(SuspectMembersMessage.class, this);
@@ -1127,8 +1211,14 @@ public class GMSHealthMonitor implements HealthMonitor, MessageHandler {
       }
 
     }
+    long now = System.currentTimeMillis();
+    PhiAccrualFailureDetector<InternalDistributedMember> detector = phiAccrualDetector;
+    if (detector != null && m.getRequestId() < 0) {
+      // only periodic heartbeats arrive at regular intervals
+      detector.heartbeat(m.getSender(), now);
+    }
     // we got heartbeat lets update timestamp
-    contactedBy(m.getSender(), System.currentTimeMillis());
+    contactedBy(m.getSender(), now);
   }
 
   /**
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.membership.gms.fd;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A phi accrual failure detector. Instead of a fixed timeout it keeps the recent heartbeat
+ * inter-arrival times of each monitored member and computes phi, the negative base-10 logarithm of
+ * the probability that a heartbeat would arrive later than it already has, assuming the
+ * inter-arrival times are normally distributed. A phi of 1 means a 10% chance of being wrong in
+ * suspecting the member now, a phi of 8 a 0.000001% chance.
+ * <p>
+ * Members that send heartbeats regularly are suspected soon after they stop, while members whose
+ * heartbeats are irregular are given more time.
+ *
+ * @param <K> the type of the monitored members
+ *
+ * @since Geode 1.4
+ */
+public class PhiAccrualFailureDetector<K> {
+
+  private final double threshold;
+
+  private final int maxSampleSize;
+
+  private final long minStdDeviationMillis;
+
+  private final long acceptableHeartbeatPauseMillis;
+
+  private final long firstHeartbeatEstimateMillis;
+
+  private final ConcurrentMap<K, History> histories = new ConcurrentHashMap<>();
+
+  /**
+   * @param threshold the phi above which a member is suspected
+   * @param maxSampleSize the number of inter-arrival times kept per member
+   * @param minStdDeviationMillis the lowest standard deviation used, so that very regular
+   *        heartbeats do not make the detector too sensitive to a small delay
+   * @param acceptableHeartbeatPauseMillis a pause added to the mean inter-arrival time
+   * @param firstHeartbeatEstimateMillis the expected heartbeat interval, used to seed the history
+   *        of a member when its first heartbeat arrives
+   */
+  public PhiAccrualFailureDetector(double threshold, int maxSampleSize, long minStdDeviationMillis,
+      long acceptableHeartbeatPauseMillis, long firstHeartbeatEstimateMillis) {
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("threshold must be positive: " + threshold);
+    }
+    if (maxSampleSize < 2) {
+      throw new IllegalArgumentException("maxSampleSize must be at least 2: " + maxSampleSize);
+    }
+    if (minStdDeviationMillis <= 0) {
+      throw new IllegalArgumentException(
+          "minStdDeviationMillis must be positive: " + minStdDeviationMillis);
+    }
+    if (firstHeartbeatEstimateMillis <= 0) {
+      throw new IllegalArgumentException(
+          "firstHeartbeatEstimateMillis must be positive: " + firstHeartbeatEstimateMillis);
+    }
+    this.threshold = threshold;
+    this.maxSampleSize = maxSampleSize;
+    this.minStdDeviationMillis = minStdDeviationMillis;
+    this.acceptableHeartbeatPauseMillis = Math.max(0, acceptableHeartbeatPauseMillis);
+    this.firstHeartbeatEstimateMillis = firstHeartbeatEstimateMillis;
+  }
+
+  public double getThreshold() {
+    return this.threshold;
+  }
+
+  /**
+   * Records the arrival of a heartbeat from the member.
+   */
+  public void heartbeat(K member, long timeMillis) {
+    History history = this.histories.get(member);
+    if (history == null) {
+      history = new History(this.maxSampleSize);
+      History existing = this.histories.putIfAbsent(member, history);
+      if (existing != null) {
+        history = existing;
+      }
+    }
+    history.heartbeat(timeMillis);
+  }
+
+  /**
+   * Returns whether a heartbeat has been recorded for the member.
+   */
+  public boolean isMonitoring(K member) {
+    return this.histories.containsKey(member);
+  }
+
+  /**
+   * Returns the phi of the member at the given time, or 0 if no heartbeat has been recorded for it.
+   */
+  public double phi(K member, long timeMillis) {
+    History history = this.histories.get(member);
+    if (history == null) {
+      return 0.0;
+    }
+    return history.phi(timeMillis);
+  }
+
+  /**
+   * Returns false if the phi of the member at the given time is above the threshold.
+   */
+  public boolean isAvailable(K member, long timeMillis) {
+    return phi(member, timeMillis) < this.threshold;
+  }
+
+  /**
+   * Forgets the heartbeat history of the member.
+   */
+  public void remove(K member) {
+    this.histories.remove(member);
+  }
+
+  /**
+   * Forgets the heartbeat history of every member not in the given collection.
+   */
+  public void retainAll(Collection<K> members) {
+    this.histories.keySet().retainAll(members);
+  }
+
+  /**
+   * Computes phi for a time since the last heartbeat, using a logistic approximation of the
+   * cumulative normal distribution.
+   */
+  static double phi(long timeDiff, double mean, double stdDeviation) {
+    double y = (timeDiff - mean) / stdDeviation;
+    double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+    if (timeDiff > mean) {
+      return -Math.log10(e / (1.0 + e));
+    } else {
+      return -Math.log10(1.0 - 1.0 / (1.0 + e));
+    }
+  }
+
+  /**
+   * The most recent heartbeat inter-arrival times of one member, kept in a ring buffer along with
+   * their sum and sum of squares.
+   */
+  private class History {
+
+    private final long[] intervals;
+
+    private int size;
+
+    private int next;
+
+    private double sum;
+
+    private double squaredSum;
+
+    private long lastHeartbeat = -1;
+
+    History(int maxSampleSize) {
+      this.intervals = new long[maxSampleSize];
+    }
+
+    synchronized void heartbeat(long timeMillis) {
+      if (this.lastHeartbeat < 0) {
+        // seed the history so that the first heartbeat is not judged against an empty sample
+        long stdDeviation = firstHeartbeatEstimateMillis / 4;
+        add(firstHeartbeatEstimateMillis - stdDeviation);
+        add(firstHeartbeatEstimateMillis + stdDeviation);
+      } else if (timeMillis > this.lastHeartbeat) {
+        add(timeMillis - this.lastHeartbeat);
+      } else {
+        return;
+      }
+      this.lastHeartbeat = timeMillis;
+    }
+
+    private void add(long interval) {
+      if (this.size == this.intervals.length) {
+        long oldest = this.intervals[this.next];
+        this.sum -= oldest;
+        this.squaredSum -= (double) oldest * oldest;
+      } else {
+        this.size++;
+      }
+      this.intervals[this.next] = interval;
+      this.next = (this.next + 1) % this.intervals.length;
+      this.sum += interval;
+      this.squaredSum += (double) interval * interval;
+    }
+
+    synchronized double phi(long timeMillis) {
+      double mean = this.sum / this.size;
+      double variance = Math.max(0.0, this.squaredSum / this.size - mean * mean);
+      double stdDeviation = Math.max(Math.sqrt(variance), minStdDeviationMillis);
+      return PhiAccrualFailureDetector.phi(timeMillis - this.lastHeartbeat,
+          mean + acceptableHeartbeatPauseMillis, stdDeviation);
+    }
+  }
+}
@@ -100,6 +100,8 @@ import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.log4j.LocalizedMessage;
 import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.internal.offheap.StoredObject;
+import org.apache.geode.internal.offheap.annotations.Unretained;
 import org.apache.geode.internal.util.concurrent.CopyOnWriteHashMap;
 import org.apache.geode.pdx.NonPortableClassException;
 import org.apache.geode.pdx.PdxInstance;
@@ -3061,11 +3063,23 @@ public abstract class InternalDataSerializer extends DataSerializer implements D
    * returns null.
    */
   public static PdxInstance readPdxInstance(final byte[] dataBytes, InternalCache internalCache) {
+    return readPdxInstance(new PdxInputStream(dataBytes), internalCache);
+  }
+
+  /**
+   * Reads a PdxInstance directly from the off-heap memory of the given blob instead of first
+   * copying it to a heap byte array. The returned instance refers to that memory so it must only be
+   * used while the caller keeps the blob retained. If the blob is not pdx encoded returns null.
+   */
+  public static PdxInstance readPdxInstance(@Unretained StoredObject blob,
+      InternalCache internalCache) {
+    return readPdxInstance(new PdxInputStream(blob), internalCache);
+  }
+
+  private static PdxInstance readPdxInstance(PdxInputStream in, InternalCache internalCache) {
     try {
-      byte type = dataBytes[0];
+      byte type = in.readByte();
       if (type == PDX) {
-        PdxInputStream in = new PdxInputStream(dataBytes);
-        in.readByte(); // throw away the type byte
         int len = in.readInt();
         int typeId = in.readInt();
         PdxType pdxType = internalCache.getPdxRegistry().getType(typeId);
@@ -3075,8 +3089,6 @@ public abstract class InternalDataSerializer extends DataSerializer implements D
 
         return new PdxInstanceImpl(pdxType, in, len);
       } else if (type == DSCODE.PDX_ENUM) {
-        PdxInputStream in = new PdxInputStream(dataBytes);
-        in.readByte(); // throw away the type byte
         int dsId = in.readByte();
         int tmp = readArrayLength(in);
         int enumId = dsId << 24 | tmp & 0xFFFFFF;
@@ -3087,8 +3099,6 @@ public abstract class InternalDataSerializer extends DataSerializer implements D
         }
         return ei.getPdxInstance(enumId);
       } else if (type == DSCODE.PDX_INLINE_ENUM) {
-        PdxInputStream in = new PdxInputStream(dataBytes);
-        in.readByte(); // throw away the type byte
         String className = DataSerializer.readString(in);
         String enumName = DataSerializer.readString(in);
         int enumOrdinal = InternalDataSerializer.readArrayLength(in);
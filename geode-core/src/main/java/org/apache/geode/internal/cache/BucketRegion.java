@@ -192,6 +192,26 @@ public class BucketRegion extends DistributedRegion implements Bucket {
   static final boolean FORCE_LOCAL_LISTENERS_INVOCATION = Boolean
       .getBoolean(DistributionConfig.GEMFIRE_PREFIX + "BucketRegion.alwaysFireLocalListeners");
 
+  /**
+   * The minimum number of milliseconds over which the operation rate reported to a rebalance is
+   * measured.
+   */
+  static final long OPERATION_RATE_INTERVAL = Long
+      .getLong(DistributionConfig.GEMFIRE_PREFIX + "BucketRegion.OPERATION_RATE_INTERVAL", 60000);
+
+  /** The number of reads and writes applied to this bucket */
+  private final AtomicLong operationCount = new AtomicLong();
+
+  /** Guards the fields of the operation rate interval */
+  private final Object operationRateLock = new Object();
+
+  private long operationRateIntervalStart = System.currentTimeMillis();
+
+  private long operationRateIntervalStartCount;
+
+  /** The operation rate measured over the last complete interval, -1 before the first one */
+  private float lastOperationRate = -1;
+
   private volatile AtomicLong5 eventSeqNum = null;
 
   public AtomicLong5 getEventSeqNum() {
@@ -715,6 +735,7 @@ public class BucketRegion extends DistributedRegion implements Bucket {
    * followed with a call to endLocalWrite().
    */
   private boolean beginLocalWrite(EntryEventImpl event) {
+    recordOperation();
     if (!needWriteLock(event)) {
       return false;
     }
@@ -2042,6 +2063,35 @@ public class BucketRegion extends DistributedRegion implements Bucket {
     }
   }
 
+  /**
+   * Records a read or write of an entry of this bucket.
+   */
+  void recordOperation() {
+    this.operationCount.incrementAndGet();
+  }
+
+  /**
+   * Returns the recent number of reads and writes per second on this bucket. This is the rate
+   * measured over the last interval of at least OPERATION_RATE_INTERVAL milliseconds, or since the
+   * bucket was created if it is younger than that.
+   */
+  public float getOperationRate() {
+    long now = System.currentTimeMillis();
+    long count = this.operationCount.get();
+    synchronized (this.operationRateLock) {
+      long elapsed = now - this.operationRateIntervalStart;
+      float rate =
+          elapsed <= 0 ? 0 : (count - this.operationRateIntervalStartCount) * 1000f / elapsed;
+      if (elapsed >= OPERATION_RATE_INTERVAL) {
+        this.lastOperationRate = rate;
+        this.operationRateIntervalStart = now;
+        this.operationRateIntervalStartCount = count;
+        return rate;
+      }
+      return this.lastOperationRate < 0 ? rate : this.lastOperationRate;
+    }
+  }
+
   public long getLimit() {
     if (this.limit == null) {
       return 0;
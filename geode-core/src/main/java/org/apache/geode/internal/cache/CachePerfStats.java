@@ -51,6 +51,14 @@ public class CachePerfStats {
   protected static final int deltaGetInitialImagesCompletedId;
   protected static final int getInitialImageTimeId;
   protected static final int getInitialImageKeysReceivedId;
+  protected static final int getInitialImageChunksAppliedId;
+  protected static final int getInitialImageChunkQueueTimeId;
+  protected static final int getInitialImageChunkApplyTimeId;
+  protected static final int regionProfileExchangesCompletedId;
+  protected static final int regionProfileExchangeTimeId;
+  protected static final int declaredRegionsCreatedId;
+  protected static final int declaredRegionCreationTimeId;
+  protected static final int declaredRegionsElapsedTimeId;
   protected static final int regionsId;
   protected static final int partitionedRegionsId;
   protected static final int destroysId;
@@ -76,6 +84,8 @@ public class CachePerfStats {
   protected static final int queryResultsHashCollisionsId;
   protected static final int queryResultsHashCollisionProbeTimeId;
   protected static final int partitionedRegionQueryRetriesId;
+  protected static final int partitionedRegionParallelBucketQueriesId;
+  protected static final int partitionedRegionParallelBucketQueryThreadsId;
 
   protected static final int txSuccessLifeTimeId;
   protected static final int txFailedLifeTimeId;
@@ -196,6 +206,22 @@ public class CachePerfStats {
         "Total time spent doing getInitialImages for region creation.";
     final String getInitialImageKeysReceivedDesc =
         "Total number of keys received while doing getInitialImage operations.";
+    final String getInitialImageChunksAppliedDesc =
+        "Total number of getInitialImage chunks received and applied to a region.";
+    final String getInitialImageChunkQueueTimeDesc =
+        "Total time received getInitialImage chunks waited before they were applied to a region.";
+    final String getInitialImageChunkApplyTimeDesc =
+        "Total time spent applying received getInitialImage chunks to a region.";
+    final String regionProfileExchangesCompletedDesc =
+        "Total number of profile exchanges with peers done to create a region or bucket.";
+    final String regionProfileExchangeTimeDesc =
+        "Total time spent exchanging profiles with peers to create regions and buckets.";
+    final String declaredRegionsCreatedDesc =
+        "Total number of root regions declared in cache.xml that have been created at startup.";
+    final String declaredRegionCreationTimeDesc =
+        "Total time spent creating the root regions declared in cache.xml, and their subregions, summed over the regions. Exceeds declaredRegionsElapsedTime when regions are created in parallel.";
+    final String declaredRegionsElapsedTimeDesc =
+        "Elapsed time from the start to the end of creating the regions declared in cache.xml.";
     final String regionsDesc = "The current number of regions in the cache.";
     final String partitionedRegionsDesc = "The current number of partitioned regions in the cache.";
     final String destroysDesc =
@@ -238,6 +264,10 @@ public class CachePerfStats {
         "Total time spent probing the hashtable in an OQL result set due to hash code collisions, includes reads, writes, and rehashes";
     final String partitionedRegionOQLQueryRetriesDesc =
         "Total number of times an OQL Query on a Partitioned Region had to be retried";
+    final String partitionedRegionParallelBucketQueriesDesc =
+        "Total number of times this member queried its local buckets of a Partitioned Region on more than one thread";
+    final String partitionedRegionParallelBucketQueryThreadsDesc =
+        "Total number of threads that took part in parallel local bucket queries. Dividing it by partitionedRegionParallelBucketQueries gives the average parallelism achieved";
     final String txSuccessLifeTimeDesc =
         "The total amount of time, in nanoseconds, spent in a transaction before a successful commit. The time measured starts at transaction begin and ends when commit is called.";
     final String txFailedLifeTimeDesc =
@@ -385,6 +415,21 @@ public class CachePerfStats {
             f.createLongCounter("getInitialImageTime", getInitialImageTimeDesc, "nanoseconds"),
             f.createIntCounter("getInitialImageKeysReceived", getInitialImageKeysReceivedDesc,
                 "keys"),
+            f.createIntCounter("getInitialImageChunksApplied", getInitialImageChunksAppliedDesc,
+                "messages"),
+            f.createLongCounter("getInitialImageChunkQueueTime",
+                getInitialImageChunkQueueTimeDesc, "nanoseconds"),
+            f.createLongCounter("getInitialImageChunkApplyTime",
+                getInitialImageChunkApplyTimeDesc, "nanoseconds"),
+            f.createIntCounter("regionProfileExchangesCompleted",
+                regionProfileExchangesCompletedDesc, "operations"),
+            f.createLongCounter("regionProfileExchangeTime", regionProfileExchangeTimeDesc,
+                "nanoseconds"),
+            f.createIntCounter("declaredRegionsCreated", declaredRegionsCreatedDesc, "regions"),
+            f.createLongCounter("declaredRegionCreationTime", declaredRegionCreationTimeDesc,
+                "nanoseconds"),
+            f.createLongCounter("declaredRegionsElapsedTime", declaredRegionsElapsedTimeDesc,
+                "nanoseconds"),
             f.createIntGauge("regions", regionsDesc, "regions"),
             f.createIntGauge("partitionedRegions", partitionedRegionsDesc, "partitionedRegions"),
             f.createIntCounter("destroys", destroysDesc, "operations"),
@@ -414,6 +459,10 @@ public class CachePerfStats {
                 queryResultsHashCollisionProbeTimeDesc, "nanoseconds"),
             f.createLongCounter("partitionedRegionQueryRetries",
                 partitionedRegionOQLQueryRetriesDesc, "retries"),
+            f.createLongCounter("partitionedRegionParallelBucketQueries",
+                partitionedRegionParallelBucketQueriesDesc, "operations"),
+            f.createLongCounter("partitionedRegionParallelBucketQueryThreads",
+                partitionedRegionParallelBucketQueryThreadsDesc, "threads"),
 
             f.createIntCounter("txCommits", txCommitsDesc, "commits"),
             f.createIntCounter("txCommitChanges", txCommitChangesDesc, "changes"),
@@ -533,6 +582,14 @@ public class CachePerfStats {
     deltaGetInitialImagesCompletedId = type.nameToId("deltaGetInitialImagesCompleted");
     getInitialImageTimeId = type.nameToId("getInitialImageTime");
     getInitialImageKeysReceivedId = type.nameToId("getInitialImageKeysReceived");
+    getInitialImageChunksAppliedId = type.nameToId("getInitialImageChunksApplied");
+    getInitialImageChunkQueueTimeId = type.nameToId("getInitialImageChunkQueueTime");
+    getInitialImageChunkApplyTimeId = type.nameToId("getInitialImageChunkApplyTime");
+    regionProfileExchangesCompletedId = type.nameToId("regionProfileExchangesCompleted");
+    regionProfileExchangeTimeId = type.nameToId("regionProfileExchangeTime");
+    declaredRegionsCreatedId = type.nameToId("declaredRegionsCreated");
+    declaredRegionCreationTimeId = type.nameToId("declaredRegionCreationTime");
+    declaredRegionsElapsedTimeId = type.nameToId("declaredRegionsElapsedTime");
     regionsId = type.nameToId("regions");
     partitionedRegionsId = type.nameToId("partitionedRegions");
     destroysId = type.nameToId("destroys");
@@ -558,6 +615,10 @@ public class CachePerfStats {
     queryResultsHashCollisionsId = type.nameToId("queryResultsHashCollisions");
     queryResultsHashCollisionProbeTimeId = type.nameToId("queryResultsHashCollisionProbeTime");
     partitionedRegionQueryRetriesId = type.nameToId("partitionedRegionQueryRetries");
+    partitionedRegionParallelBucketQueriesId =
+        type.nameToId("partitionedRegionParallelBucketQueries");
+    partitionedRegionParallelBucketQueryThreadsId =
+        type.nameToId("partitionedRegionParallelBucketQueryThreads");
 
     txSuccessLifeTimeId = type.nameToId("txSuccessLifeTime");
     txFailedLifeTimeId = type.nameToId("txFailedLifeTime");
@@ -720,6 +781,38 @@ public class CachePerfStats {
     return stats.getInt(getInitialImageKeysReceivedId);
   }
 
+  public int getGetInitialImageChunksApplied() {
+    return stats.getInt(getInitialImageChunksAppliedId);
+  }
+
+  public long getGetInitialImageChunkQueueTime() {
+    return stats.getLong(getInitialImageChunkQueueTimeId);
+  }
+
+  public long getGetInitialImageChunkApplyTime() {
+    return stats.getLong(getInitialImageChunkApplyTimeId);
+  }
+
+  public int getRegionProfileExchangesCompleted() {
+    return stats.getInt(regionProfileExchangesCompletedId);
+  }
+
+  public long getRegionProfileExchangeTime() {
+    return stats.getLong(regionProfileExchangeTimeId);
+  }
+
+  public int getDeclaredRegionsCreated() {
+    return stats.getInt(declaredRegionsCreatedId);
+  }
+
+  public long getDeclaredRegionCreationTime() {
+    return stats.getLong(declaredRegionCreationTimeId);
+  }
+
+  public long getDeclaredRegionsElapsedTime() {
+    return stats.getLong(declaredRegionsElapsedTimeId);
+  }
+
   public int getRegions() {
     return stats.getInt(regionsId);
   }
@@ -1062,6 +1155,66 @@ public class CachePerfStats {
     stats.incInt(getInitialImageKeysReceivedId, 1);
   }
 
+  /**
+   * @param received the timestamp taken when the chunk was received, 0 if unknown
+   * @return the timestamp that marks the start of applying the chunk
+   */
+  public long startGetInitialImageChunk(long received) {
+    long start = getStatTime();
+    if (enableClockStats && received != 0) {
+      stats.incLong(getInitialImageChunkQueueTimeId, start - received);
+    }
+    return start;
+  }
+
+  /**
+   * @param start the timestamp taken when the chunk started being applied
+   */
+  public void endGetInitialImageChunk(long start) {
+    if (enableClockStats) {
+      stats.incLong(getInitialImageChunkApplyTimeId, getStatTime() - start);
+    }
+    stats.incInt(getInitialImageChunksAppliedId, 1);
+  }
+
+  /**
+   * @return the timestamp that marks the start of the profile exchange
+   */
+  public long startRegionProfileExchange() {
+    // the startup timeline stats are taken once per region so they are always enabled
+    return NanoTimer.getTime();
+  }
+
+  /**
+   * @param start the timestamp taken when the profile exchange started
+   */
+  public void endRegionProfileExchange(long start) {
+    stats.incLong(regionProfileExchangeTimeId, NanoTimer.getTime() - start);
+    stats.incInt(regionProfileExchangesCompletedId, 1);
+  }
+
+  /**
+   * @return the timestamp that marks the start of creating a declared region
+   */
+  public long startDeclaredRegionCreation() {
+    return NanoTimer.getTime();
+  }
+
+  /**
+   * @param start the timestamp taken when the region creation started
+   */
+  public void endDeclaredRegionCreation(long start) {
+    stats.incLong(declaredRegionCreationTimeId, NanoTimer.getTime() - start);
+    stats.incInt(declaredRegionsCreatedId, 1);
+  }
+
+  /**
+   * @param start the timestamp taken when the creation of the declared regions started
+   */
+  public void endDeclaredRegions(long start) {
+    stats.incLong(declaredRegionsElapsedTimeId, NanoTimer.getTime() - start);
+  }
+
   public long startIndexUpdate() {
     stats.incInt(indexUpdateInProgressId, 1);
     return getStatTime();
@@ -1482,6 +1635,19 @@ public class CachePerfStats {
     return this.stats.getLong(partitionedRegionQueryRetriesId);
   }
 
+  public void endPRParallelBucketQuery(int threads) {
+    this.stats.incLong(partitionedRegionParallelBucketQueriesId, 1);
+    this.stats.incLong(partitionedRegionParallelBucketQueryThreadsId, threads);
+  }
+
+  public long getPRParallelBucketQueries() {
+    return this.stats.getLong(partitionedRegionParallelBucketQueriesId);
+  }
+
+  public long getPRParallelBucketQueryThreads() {
+    return this.stats.getLong(partitionedRegionParallelBucketQueryThreadsId);
+  }
+
   public QueueStatHelper getEvictionQueueStatHelper() {
     return new QueueStatHelper() {
       public void add() {
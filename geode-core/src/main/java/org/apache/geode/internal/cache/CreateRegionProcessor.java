@@ -77,6 +77,16 @@ public class CreateRegionProcessor implements ProfileExchangeProcessor {
 
   /** this method tells other members that the region is being created */
   public void initializeRegion() {
+    CachePerfStats stats = this.newRegion.getCache().getCachePerfStats();
+    long start = stats.startRegionProfileExchange();
+    try {
+      exchangeProfiles();
+    } finally {
+      stats.endRegionProfileExchange(start);
+    }
+  }
+
+  private void exchangeProfiles() {
     InternalDistributedSystem system = this.newRegion.getSystem();
     // try 5 times, see CreateRegionMessage#skipDuringInitialization
     for (int retry = 0; retry < 5; retry++) {
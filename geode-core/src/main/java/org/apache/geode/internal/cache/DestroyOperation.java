@@ -210,6 +210,11 @@ public class DestroyOperation extends DistributedCacheOperation {
     protected boolean mayAddToMultipleSerialGateways(DistributionManager dm) {
       return _mayAddToMultipleSerialGateways(dm);
     }
+
+    @Override
+    public Object getOrderingKey(DistributionManager dm) {
+      return _getOrderingKey(dm, this.key);
+    }
   }
 
   public static class DestroyWithContextMessage extends DestroyMessage {
@@ -221,6 +226,12 @@ public class DestroyOperation extends DistributedCacheOperation {
       super(event);
     }
 
+    @Override
+    public Object getOrderingKey(DistributionManager dm) {
+      // client events must stay in order across keys, see _getOrderingKey
+      return null;
+    }
+
     @Override
     @Retained
     EntryEventImpl createEntryEvent(DistributedRegion rgn) {
@@ -1531,6 +1531,39 @@ public abstract class DistributedCacheOperation {
         LocalRegion.setThreadInitLevelRequirement(oldLevel);
       }
     }
+
+    /**
+     * Returns the ordering key of a message that only modifies the given key of this message's
+     * region. Returns null, so the message is ordered with all other messages of its sender, if the
+     * region is still being initialized or if the order of its events matters across keys, such as
+     * when they are queued for gateway senders or async event queues.
+     * <p>
+     * The order also matters across keys for events the region's event tracker records, which are
+     * the events of bucket regions and the events of cache clients (the WithContext messages). The
+     * tracker only keeps the highest sequence number of each thread that originated events, so if a
+     * later event of a thread were applied first an earlier one for another key would be taken for
+     * a replay and dropped.
+     */
+    protected Object _getOrderingKey(DistributionManager dm, Object key) {
+      if (key == null) {
+        return null;
+      }
+      int oldLevel = LocalRegion.setThreadInitLevelRequirement(LocalRegion.ANY_INIT);
+      try {
+        LocalRegion lr = getLocalRegionForProcessing(dm);
+        if (lr == null || !lr.isInitialized() || lr.isSecret() || lr.isUsedForMetaRegion()
+            || lr.isUsedForPartitionedRegionBucket()
+            || lr.isUsedForPartitionedRegionAdmin() || lr.isUsedForSerialGatewaySenderQueue()
+            || lr.isUsedForParallelGatewaySenderQueue() || !lr.getAllGatewaySenderIds().isEmpty()) {
+          return null;
+        }
+        return Integer.valueOf(this.regionPath.hashCode() * 31 + key.hashCode());
+      } catch (RuntimeException ignore) {
+        return null;
+      } finally {
+        LocalRegion.setThreadInitLevelRequirement(oldLevel);
+      }
+    }
   }
 
   /** Custom subclass that keeps all ReplyExceptions */
@@ -84,6 +84,7 @@ import org.apache.geode.distributed.internal.MembershipListener;
 import org.apache.geode.distributed.internal.ReplyProcessor21;
 import org.apache.geode.distributed.internal.locks.DLockRemoteToken;
 import org.apache.geode.distributed.internal.locks.DLockService;
+import org.apache.geode.distributed.internal.locks.StripedDLockService;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.i18n.StringId;
 import org.apache.geode.internal.Assert;
@@ -133,6 +134,14 @@ public class DistributedRegion extends LocalRegion implements InternalDistribute
   /** causes cache profile to be added to afterRemoteRegionCreate notification for testing */
   public static boolean TEST_HOOK_ADD_PROFILE = false;
 
+  /**
+   * The system property giving the number of {@link StripedDLockService stripes} the locks of a
+   * global region are spread over, so that their grantors may be different members. Every member
+   * must use the same value. The default of one uses a single lock service for the region.
+   */
+  public static final String LOCK_STRIPES_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "DistributedRegion.LOCK_STRIPES";
+
   /** Used to sync accesses to this.dlockService to allow lazy construction */
   private final Object dlockMonitor = new Object();
 
@@ -2135,8 +2144,13 @@ public class DistributedRegion extends LocalRegion implements InternalDistribute
       if (this.dlockService == null) {
         this.dlockService = DistributedLockService.getServiceNamed(dlsName);
         if (this.dlockService == null) {
+          int stripes = Integer.getInteger(LOCK_STRIPES_PROPERTY, 1);
           // region destroy will destroy dls and manual freeResources only
-          this.dlockService = DLockService.create(getFullPath(), getSystem(), true, false, false);
+          if (stripes > 1) {
+            this.dlockService = StripedDLockService.create(dlsName, getSystem(), stripes);
+          } else {
+            this.dlockService = DLockService.create(getFullPath(), getSystem(), true, false, false);
+          }
         }
         // handle is-lock-grantor region attribute...
         if (this.isLockGrantor) {
@@ -2151,6 +2165,17 @@ public class DistributedRegion extends LocalRegion implements InternalDistribute
     }
   }
 
+  /**
+   * Queries the grantor of this region's lock service for the current holder of the named lock.
+   */
+  private DLockRemoteToken queryLock(Object key) {
+    DistributedLockService svc = getLockService();
+    if (svc instanceof StripedDLockService) {
+      return ((StripedDLockService) svc).queryLock(key);
+    }
+    return ((DLockService) svc).queryLock(key);
+  }
+
   @Override
   protected boolean isCurrentlyLockGrantor() {
     return this.scope.isGlobal() && getLockService().isLockGrantor();
@@ -2436,15 +2461,17 @@ public class DistributedRegion extends LocalRegion implements InternalDistribute
     // lock service, because destroying the service immediately releases the dlock
     waitForInProgressClear();
 
-    DLockService dls = null;
+    DistributedLockService dls = null;
     synchronized (this.dlockMonitor) {
-      if (this.dlockService != null) {
-        dls = (DLockService) this.dlockService;
-      }
+      dls = this.dlockService;
     }
     if (dls != null) {
       try {
-        dls.destroyAndRemove();
+        if (dls instanceof StripedDLockService) {
+          ((StripedDLockService) dls).destroy();
+        } else {
+          ((DLockService) dls).destroyAndRemove();
+        }
       } catch (CancelException e) {
         // bug 37118
         if (logger.isDebugEnabled()) {
@@ -3057,7 +3084,7 @@ public class DistributedRegion extends LocalRegion implements InternalDistribute
                 suspected = true;
                 severeAlertIssued = false; // in case this is a new lock holder
                 waitInterval = ackSAThreshold;
-                DLockRemoteToken remoteToken = ((DLockService) getLockService()).queryLock(key);
+                DLockRemoteToken remoteToken = queryLock(key);
                 lockHolder = remoteToken.getLessee();
                 if (lockHolder != null) {
                   dm.getMembershipManager().suspectMember(lockHolder,
@@ -3065,7 +3092,7 @@ public class DistributedRegion extends LocalRegion implements InternalDistribute
                           + ackWaitThreshold / 1000 + " seconds");
                 }
               } else if (elapsed > ackSAThreshold) {
-                DLockRemoteToken remoteToken = ((DLockService) getLockService()).queryLock(key);
+                DLockRemoteToken remoteToken = queryLock(key);
                 if (lockHolder != null && remoteToken.getLessee() != null
                     && lockHolder.equals(remoteToken.getLessee())) {
                   if (!severeAlertIssued) {
@@ -96,6 +96,46 @@ public class DummyCachePerfStats extends CachePerfStats {
     return 0;
   }
 
+  @Override
+  public int getGetInitialImageChunksApplied() {
+    return 0;
+  }
+
+  @Override
+  public long getGetInitialImageChunkQueueTime() {
+    return 0;
+  }
+
+  @Override
+  public long getGetInitialImageChunkApplyTime() {
+    return 0;
+  }
+
+  @Override
+  public int getRegionProfileExchangesCompleted() {
+    return 0;
+  }
+
+  @Override
+  public long getRegionProfileExchangeTime() {
+    return 0;
+  }
+
+  @Override
+  public int getDeclaredRegionsCreated() {
+    return 0;
+  }
+
+  @Override
+  public long getDeclaredRegionCreationTime() {
+    return 0;
+  }
+
+  @Override
+  public long getDeclaredRegionsElapsedTime() {
+    return 0;
+  }
+
   @Override
   public int getRegions() {
     return 0;
@@ -282,6 +322,33 @@ public class DummyCachePerfStats extends CachePerfStats {
   @Override
   public void incGetInitialImageKeysReceived() {}
 
+  @Override
+  public long startGetInitialImageChunk(long received) {
+    return 0;
+  }
+
+  @Override
+  public void endGetInitialImageChunk(long start) {}
+
+  @Override
+  public long startRegionProfileExchange() {
+    return 0;
+  }
+
+  @Override
+  public void endRegionProfileExchange(long start) {}
+
+  @Override
+  public long startDeclaredRegionCreation() {
+    return 0;
+  }
+
+  @Override
+  public void endDeclaredRegionCreation(long start) {}
+
+  @Override
+  public void endDeclaredRegions(long start) {}
+
   @Override
   public void incRegions(int inc) {}
 
@@ -316,6 +383,9 @@ public class DummyCachePerfStats extends CachePerfStats {
   @Override
   public void endQueryExecution(long executionTime) {}
 
+  @Override
+  public void endPRParallelBucketQuery(int threads) {}
+
   @Override
   public int getTxCommits() {
     return 0;
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import org.apache.geode.internal.cache.versions.VersionSource;
+import org.apache.geode.internal.cache.versions.VersionStamp;
+import org.apache.geode.internal.util.HashUtils;
+
+/**
+ * Summarizes the versions of a region's entries in a fixed number of key hash ranges. A member that
+ * recovered a region from disk, but can not use a delta GII, sends its digests with its request
+ * for a full image. The image provider computes the same digests and skips every range whose
+ * digest matches its own, so only the ranges that diverged are transferred.
+ * <p>
+ * The digest of a range is the sum of a hash of each entry's key and version, so it does not
+ * depend on the order in which entries are visited. Keys are hashed with
+ * {@link HashUtils#stableHashCode(Object)}, since both members must compute the same digests.
+ *
+ * @since Geode 1.4
+ */
+class ImageRangeDigest {
+
+  private ImageRangeDigest() {}
+
+  /**
+   * Returns the range the given key belongs to.
+   */
+  static int rangeOf(Object key, int numRanges) {
+    return rangeOf(HashUtils.stableHashCode(key), numRanges);
+  }
+
+  /**
+   * Returns the range of a key whose {@link HashUtils#stableHashCode(Object)} is already known.
+   */
+  static int rangeOf(int keyHash, int numRanges) {
+    return Math.abs(keyHash % numRanges);
+  }
+
+  /**
+   * Returns the digests of the given region's entries, or null if an entry has no version stamp
+   * and so can not be compared with another member's copy.
+   */
+  static long[] compute(DistributedRegion rgn, int numRanges) {
+    long[] digests = new long[numRanges];
+    VersionSource myId = rgn.getVersionMember();
+    for (RegionEntry re : rgn.entries.regionEntries()) {
+      if (rgn.checkEntryNotValid(re)) {
+        continue;
+      }
+      Object key = re.getKey();
+      VersionStamp stamp = re.getVersionStamp();
+      if (stamp == null) {
+        return null;
+      }
+      VersionSource id;
+      long regionVersion;
+      int entryVersion;
+      synchronized (re) {
+        id = stamp.getMemberID();
+        regionVersion = stamp.getRegionVersion();
+        entryVersion = stamp.getEntryVersion();
+      }
+      if (id == null) {
+        id = myId;
+      }
+      int keyHash = HashUtils.stableHashCode(key);
+      digests[rangeOf(keyHash, numRanges)] += entryDigest(keyHash, id, regionVersion, entryVersion);
+    }
+    return digests;
+  }
+
+  /**
+   * Returns, for each range, whether the two digests are equal.
+   */
+  static boolean[] matching(long[] local, long[] remote) {
+    boolean[] result = new boolean[local.length];
+    if (remote == null || remote.length != local.length) {
+      return result;
+    }
+    for (int i = 0; i < local.length; i++) {
+      result[i] = local[i] == remote[i];
+    }
+    return result;
+  }
+
+  static int countMatching(boolean[] matching) {
+    int count = 0;
+    for (boolean match : matching) {
+      if (match) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  static long entryDigest(Object key, VersionSource id, long regionVersion, int entryVersion) {
+    return entryDigest(HashUtils.stableHashCode(key), id, regionVersion, entryVersion);
+  }
+
+  private static long entryDigest(int keyHash, VersionSource id, long regionVersion,
+      int entryVersion) {
+    long h = keyHash;
+    h = mix(h * 31 + (id == null ? 0 : id.hashCode()));
+    h = mix(h * 31 + regionVersion);
+    return mix(h * 31 + entryVersion);
+  }
+
+  /**
+   * The 64 bit finalizer of MurmurHash3, spreads the bits of the input over the whole result.
+   */
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
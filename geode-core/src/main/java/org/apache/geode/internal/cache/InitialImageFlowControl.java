@@ -33,6 +33,7 @@ import org.apache.geode.distributed.internal.ProcessorKeeper21;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.i18n.StringId;
 import org.apache.geode.internal.DataSerializableFixedID;
+import org.apache.geode.internal.cache.control.BucketTransferThrottle;
 import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.log4j.LocalizedMessage;
@@ -48,6 +49,11 @@ import org.apache.geode.internal.logging.log4j.LocalizedMessage;
  * processed chunk. Upon receiving the FlowControlPermit message, the provider will increase the
  * number of permits available.
  *
+ * If the image is registered with a {@link BucketTransferThrottle}, registering also waits until
+ * the throttle allows another transfer, and the provider calls acquireBandwidth with the size of
+ * each chunk before sending it. Both may wait for as long as other transfers take, so throttled
+ * images must not be sent from a high priority thread.
+ *
  */
 public class InitialImageFlowControl implements MembershipListener {
   private static final Logger logger = LogService.getLogger();
@@ -59,9 +65,19 @@ public class InitialImageFlowControl implements MembershipListener {
   private final DM dm;
   private final InternalDistributedMember target;
   private final AtomicBoolean aborted = new AtomicBoolean();
+  private final BucketTransferThrottle throttle;
+  private boolean transferStarted;
 
   public static InitialImageFlowControl register(DM dm, InternalDistributedMember target) {
-    InitialImageFlowControl control = new InitialImageFlowControl(dm, target);
+    return register(dm, target, null);
+  }
+
+  /**
+   * @param throttle the throttle limiting this image, or null if it is not limited
+   */
+  public static InitialImageFlowControl register(DM dm, InternalDistributedMember target,
+      BucketTransferThrottle throttle) {
+    InitialImageFlowControl control = new InitialImageFlowControl(dm, target, throttle);
     int id = keeper.put(control);
     control.id = id;
 
@@ -69,12 +85,63 @@ public class InitialImageFlowControl implements MembershipListener {
     if (!availableIds.contains(target)) {
       control.abort();
     }
+    if (throttle != null) {
+      boolean registered = false;
+      try {
+        control.startTransfer();
+        registered = true;
+      } finally {
+        if (!registered) {
+          control.unregister();
+        }
+      }
+    }
     return control;
   }
 
-  private InitialImageFlowControl(DM dm, InternalDistributedMember target) {
+  private InitialImageFlowControl(DM dm, InternalDistributedMember target,
+      BucketTransferThrottle throttle) {
     this.dm = dm;
     this.target = target;
+    this.throttle = throttle;
+  }
+
+  /**
+   * Wait until the throttle allows this image to be sent, or the target leaves
+   */
+  private void startTransfer() {
+    boolean interrupted = false;
+    try {
+      while (!aborted.get()) {
+        checkCancellation();
+        try {
+          if (throttle.tryStartTransfer(1000)) {
+            transferStarted = true;
+            return;
+          }
+        } catch (InterruptedException e) {
+          interrupted = true; // keep looping
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Wait until the throttle allows a chunk of the given size to be sent
+   */
+  public void acquireBandwidth(int chunkBytes) {
+    if (throttle == null || aborted.get()) {
+      return;
+    }
+    try {
+      throttle.acquireBytes(chunkBytes, dm.getCancelCriterion());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
   }
 
   private void releasePermit() {
@@ -154,6 +221,10 @@ public class InitialImageFlowControl implements MembershipListener {
     dm.removeMembershipListener(this);
     keeper.remove(id);
     abort();
+    if (transferStarted) {
+      transferStarted = false;
+      throttle.endTransfer();
+    }
   }
 
   public int getId() {
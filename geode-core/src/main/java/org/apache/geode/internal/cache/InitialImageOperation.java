@@ -35,6 +35,7 @@ import org.apache.geode.distributed.internal.*;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.internal.*;
 import org.apache.geode.internal.cache.InitialImageFlowControl.FlowControlPermitMessage;
+import org.apache.geode.internal.cache.control.BucketTransferThrottle;
 import org.apache.geode.internal.cache.entries.DiskEntry;
 import org.apache.geode.internal.cache.ha.HAContainerWrapper;
 import org.apache.geode.internal.cache.persistence.DiskStoreID;
@@ -53,6 +54,7 @@ import org.apache.geode.internal.logging.log4j.LocalizedMessage;
 import org.apache.geode.internal.logging.log4j.LogMarker;
 import org.apache.geode.internal.sequencelog.EntryLogger;
 import org.apache.geode.internal.sequencelog.RegionLogger;
+import org.apache.geode.internal.util.HashUtils;
 import org.apache.geode.internal.util.ObjectIntProcedure;
 
 /**
@@ -74,12 +76,23 @@ public class InitialImageOperation {
       Integer.getInteger("GetInitialImage.chunkSize", 500 * 1024).intValue();
 
   /**
-   * Allowed number of in flight GII chunks
+   * Allowed number of in flight GII chunks. A chunk's permit is returned once the requester has
+   * applied it, so this also bounds how far the provider can get ahead of the requester.
    */
   public static int CHUNK_PERMITS =
       Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.CHUNK_PERMITS", 16)
           .intValue();
 
+  /**
+   * Number of key ranges a persistent region's recovered entries are summarized in when it has to
+   * fall back to a full GII. The image provider only sends the ranges whose digests differ from its
+   * own, see {@link ImageRangeDigest}. Computing the digests scans every entry on both members, so
+   * the default of zero always sends the whole image.
+   */
+  public static int DIGEST_RANGES =
+      Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.DIGEST_RANGES", 0)
+          .intValue();
+
   /**
    * maximum number of unfinished operations to be supported by delta GII
    */
@@ -94,6 +107,15 @@ public class InitialImageOperation {
       Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.MAX_PARALLEL_GIIS", 5)
           .intValue();
 
+  /**
+   * Maximum number of members a full image is requested from at once. When greater than one and
+   * several replicas can provide the image, the key space is split into that many slices and each
+   * slice is streamed from a different member in parallel.
+   */
+  public static int MAX_GII_SOURCES =
+      Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.MAX_GII_SOURCES", 1)
+          .intValue();
+
   /**
    * the region we are fetching
    */
@@ -124,6 +146,17 @@ public class InitialImageOperation {
    */
   protected volatile boolean isDeltaGII = false;
 
+  /**
+   * the member whose tombstone GC versions are applied when the image is requested in slices from
+   * several members
+   */
+  private volatile InternalDistributedMember primaryProvider;
+
+  /**
+   * the key ranges the image provider found identical to the recovered entries, and so did not send
+   */
+  protected volatile boolean[] matchedRanges;
+
   /**
    * for testing purposes
    */
@@ -439,7 +472,26 @@ public class InitialImageOperation {
         }
       }
 
-      ImageProcessor processor = new ImageProcessor(this.region.getSystem(), recipient);
+      this.matchedRanges = null;
+      if (m.versionVector == null && recoveredFromDisk && DIGEST_RANGES > 0
+          && this.region.concurrencyChecksEnabled && this.region.getDataPolicy().withPersistence()
+          && Version.CURRENT.equals(recipient.getVersionObject())) {
+        // both members must hash keys alike, see HashUtils.stableHashCode
+        m.rangeDigests = ImageRangeDigest.compute(this.region, DIGEST_RANGES);
+      }
+
+      List<InternalDistributedMember> sliceProviders = Collections.emptyList();
+      if (m.versionVector == null
+          && canRequestFromMultipleSources(recipient, advice, recoveredFromDisk)) {
+        sliceProviders = selectSliceProviders(dm, recipients, recipient, advice,
+            targetReinitialized, inhibitFlush.booleanValue());
+      }
+      Set<InternalDistributedMember> providers = new HashSet<InternalDistributedMember>();
+      providers.add(recipient);
+      providers.addAll(sliceProviders);
+      this.primaryProvider = sliceProviders.isEmpty() ? null : recipient;
+
+      ImageProcessor processor = new ImageProcessor(this.region.getSystem(), providers);
       dm.acquireGIIPermitUninterruptibly();
       try {
         m.processorId = processor.getProcessorId();
@@ -454,6 +506,27 @@ public class InitialImageOperation {
             LocalizedStrings.InitialImageOperation_REGION_0_REQUESTING_INITIAL_IMAGE_FROM_1,
             new Object[] {this.region.getName(), recipient}));
 
+        if (!sliceProviders.isEmpty()) {
+          m.sliceCount = providers.size();
+          m.sliceIndex = 0;
+          int sliceIndex = 1;
+          for (InternalDistributedMember sliceProvider : sliceProviders) {
+            RequestImageMessage sm = new RequestImageMessage();
+            sm.regionPath = m.regionPath;
+            sm.keysOnly = false;
+            sm.targetReinitialized = targetReinitialized;
+            sm.processorId = m.processorId;
+            sm.severeAlertEnabled = m.severeAlertEnabled;
+            sm.sliceCount = m.sliceCount;
+            sm.sliceIndex = sliceIndex++;
+            sm.setRecipient(sliceProvider);
+            logger.info(LocalizedMessage.create(
+                LocalizedStrings.InitialImageOperation_REGION_0_REQUESTING_SLICE_1_OF_2_FROM_3,
+                new Object[] {this.region.getName(), sm.sliceIndex, sm.sliceCount,
+                    sliceProvider}));
+            dm.putOutgoing(sm);
+          }
+        }
         dm.putOutgoing(m);
         this.region.cache.getCancelCriterion().checkCancelInProgress(null);
         if (internalAfterSentRequestImage != null
@@ -463,6 +536,10 @@ public class InitialImageOperation {
         try {
           processor.waitForRepliesUninterruptibly();
 
+          if (this.gotImage && this.matchedRanges != null) {
+            keepRecoveredEntriesInMatchedRanges(recipient);
+          }
+
           // review unfinished keys and remove untouched entries
           if (this.region.getDataPolicy().withPersistence() && keysOfUnfinishedOps != null
               && !keysOfUnfinishedOps.isEmpty()) {
@@ -559,6 +636,94 @@ public class InitialImageOperation {
     return reportGIIStatus();
   }
 
+  /**
+   * Marks the recovered entries in the key ranges the image provider did not send as received, so
+   * they are kept when the remaining recovered entries are destroyed after the full GII.
+   */
+  private void keepRecoveredEntriesInMatchedRanges(InternalDistributedMember provider) {
+    final boolean[] matched = this.matchedRanges;
+    final DiskRegion dr = this.region.getDiskRegion();
+    if (dr == null) {
+      return;
+    }
+    int kept = 0;
+    for (RegionEntry re : this.entries.regionEntries()) {
+      if (matched[ImageRangeDigest.rangeOf(re.getKey(), matched.length)]
+          && dr.testIsRecoveredAndClear(re)) {
+        kept++;
+      }
+    }
+    logger.info(LocalizedMessage.create(
+        LocalizedStrings.InitialImageOperation_REGION_0_MATCHED_1_OF_2_KEY_RANGES_WITH_3,
+        new Object[] {this.region.getName(), ImageRangeDigest.countMatching(matched),
+            matched.length, provider, kept}));
+  }
+
+  /**
+   * Returns true if a full image of the region may be requested in slices from several members.
+   * Concurrency checks are required so that the version vectors of all providers can be combined
+   * and concurrent updates to a key are resolved by its version tag. Every provider must run this
+   * member's version, see {@link RequestImageMessage#isInSlice(Object)}.
+   */
+  private boolean canRequestFromMultipleSources(InternalDistributedMember primary,
+      CacheDistributionAdvisor.InitialImageAdvice advice, boolean recoveredFromDisk) {
+    return MAX_GII_SOURCES > 1 && !recoveredFromDisk && this.region.concurrencyChecksEnabled
+        && !(this.region instanceof HARegion) && !(this.region instanceof BucketRegionQueue)
+        && !this.region.isUsedForSerialGatewaySenderQueue() && advice != null
+        && advice.replicates.contains(primary)
+        && Version.CURRENT.equals(primary.getVersionObject());
+  }
+
+  /**
+   * Chooses up to {@link #MAX_GII_SOURCES} - 1 replicas, besides the primary provider, to stream
+   * slices of the image from. Each chosen member's version vector is applied to the region and its
+   * state is flushed the same way as the primary provider's. Members that can not be prepared are
+   * left out.
+   */
+  private List<InternalDistributedMember> selectSliceProviders(DistributionManager dm,
+      List recipients, InternalDistributedMember primary,
+      CacheDistributionAdvisor.InitialImageAdvice advice, boolean targetReinitialized,
+      boolean inhibitFlush) {
+    List<InternalDistributedMember> sliceProviders = new ArrayList<InternalDistributedMember>();
+    for (Object o : recipients) {
+      if (sliceProviders.size() >= MAX_GII_SOURCES - 1) {
+        break;
+      }
+      InternalDistributedMember candidate = (InternalDistributedMember) o;
+      if (candidate.equals(primary) || !advice.replicates.contains(candidate)
+          || !Version.CURRENT.equals(candidate.getVersionObject())) {
+        continue;
+      }
+      RegionVersionVector rvv = getRVVFromProvider(dm, candidate, targetReinitialized);
+      if (rvv == null) {
+        continue;
+      }
+      if (!inhibitFlush && !this.region.doesNotDistribute()) {
+        final StateFlushOperation sf = new StateFlushOperation(this.region);
+        final Set<InternalDistributedMember> r = new HashSet<InternalDistributedMember>();
+        r.addAll(advice.replicates);
+        r.addAll(advice.preloaded);
+        r.addAll(advice.others);
+        r.addAll(advice.empties);
+        r.addAll(advice.uninitialized);
+        int processorType = targetReinitialized ? DistributionManager.WAITING_POOL_EXECUTOR
+            : DistributionManager.HIGH_PRIORITY_EXECUTOR;
+        try {
+          if (!sf.flush(r, candidate, processorType, false)) {
+            continue;
+          }
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          this.region.getCancelCriterion().checkCancelInProgress(ie);
+          break;
+        }
+      }
+      saveReceivedRVV(rvv);
+      sliceProviders.add(candidate);
+    }
+    return sliceProviders;
+  }
+
   /**
    * synchronize with another member (delta GII from it). If lostMember is not null, then only
    * changes that it made to the image provider will be sent back. Otherwise all changes made to the
@@ -1114,6 +1279,11 @@ public class InitialImageOperation {
      */
     private final AtomicInteger msgsBeingProcessed = new AtomicInteger();
 
+    /**
+     * number of providers that have not yet sent their complete slice of the image
+     */
+    private final AtomicInteger slicesRemaining;
+
     @Override
     public boolean isSevereAlertProcessingEnabled() {
       return isSevereAlertProcessingForced();
@@ -1212,10 +1382,12 @@ public class InitialImageOperation {
     public ImageProcessor(final InternalDistributedSystem system,
         InternalDistributedMember member) {
       super(system, member);
+      this.slicesRemaining = new AtomicInteger(1);
     }
 
     public ImageProcessor(InternalDistributedSystem system, Set members) {
       super(system, members);
+      this.slicesRemaining = new AtomicInteger(members.size());
     }
 
     @Override
@@ -1262,7 +1434,10 @@ public class InitialImageOperation {
               // bug 37461: don't allow abort flag to be reset
               boolean isAborted = this.abort; // volatile fetch
               if (!isAborted) {
+                CachePerfStats stats = region.getCachePerfStats();
+                long chunkStart = stats.startGetInitialImageChunk(m.getTimestamp());
                 isAborted = !processChunk(m.entries, m.getSender(), m.remoteVersion);
+                stats.endGetInitialImageChunk(chunkStart);
                 if (isAborted) {
                   this.abort = true; // volatile store
                 } else {
@@ -1283,7 +1458,8 @@ public class InitialImageOperation {
                       "processChunk is aborted for region {}, rvv is {}. Do full gii next time.",
                       InitialImageOperation.this.region.getFullPath(),
                       InitialImageOperation.this.region.getVersionVector());
-                } else {
+                } else if (this.slicesRemaining.decrementAndGet() == 0) {
+                  // the image is complete once every provider has sent its slice
                   InitialImageOperation.this.gotImage = true;
                 }
                 if (m.isDeltaGII) {
@@ -1324,7 +1500,12 @@ public class InitialImageOperation {
             InitialImageOperation.this.rcvd_holderToSync = m.holderToSend;
           }
 
-          if (m.gcVersions != null) {
+          if (m.matchedRanges != null) {
+            InitialImageOperation.this.matchedRanges = m.matchedRanges;
+          }
+
+          if (m.gcVersions != null && (primaryProvider == null
+              || primaryProvider.equals(m.getSender()))) {
             InitialImageOperation.this.gcVersions = m.gcVersions;
           }
         }
@@ -1525,8 +1706,36 @@ public class InitialImageOperation {
     /* key list for unfinished operations */
     protected Set unfinishedKeys;
 
+    /**
+     * The number of providers the requester split the image across. If greater than one this
+     * provider only sends the entries whose keys fall into {@link #sliceIndex}.
+     */
+    protected int sliceCount = 1;
+
+    /**
+     * The slice of the key space this provider is asked for, see {@link #isInSlice(Object)}
+     */
+    protected int sliceIndex;
+
+    /**
+     * Digests of the requester's recovered entries, see {@link ImageRangeDigest}. Null if the
+     * requester has no entries to compare.
+     */
+    protected long[] rangeDigests;
+
+    /**
+     * The key ranges whose digests match the requester's and so are not sent
+     */
+    private transient boolean[] matchingRanges;
+
+    /**
+     * True once this request has been handed to the waiting pool, see
+     * {@link #isThrottledBucketImage(DistributionManager)}
+     */
+    private transient boolean onWaitingPool;
+
     /** The versions in which this message was modified */
-    private static final Version[] dsfidVersions = null;
+    private static final Version[] dsfidVersions = new Version[] {Version.GEODE_140};
 
     @Override
     public int getProcessorId() {
@@ -1562,8 +1771,33 @@ public class InitialImageOperation {
       return false;
     }
 
+    /**
+     * Returns true if this requests a bucket image this member's bucket transfer throttle limits.
+     * Sending it may wait for a transfer slot or for bandwidth for as long as other transfers take,
+     * so it must not hold a high priority thread while doing so.
+     */
+    boolean isThrottledBucketImage(DistributionManager dm) {
+      if (this.targetReinitialized || this.onWaitingPool
+          || !PartitionedRegionHelper.isBucketRegion(this.regionPath)) {
+        return false;
+      }
+      InternalCache cache = dm.getCache();
+      return cache != null
+          && cache.getInternalResourceManager().getBucketTransferThrottle().isLimited();
+    }
+
     @Override
     protected void process(final DistributionManager dm) {
+      if (isThrottledBucketImage(dm)) {
+        this.onWaitingPool = true;
+        dm.getWaitingThreadPool().execute(new Runnable() {
+          public void run() {
+            process(dm);
+          }
+        });
+        return;
+      }
+
       final boolean isGiiDebugEnabled = logger.isTraceEnabled(LogMarker.GII);
 
       Throwable thr = null;
@@ -1634,8 +1868,13 @@ public class InitialImageOperation {
               rgn.getFullPath());
         }
 
+        // bucket images are sent within this member's bucket transfer limits
+        BucketTransferThrottle throttle = null;
+        if (rgn instanceof BucketRegion) {
+          throttle = rgn.getCache().getInternalResourceManager().getBucketTransferThrottle();
+        }
         final InitialImageFlowControl flowControl =
-            InitialImageFlowControl.register(dm, getSender());
+            InitialImageFlowControl.register(dm, getSender(), throttle);
 
         if (rgn instanceof HARegion) {
           ((HARegion) rgn).startServingGIIRequest();
@@ -1704,6 +1943,19 @@ public class InitialImageOperation {
               }
             }
           }
+          if (this.rangeDigests != null && this.versionVector == null
+              && rgn.concurrencyChecksEnabled
+              && Version.CURRENT.equals(getSender().getVersionObject())) {
+            long[] localDigests = ImageRangeDigest.compute(rgn, this.rangeDigests.length);
+            if (localDigests != null) {
+              this.matchingRanges = ImageRangeDigest.matching(localDigests, this.rangeDigests);
+              if (isGiiDebugEnabled) {
+                logger.trace(LogMarker.GII, "{} of {} key ranges match the requester's digests",
+                    ImageRangeDigest.countMatching(this.matchingRanges), this.rangeDigests.length);
+              }
+            }
+          }
+          final boolean[] matchedRanges = this.matchingRanges;
           final RegionVersionHolder holderToSend = holderToSync;
           boolean finished = chunkEntries(rgn, CHUNK_SIZE_IN_BYTES, !keysOnly, versionVector,
               (HashSet) this.unfinishedKeys, flowControl, new ObjectIntProcedure() {
@@ -1739,7 +1991,8 @@ public class InitialImageOperation {
                         gcVersions = rgn.getVersionVector().getMemberToGCVersion();
                       }
                       replyWithData(dm, entries, seriesNum, msgNum++, numSeries, this.last, fid,
-                          versionVector != null, holderToSend, gcVersions);
+                          versionVector != null, holderToSend, gcVersions,
+                          this.last ? matchedRanges : null);
                     }
                     return !abort;
                   } catch (CancelException e) {
@@ -1823,7 +2076,7 @@ public class InitialImageOperation {
           }
           // null chunk signals receiver that we are aborting
           ImageReplyMessage.send(getSender(), processorId, rex, dm, null, 0, 0, 1, true, 0, false,
-              null, null);
+              null, null, null);
         } // !success
 
         if (internalAfterSentImageReply != null
@@ -1889,6 +2142,17 @@ public class InitialImageOperation {
               && it.hasNext()) {
             RegionEntry mapEntry = (RegionEntry) it.next();
             Object key = mapEntry.getKey();
+            if (this.sliceCount > 1 || this.matchingRanges != null) {
+              // hash the key once for both checks, it may have to be serialized
+              int keyHash = HashUtils.stableHashCode(key);
+              if (!isInSlice(keyHash)) { // another provider is sending this key
+                continue;
+              }
+              if (this.matchingRanges != null && this.matchingRanges[ImageRangeDigest
+                  .rangeOf(keyHash, this.matchingRanges.length)]) { // the requester has this range
+                continue;
+              }
+            }
             if (rgn.checkEntryNotValid(mapEntry)) { // entry was just removed
               continue;
             }
@@ -1959,6 +2223,8 @@ public class InitialImageOperation {
             currentChunkSize += entry.calcSerializedSize();
           }
 
+          flowControl.acquireBandwidth(currentChunkSize);
+
           // send 1 for last message if no more data
           int lastMsg = it.hasNext() ? 0 : 1;
           keepGoing = proc.executeWith(chunkEntries, lastMsg);
@@ -1986,14 +2252,16 @@ public class InitialImageOperation {
     private void replyNoData(DistributionManager dm, boolean isDeltaGII,
         Map<VersionSource, Long> gcVersions) {
       ImageReplyMessage.send(getSender(), this.processorId, null, dm, null, 0, 0, 1, true, 0,
-          isDeltaGII, null, gcVersions);
+          isDeltaGII, null, gcVersions, null);
     }
 
     protected void replyWithData(DistributionManager dm, List entries, int seriesNum, int msgNum,
         int numSeries, boolean lastInSeries, int flowControlId, boolean isDeltaGII,
-        RegionVersionHolder holderToSend, Map<VersionSource, Long> gcVersions) {
+        RegionVersionHolder holderToSend, Map<VersionSource, Long> gcVersions,
+        boolean[] matchedRanges) {
       ImageReplyMessage.send(getSender(), this.processorId, null, dm, entries, seriesNum, msgNum,
-          numSeries, lastInSeries, flowControlId, isDeltaGII, holderToSend, gcVersions);
+          numSeries, lastInSeries, flowControlId, isDeltaGII, holderToSend, gcVersions,
+          matchedRanges);
     }
 
 
@@ -2020,12 +2288,39 @@ public class InitialImageOperation {
       // ...end of abortTest code
     }
 
+    /**
+     * Returns true if the given key belongs to the slice of the image requested from this provider.
+     * Keys are assigned to slices by {@link HashUtils#stableHashCode(Object)}, so every provider
+     * assigns a key to the same slice even if the key's own hash code differs between JVMs. That
+     * hash may depend on how the key is serialized, so slices are only requested from members
+     * running the requester's version; otherwise providers could disagree on a key's slice and no
+     * provider would send it.
+     */
+    boolean isInSlice(Object key) {
+      if (this.sliceCount <= 1) {
+        return true;
+      }
+      return isInSlice(HashUtils.stableHashCode(key));
+    }
+
+    private boolean isInSlice(int keyHash) {
+      return this.sliceCount <= 1 || Math.abs(keyHash % this.sliceCount) == this.sliceIndex;
+    }
+
     public int getDSFID() {
       return REQUEST_IMAGE_MESSAGE;
     }
 
     @Override
     public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+      fromDataPre_GEODE_1_4_0_0(in);
+      this.sliceCount = in.readInt();
+      this.sliceIndex = in.readInt();
+      this.rangeDigests = DataSerializer.readLongArray(in);
+    }
+
+    public void fromDataPre_GEODE_1_4_0_0(DataInput in)
+        throws IOException, ClassNotFoundException {
       super.fromData(in);
       this.regionPath = DataSerializer.readString(in);
       this.processorId = in.readInt();
@@ -2040,6 +2335,13 @@ public class InitialImageOperation {
 
     @Override
     public void toData(DataOutput out) throws IOException {
+      toDataPre_GEODE_1_4_0_0(out);
+      out.writeInt(this.sliceCount);
+      out.writeInt(this.sliceIndex);
+      DataSerializer.writeLongArray(this.rangeDigests, out);
+    }
+
+    public void toDataPre_GEODE_1_4_0_0(DataOutput out) throws IOException {
       super.toData(out);
       DataSerializer.writeString(this.regionPath, out);
       out.writeInt(this.processorId);
@@ -2079,6 +2381,12 @@ public class InitialImageOperation {
       }
       buff.append("; versionVector=").append(versionVector);
       buff.append("; unfinished keys=").append(unfinishedKeys);
+      if (this.sliceCount > 1) {
+        buff.append("; slice=").append(this.sliceIndex).append(" of ").append(this.sliceCount);
+      }
+      if (this.rangeDigests != null) {
+        buff.append("; digestRanges=").append(this.rangeDigests.length);
+      }
       buff.append(")");
       return buff.toString();
     }
@@ -2682,11 +2990,17 @@ public class InitialImageOperation {
      */
     private Map<VersionSource, Long> gcVersions;
 
+    /**
+     * The key ranges whose entries were not sent because the requester's digests showed it already
+     * has them. Sent with the last chunk.
+     */
+    private boolean[] matchedRanges;
+
     /** the {@link Version} of the remote peer */
     private transient Version remoteVersion;
 
     /** The versions in which this message was modified */
-    private static final Version[] dsfidVersions = null;
+    private static final Version[] dsfidVersions = new Version[] {Version.GEODE_140};
 
     @Override
     public boolean getInlineProcess() {
@@ -2703,11 +3017,13 @@ public class InitialImageOperation {
      * @param lastInSeries if this is the last message in this series
      * @param isDeltaGII if this message is for deltaGII
      * @param holderToSend higher version holder to sync for the lost member
+     * @param matchedRanges key ranges that were skipped because the requester already has them
      */
     public static void send(InternalDistributedMember recipient, int processorId,
         ReplyException exception, DistributionManager dm, List entries, int seriesNum, int msgNum,
         int numSeries, boolean lastInSeries, int flowControlId, boolean isDeltaGII,
-        RegionVersionHolder holderToSend, Map<VersionSource, Long> gcVersions) {
+        RegionVersionHolder holderToSend, Map<VersionSource, Long> gcVersions,
+        boolean[] matchedRanges) {
       ImageReplyMessage m = new ImageReplyMessage();
 
       m.processorId = processorId;
@@ -2728,6 +3044,7 @@ public class InitialImageOperation {
       m.holderToSend = holderToSend;
       m.hasHolderToSend = (holderToSend != null);
       m.gcVersions = gcVersions;
+      m.matchedRanges = matchedRanges;
       dm.putOutgoing(m);
     }
 
@@ -2762,6 +3079,12 @@ public class InitialImageOperation {
 
     @Override
     public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+      fromDataPre_GEODE_1_4_0_0(in);
+      this.matchedRanges = DataSerializer.readBooleanArray(in);
+    }
+
+    public void fromDataPre_GEODE_1_4_0_0(DataInput in)
+        throws IOException, ClassNotFoundException {
       super.fromData(in);
       ArrayList list = DataSerializer.readArrayList(in);
       Object listData = null;
@@ -2798,6 +3121,11 @@ public class InitialImageOperation {
 
     @Override
     public void toData(DataOutput out) throws IOException {
+      toDataPre_GEODE_1_4_0_0(out);
+      DataSerializer.writeBooleanArray(this.matchedRanges, out);
+    }
+
+    public void toDataPre_GEODE_1_4_0_0(DataOutput out) throws IOException {
       super.toData(out);
       if (this.entries instanceof InitialImageVersionedEntryList) {
         ArrayList list = new ArrayList(1);
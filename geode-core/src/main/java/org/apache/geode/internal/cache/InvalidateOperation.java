@@ -115,6 +115,11 @@ public class InvalidateOperation extends DistributedCacheOperation {
       return ev;
     }
 
+    @Override
+    public Object getOrderingKey(DistributionManager dm) {
+      return _getOrderingKey(dm, this.key);
+    }
+
     @Override
     protected void appendFields(StringBuilder buff) {
       super.appendFields(buff);
@@ -170,6 +175,12 @@ public class InvalidateOperation extends DistributedCacheOperation {
       return event;
     }
 
+    @Override
+    public Object getOrderingKey(DistributionManager dm) {
+      // client events must stay in order across keys, see _getOrderingKey
+      return null;
+    }
+
     @Override
     protected void appendFields(StringBuilder buff) {
       super.appendFields(buff);
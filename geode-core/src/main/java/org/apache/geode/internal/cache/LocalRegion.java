@@ -11110,6 +11110,25 @@ public class LocalRegion extends AbstractRegion implements InternalRegion, Loade
       this.cachePerfStats.incGetInitialImageKeysReceived();
     }
 
+    @Override
+    public long startGetInitialImageChunk(long received) {
+      long start = getStatTime();
+      if (enableClockStats && received != 0) {
+        this.stats.incLong(getInitialImageChunkQueueTimeId, start - received);
+      }
+      this.cachePerfStats.startGetInitialImageChunk(received);
+      return start;
+    }
+
+    @Override
+    public void endGetInitialImageChunk(long start) {
+      if (enableClockStats) {
+        this.stats.incLong(getInitialImageChunkApplyTimeId, getStatTime() - start);
+      }
+      this.stats.incInt(getInitialImageChunksAppliedId, 1);
+      this.cachePerfStats.endGetInitialImageChunk(start);
+    }
+
     @Override
     public long startIndexUpdate() {
       this.stats.incInt(indexUpdateInProgressId, 1);
@@ -11375,6 +11394,13 @@ public class LocalRegion extends AbstractRegion implements InternalRegion, Loade
       this.cachePerfStats.incPRQueryRetries();
     }
 
+    @Override
+    public void endPRParallelBucketQuery(int threads) {
+      this.stats.incLong(partitionedRegionParallelBucketQueriesId, 1);
+      this.stats.incLong(partitionedRegionParallelBucketQueryThreadsId, threads);
+      this.cachePerfStats.endPRParallelBucketQuery(threads);
+    }
+
     @Override
     public void incMetaDataRefreshCount() {
       this.stats.incLong(metaDataRefreshCountId, 1);
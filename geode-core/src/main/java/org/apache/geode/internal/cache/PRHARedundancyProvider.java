@@ -1941,6 +1941,9 @@ public class PRHARedundancyProvider {
 
 
       PRLoad prLoad = loadProbe.getLoad(pr);
+      for (BucketRegion br : ds.getAllLocalBucketRegions()) {
+        prLoad.setOperationRate(br.getId(), br.getOperationRate());
+      }
       localDetails =
           new PartitionMemberInfoImpl(localMember, pr.getLocalMaxMemory() * (1024L * 1024L), size,
               ds.getBucketsManaged(), ds.getNumberOfPrimaryBucketsManaged(), prLoad, bucketSizes);
@@ -24,14 +24,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.Logger;
 
@@ -41,7 +44,9 @@ import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.CompiledGroupBySelect;
 import org.apache.geode.cache.query.internal.CompiledSelect;
+import org.apache.geode.cache.query.internal.CompiledValue;
 import org.apache.geode.cache.query.internal.DefaultQuery;
 import org.apache.geode.cache.query.internal.ExecutionContext;
 import org.apache.geode.cache.query.internal.IndexTrackingQueryObserver;
@@ -59,6 +64,7 @@ import org.apache.geode.internal.cache.PartitionedRegionQueryEvaluator.PRQueryRe
 import org.apache.geode.internal.cache.execute.BucketMovedException;
 import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.logging.LoggingThreadGroup;
 
 /**
  * This class takes the responsibility of executing the query on a data store for the buckets
@@ -71,10 +77,23 @@ import org.apache.geode.internal.logging.LogService;
 public class PRQueryProcessor {
   private static final Logger logger = LogService.getLogger();
 
-  static final int BUCKET_QUERY_TIMEOUT = 60;
-
+  /**
+   * The number of threads used to query the local buckets of a partitioned region. Defaults to the
+   * number of available processors. Setting it to 1 queries the buckets one after another on the
+   * thread that received the query.
+   */
   public static final int NUM_THREADS =
-      getInteger(DistributionConfig.GEMFIRE_PREFIX + "PRQueryProcessor.numThreads", 1);
+      getInteger(DistributionConfig.GEMFIRE_PREFIX + "PRQueryProcessor.numThreads",
+          Runtime.getRuntime().availableProcessors());
+
+  /**
+   * The maximum number of threads a single query may use at once to query local buckets. Defaults
+   * to {@link #NUM_THREADS}.
+   */
+  public static final int MAX_THREADS_PER_QUERY =
+      getInteger(DistributionConfig.GEMFIRE_PREFIX + "PRQueryProcessor.maxThreadsPerQuery", 0);
+
+  static final int QUERY_TIMEOUT = 300;
 
   /* For Test purpose */
   public static int TEST_NUM_THREADS = 0;
@@ -87,12 +106,13 @@ public class PRQueryProcessor {
   private volatile int numBucketsProcessed = 0;
   private volatile ObjectType resultType = null;
 
-  private boolean isIndexUsedForLocalQuery = false;
+  private volatile boolean isIndexUsedForLocalQuery = false;
 
   public PRQueryProcessor(PartitionedRegionDataStore prDS, DefaultQuery query, Object[] parameters,
       List<Integer> buckets) {
     Assert.assertTrue(!buckets.isEmpty(), "bucket list can not be empty. ");
     this._prds = prDS;
+    this.pr = prDS.partitionedRegion;
     this._bucketsToQuery = buckets;
     prDS.partitionedRegion.getCache().getLocalQueryService();
     this.query = query;
@@ -126,12 +146,6 @@ public class PRQueryProcessor {
    */
   public boolean executeQuery(Collection<Collection> resultCollector)
       throws QueryException, InterruptedException, ForceReattemptException {
-    // Set indexInfoMap to this threads observer.
-    // QueryObserver observer = QueryObserverHolder.getInstance();
-    // if(observer != null && observer instanceof IndexTrackingQueryObserver){
-    // ((IndexTrackingQueryObserver)observer).setIndexInfo(resultCollector.getIndexInfoMap());
-    // }
-
     if (NUM_THREADS > 1 || TEST_NUM_THREADS > 1) {
       executeWithThreadPool(resultCollector);
     } else {
@@ -145,78 +159,134 @@ public class PRQueryProcessor {
     if (Thread.interrupted())
       throw new InterruptedException();
 
-    java.util.List callableTasks = buildCallableTaskList(resultCollector);
+    // The buckets are queried on the executor's threads. They are given this thread's pdx
+    // read-serialized flag, and the indexes they use are added to this thread's index information
+    // so they are reported when the query is traced.
+    boolean pdxReadSerialized = DefaultQuery.getPdxReadSerialized();
+    IndexTrackingQueryObserver indexObserver = null;
+    Map indexInfo = null;
+    QueryObserver observer = QueryObserverHolder.getInstance();
+    if (observer instanceof IndexTrackingQueryObserver) {
+      indexObserver = (IndexTrackingQueryObserver) observer;
+      indexInfo = indexObserver.getOrCreateUsedIndexes();
+    }
+
+    List<QueryTask> tasks =
+        buildCallableTaskList(resultCollector, pdxReadSerialized, indexObserver, indexInfo);
     ExecutorService execService = PRQueryExecutor.getExecutorService();
 
     boolean reattemptNeeded = false;
     ForceReattemptException fre = null;
 
-    if (callableTasks != null && !callableTasks.isEmpty()) {
-      List futures = null;
-      try {
-        futures = execService.invokeAll(callableTasks, 300, TimeUnit.SECONDS);
-      } catch (RejectedExecutionException rejectedExecutionEx) {
-        throw rejectedExecutionEx;
-      }
-
-      if (futures != null) {
-        Iterator itr = futures.iterator();
-        while (itr.hasNext() && !execService.isShutdown() && !execService.isTerminated()) {
-          // this._prds.partitionedRegion.checkReadiness();
-          Future fut = (Future) itr.next();
-          QueryTask.BucketQueryResult bqr = null;
-
-          try {
-            bqr = (QueryTask.BucketQueryResult) fut.get(BUCKET_QUERY_TIMEOUT, TimeUnit.SECONDS);
-            // if (retry.booleanValue()) {
-            // reattemptNeeded = true;
-            // fre = (ForceReattemptException)bqr.getException();
-            // } else {
-            bqr.handleAndThrowException(); // handles an exception if there was one,
-            // otherwise, the results have already been added to the resultQueue
-            // }
-            if (bqr.retry) {
-              reattemptNeeded = true;
-            }
+    if (!tasks.isEmpty()) {
+      // Each bucket applies the LIMIT on its own, so once enough results have been collected the
+      // remaining buckets are not queried and the results are trimmed to the limit.
+      int concatenatedLimit =
+          PartitionedRegionQueryEvaluator.getConcatenatedResultsLimit(this.query, this.parameters);
+      BucketScan scan = new BucketScan(tasks, execService, resultCollector, concatenatedLimit);
+      scan.start(getThreadsPerQuery(tasks.size()));
+      if (!scan.await(QUERY_TIMEOUT, TimeUnit.SECONDS)) {
+        scan.cancel();
+        throw new InternalGemFireException(
+            LocalizedStrings.PRQueryProcessor_TIMED_OUT_WHILE_EXECUTING_QUERY_TIME_EXCEEDED_0
+                .toLocalizedString(QUERY_TIMEOUT));
+      }
+      this.pr.getCachePerfStats().endPRParallelBucketQuery(scan.getMaxActiveThreads());
 
-          } catch (TimeoutException e) {
-            throw new InternalGemFireException(
-                LocalizedStrings.PRQueryProcessor_TIMED_OUT_WHILE_EXECUTING_QUERY_TIME_EXCEEDED_0
-                    .toLocalizedString(BUCKET_QUERY_TIMEOUT),
-                e);
-          } catch (ExecutionException ee) {
-            Throwable cause = ee.getCause();
-            if (cause instanceof QueryException) {
-              throw (QueryException) cause;
-            } else {
-              throw new InternalGemFireException(
-                  LocalizedStrings.PRQueryProcessor_GOT_UNEXPECTED_EXCEPTION_WHILE_EXECUTING_QUERY_ON_PARTITIONED_REGION_BUCKET
-                      .toLocalizedString(),
-                  cause);
-            }
-          }
+      for (BucketQueryResult bqr : scan.getResults()) {
+        if (bqr.isReattemptNeeded()) {
+          reattemptNeeded = true;
+          fre = (ForceReattemptException) bqr.getException();
+        } else {
+          // handles an exception if there was one,
+          // otherwise, the results have already been added to the resultQueue
+          bqr.handleAndThrowException();
         }
+      }
 
-        CompiledSelect cs = this.query.getSimpleSelect();
+      if (!scan.isComplete() && !reattemptNeeded) {
+        // the executor was shut down before every bucket was queried
+        this.pr.checkReadiness();
+        throw new ForceReattemptException(
+            "Query on " + this.pr.getFullPath() + " could not query all of its local buckets");
+      }
 
-        if (cs != null && (cs.isOrderBy() || cs.isGroupBy())) {
-          ExecutionContext context = new QueryExecutionContext(this.parameters, pr.getCache());
-          int limit = this.query.getLimit(parameters);
-          Collection mergedResults = coalesceOrderedResults(resultCollector, context, cs, limit);
-          resultCollector.clear();
-          resultCollector.add(mergedResults);
-        }
+      if (!reattemptNeeded && concatenatedLimit >= 0) {
+        trimToLimit(resultCollector, concatenatedLimit);
+      }
+
+      CompiledSelect cs = this.query.getSimpleSelect();
+
+      if (!reattemptNeeded && cs != null && (cs.isOrderBy() || cs.isGroupBy())) {
+        ExecutionContext context = new QueryExecutionContext(this.parameters, pr.getCache());
+        int limit = this.query.getLimit(parameters);
+        Collection mergedResults = coalesceOrderedResults(resultCollector, context, cs, limit);
+        resultCollector.clear();
+        resultCollector.add(mergedResults);
       }
     }
 
-    if (execService == null || execService.isShutdown() || execService.isTerminated()) {
-      this._prds.partitionedRegion.checkReadiness();
+    if (execService.isShutdown() || execService.isTerminated()) {
+      this.pr.checkReadiness();
     }
 
     if (reattemptNeeded) {
       throw fre;
     }
+  }
+
+  /**
+   * Returns the number of results in the collections of the result collector.
+   */
+  static int countResults(Collection<Collection> resultCollector) {
+    int count = 0;
+    synchronized (resultCollector) {
+      for (Collection results : resultCollector) {
+        count += results.size();
+      }
+    }
+    return count;
+  }
 
+  /**
+   * Drops the results beyond the limit from the result collector, keeping the results of the
+   * buckets in the order they were added.
+   */
+  static void trimToLimit(Collection<Collection> resultCollector, int limit) {
+    if (countResults(resultCollector) <= limit) {
+      return;
+    }
+    List<Collection> trimmed = new ArrayList<>(resultCollector.size());
+    int remaining = limit;
+    for (Collection results : resultCollector) {
+      if (remaining == 0) {
+        break;
+      }
+      if (results.size() <= remaining) {
+        trimmed.add(results);
+        remaining -= results.size();
+      } else {
+        List<Object> partial = new ArrayList<>(remaining);
+        for (Iterator<?> iterator = results.iterator(); partial.size() < remaining;) {
+          partial.add(iterator.next());
+        }
+        trimmed.add(partial);
+        remaining = 0;
+      }
+    }
+    resultCollector.clear();
+    resultCollector.addAll(trimmed);
+  }
+
+  /**
+   * Returns how many threads of the executor one query may use for the given number of buckets.
+   */
+  private static int getThreadsPerQuery(int numBuckets) {
+    int threads = TEST_NUM_THREADS > 1 ? TEST_NUM_THREADS : NUM_THREADS;
+    if (MAX_THREADS_PER_QUERY > 0) {
+      threads = Math.min(threads, MAX_THREADS_PER_QUERY);
+    }
+    return Math.max(1, Math.min(threads, numBuckets));
   }
 
   /**
@@ -358,6 +428,13 @@ public class PRQueryProcessor {
       }
     }
 
+    if (cs.getType() == CompiledValue.GROUP_BY_SELECT) {
+      // merge without the limit, which applies to the groups rather than to the partial results
+      NWayMergeResults mergedResults = new NWayMergeResults(sortedResults, cs.isDistinct(), -1,
+          cs.getOrderByAttrs(), context, cs.getElementTypeForOrderByQueries());
+      return ((CompiledGroupBySelect) cs).combineBucketResults(mergedResults);
+    }
+
     return new NWayMergeResults(sortedResults, cs.isDistinct(), limit, cs.getOrderByAttrs(),
         context, cs.getElementTypeForOrderByQueries());
 
@@ -387,7 +464,10 @@ public class PRQueryProcessor {
         this.resultType = ((SelectResults) results).getCollectionType().getElementType();
         resultCollector.add((Collection) results);
       }
-      isIndexUsedForLocalQuery = ((QueryExecutionContext) context).isIndexUsed();
+      if (((QueryExecutionContext) context).isIndexUsed()) {
+        // buckets may be queried concurrently, an index used on any of them counts
+        isIndexUsedForLocalQuery = true;
+      }
 
     } catch (BucketMovedException bme) {
       if (logger.isDebugEnabled()) {
@@ -412,11 +492,12 @@ public class PRQueryProcessor {
     }
   }
 
-  private List buildCallableTaskList(Collection<Collection> resultsColl) {
-    List callableTasks = new ArrayList();
-    for (Iterator itr = _bucketsToQuery.iterator(); itr.hasNext();) {
-      Integer bId = (Integer) itr.next();
-      callableTasks.add(new QueryTask(this.query, this.parameters, _prds, bId, resultsColl));
+  private List<QueryTask> buildCallableTaskList(Collection<Collection> resultsColl,
+      boolean pdxReadSerialized, IndexTrackingQueryObserver indexObserver, Map indexInfo) {
+    List<QueryTask> callableTasks = new ArrayList<>(_bucketsToQuery.size());
+    for (Integer bId : _bucketsToQuery) {
+      callableTasks.add(new QueryTask(this.query, this.parameters, _prds, bId, resultsColl,
+          pdxReadSerialized, indexObserver, indexInfo));
     }
     return callableTasks;
   }
@@ -472,7 +553,19 @@ public class PRQueryProcessor {
     static synchronized void initializeExecutorService() {
       if (execService == null || execService.isShutdown() || execService.isTerminated()) {
         int numThreads = (TEST_NUM_THREADS > 1 ? TEST_NUM_THREADS : NUM_THREADS);
-        execService = Executors.newFixedThreadPool(numThreads);
+        final ThreadGroup group =
+            LoggingThreadGroup.createThreadGroup("PRQueryProcessor Threads", logger);
+        ThreadFactory threadFactory = new ThreadFactory() {
+          private final AtomicInteger threadId = new AtomicInteger();
+
+          public Thread newThread(Runnable r) {
+            Thread thread =
+                new Thread(group, r, "PRQueryProcessor Thread " + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        };
+        execService = Executors.newFixedThreadPool(numThreads, threadFactory);
       }
     }
   }
@@ -519,38 +612,150 @@ public class PRQueryProcessor {
     }
   }
 
+  /**
+   * Queries the buckets of one query on the shared {@link PRQueryExecutor}. The scan never has more
+   * than the requested number of runs of itself queued in the executor. Each run queries a single
+   * bucket and then resubmits itself behind whatever other queries have queued, so concurrent
+   * queries share the executor's threads instead of waiting for all of each other's buckets. Once a
+   * bucket fails the remaining buckets are skipped since the query will fail or be retried anyway.
+   * They are also skipped once the buckets queried so far have returned as many results as the
+   * limit of the query, if it has one that applies to the concatenated bucket results.
+   */
+  private class BucketScan implements Runnable {
+    private final Queue<QueryTask> tasks;
+    private final ExecutorService execService;
+    private final Collection<Collection> resultCollector;
+    private final int limit;
+    private final List<BucketQueryResult> results;
+    private final CountDownLatch done;
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    private final AtomicInteger maxActiveThreads = new AtomicInteger();
+    private volatile boolean complete = true;
+
+    BucketScan(List<QueryTask> tasks, ExecutorService execService,
+        Collection<Collection> resultCollector, int limit) {
+      this.tasks = new ConcurrentLinkedQueue<>(tasks);
+      this.execService = execService;
+      this.resultCollector = resultCollector;
+      this.limit = limit;
+      this.results = Collections.synchronizedList(new ArrayList<>(tasks.size()));
+      this.done = new CountDownLatch(tasks.size());
+    }
+
+    void start(int threads) {
+      for (int i = 0; i < threads; i++) {
+        submit();
+      }
+    }
+
+    private void submit() {
+      try {
+        this.execService.execute(this);
+      } catch (RejectedExecutionException e) {
+        cancel();
+      }
+    }
+
+    @Override
+    public void run() {
+      QueryTask task = this.tasks.poll();
+      if (task == null) {
+        return;
+      }
+      this.maxActiveThreads.accumulateAndGet(this.activeThreads.incrementAndGet(), Math::max);
+      try {
+        BucketQueryResult result = task.call();
+        this.results.add(result);
+        if (result.exceptionOccurred()) {
+          cancel();
+        } else if (this.limit >= 0 && countResults(this.resultCollector) >= this.limit) {
+          stop();
+        }
+      } finally {
+        this.activeThreads.decrementAndGet();
+        this.done.countDown();
+      }
+      if (!this.tasks.isEmpty()) {
+        submit();
+      }
+    }
+
+    /**
+     * Skips all buckets that have not been started yet.
+     */
+    void cancel() {
+      QueryTask skipped;
+      while ((skipped = this.tasks.poll()) != null) {
+        this.complete = false;
+        this.done.countDown();
+      }
+    }
+
+    /**
+     * Skips all buckets that have not been started yet because enough results have been collected.
+     */
+    private void stop() {
+      while (this.tasks.poll() != null) {
+        this.done.countDown();
+      }
+    }
+
+    boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+      return this.done.await(timeout, unit);
+    }
+
+    boolean isComplete() {
+      return this.complete;
+    }
+
+    int getMaxActiveThreads() {
+      return this.maxActiveThreads.get();
+    }
+
+    List<BucketQueryResult> getResults() {
+      synchronized (this.results) {
+        return new ArrayList<>(this.results);
+      }
+    }
+  }
+
   /**
    * Implementation of call-able task to execute query on a bucket region. This task will be
    * generated by the PRQueryProcessor.
    *
    */
   @SuppressWarnings("synthetic-access")
-  private class QueryTask implements Callable {
+  private class QueryTask implements Callable<BucketQueryResult> {
     private final DefaultQuery query;
     private final Object[] parameters;
     private final PartitionedRegionDataStore _prDs;
     private final Integer _bucketId;
     private final Collection<Collection> resultColl;
+    /** the pdx read-serialized flag of the thread that executes the query */
+    private final boolean pdxReadSerialized;
+    /** the observer tracking index use, or null if the query's index use is not tracked */
+    private final IndexTrackingQueryObserver indexObserver;
+    /** the index information of the thread that executes the query, or null */
+    private final Map indexInfo;
 
     public QueryTask(DefaultQuery query, Object[] parameters, PartitionedRegionDataStore prDS,
-        Integer bucketId, final Collection<Collection> rColl) {
+        Integer bucketId, final Collection<Collection> rColl, boolean pdxReadSerialized,
+        IndexTrackingQueryObserver indexObserver, Map indexInfo) {
       this.query = query;
       this._prDs = prDS;
       this._bucketId = bucketId;
       this.resultColl = rColl;
       this.parameters = parameters;
+      this.pdxReadSerialized = pdxReadSerialized;
+      this.indexObserver = indexObserver;
+      this.indexInfo = indexInfo;
     }
 
-    public Object call() throws Exception {
+    public BucketQueryResult call() {
       BucketQueryResult bukResult = new BucketQueryResult(this._bucketId);
-      boolean retry = false;
+      boolean previousPdxReadSerialized = DefaultQuery.getPdxReadSerialized();
+      DefaultQuery.setPdxReadSerialized(this.pdxReadSerialized);
       try {
-        // Add indexInfo of this thread to result collector
-        QueryObserver observer = QueryObserverHolder.getInstance();
-        if (observer != null && observer instanceof IndexTrackingQueryObserver) {
-          // ((IndexTrackingQueryObserver)observer).setIndexInfo(resultColl.getIndexInfoMap());
-        }
-
         List<Integer> bucketList = Collections.singletonList(this._bucketId);
         ExecutionContext context =
             new QueryExecutionContext(this.parameters, pr.getCache(), this.query);
@@ -565,52 +770,59 @@ public class PRQueryProcessor {
         bukResult.setException(e);
       } catch (CacheRuntimeException cre) {
         bukResult.setException(cre);
+      } catch (RuntimeException re) {
+        bukResult.setException(re);
+      } finally {
+        if (this.indexObserver != null) {
+          // Add indexInfo of this thread to that of the thread executing the query
+          this.indexObserver.moveUsedIndexesTo(this.indexInfo);
+        }
+        DefaultQuery.setPdxReadSerialized(previousPdxReadSerialized);
       }
       // Exception
       return bukResult;
     }
+  }
 
-    /**
-     * Encapsulates the result for the query on the bucket.
-     *
-     */
-    private class BucketQueryResult {
+  /**
+   * Encapsulates the result for the query on the bucket.
+   *
+   */
+  private static class BucketQueryResult {
 
-      private int _buk;
-      private Exception _ex = null;
-      public boolean retry = false;
+    private int _buk;
+    private Exception _ex = null;
 
-      public BucketQueryResult(int bukId) {
-        this._buk = bukId;
-      }
+    public BucketQueryResult(int bukId) {
+      this._buk = bukId;
+    }
 
-      public Exception getException() {
-        return _ex;
-      }
+    public Exception getException() {
+      return _ex;
+    }
 
-      public boolean exceptionOccurred() {
-        return _ex != null;
-      }
+    public boolean exceptionOccurred() {
+      return _ex != null;
+    }
 
-      public void setException(Exception e) {
-        this._ex = e;
-      }
+    public void setException(Exception e) {
+      this._ex = e;
+    }
 
-      public Integer getBucketId() {
-        return valueOf(this._buk);
-      }
+    public Integer getBucketId() {
+      return valueOf(this._buk);
+    }
 
-      public boolean isReattemptNeeded() {
-        return this._ex instanceof ForceReattemptException;
-      }
+    public boolean isReattemptNeeded() {
+      return this._ex instanceof ForceReattemptException;
+    }
 
-      public void handleAndThrowException() throws QueryException {
-        if (_ex != null) {
-          if (_ex instanceof QueryException) {
-            throw (QueryException) _ex;
-          } else if (_ex instanceof CacheRuntimeException) {
-            throw (CacheRuntimeException) _ex;
-          }
+    public void handleAndThrowException() throws QueryException {
+      if (_ex != null) {
+        if (_ex instanceof QueryException) {
+          throw (QueryException) _ex;
+        } else if (_ex instanceof RuntimeException) {
+          throw (RuntimeException) _ex;
         }
       }
     }
@@ -39,7 +39,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -291,6 +293,15 @@ public class PartitionedRegion extends LocalRegion
   static final boolean DISABLE_SECONDARY_BUCKET_ACK =
       Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "disablePartitionedRegionBucketAck");
 
+  /**
+   * The maximum number of threads used to populate newly created indexes on the local buckets. Each
+   * bucket is scanned once for all of the indexes being created; different buckets are scanned
+   * concurrently. A value of 1 populates the buckets one after another in the calling thread.
+   */
+  static final int INDEX_POPULATION_THREADS = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "PartitionedRegion.INDEX_POPULATION_THREADS",
+      Runtime.getRuntime().availableProcessors());
+
   /**
    * A debug flag used for testing calculation of starting bucket id
    */
@@ -8496,28 +8507,98 @@ public class PartitionedRegion extends LocalRegion
       HashMap<String, Exception> exceptionsMap) {
     boolean throwException = false;
     if (getDataStore() != null && indexes.size() > 0) {
-      Set localBuckets = getDataStore().getAllLocalBuckets();
-      Iterator it = localBuckets.iterator();
-      while (it.hasNext()) {
-        Map.Entry entry = (Map.Entry) it.next();
-        Region bucket = (Region) entry.getValue();
-
-        if (bucket == null) {
-          continue;
+      List<Region> buckets = new ArrayList<Region>();
+      for (Object o : getDataStore().getAllLocalBuckets()) {
+        Region bucket = (Region) ((Map.Entry) o).getValue();
+        if (bucket != null) {
+          buckets.add(bucket);
         }
-        IndexManager bucketIndexManager = IndexUtils.getIndexManager(bucket, true);
-        Set<Index> bucketIndexes = getBucketIndexesForPRIndexes(bucket, indexes);
-        try {
-          bucketIndexManager.populateIndexes(bucketIndexes);
-        } catch (MultiIndexCreationException ex) {
-          exceptionsMap.putAll(ex.getExceptionsMap());
-          throwException = true;
+      }
+      int threads = Math.min(INDEX_POPULATION_THREADS, buckets.size());
+      if (threads <= 1) {
+        for (Region bucket : buckets) {
+          throwException |= populateBucketIndexes(bucket, indexes, exceptionsMap);
         }
+      } else {
+        throwException = populateEmptyIndexesInParallel(buckets, indexes, exceptionsMap, threads);
       }
     }
     return throwException;
   }
 
+  /**
+   * Populates the indexes of the given buckets using a short lived pool of threads, one bucket per
+   * task. Returns true if any of the indexes failed to populate; the failures are added to the
+   * exceptionsMap.
+   */
+  private boolean populateEmptyIndexesInParallel(List<Region> buckets, final Set<Index> indexes,
+      final HashMap<String, Exception> exceptionsMap, int threads) {
+    final ThreadGroup grp = LoggingThreadGroup.createThreadGroup("IndexPopulation", logger);
+    final AtomicInteger threadId = new AtomicInteger();
+    ThreadFactory tf = new ThreadFactory() {
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(grp, r,
+            "IndexPopulation:" + getFullPath() + "-" + threadId.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+      }
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(threads, tf);
+    try {
+      List<Future<Boolean>> results = new ArrayList<Future<Boolean>>(buckets.size());
+      for (final Region bucket : buckets) {
+        results.add(executor.submit(new Callable<Boolean>() {
+          public Boolean call() {
+            return populateBucketIndexes(bucket, indexes, exceptionsMap);
+          }
+        }));
+      }
+      boolean throwException = false;
+      boolean interrupted = false;
+      for (Future<Boolean> result : results) {
+        while (true) {
+          try {
+            throwException |= result.get();
+            break;
+          } catch (InterruptedException ignore) {
+            interrupted = true;
+            getCancelCriterion().checkCancelInProgress(null);
+          } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+              throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+              throw (Error) cause;
+            }
+            throw new InternalGemFireException(cause);
+          }
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      return throwException;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private boolean populateBucketIndexes(Region bucket, Set<Index> indexes,
+      HashMap<String, Exception> exceptionsMap) {
+    IndexManager bucketIndexManager = IndexUtils.getIndexManager(bucket, true);
+    Set<Index> bucketIndexes = getBucketIndexesForPRIndexes(bucket, indexes);
+    try {
+      bucketIndexManager.populateIndexes(bucketIndexes);
+    } catch (MultiIndexCreationException ex) {
+      synchronized (exceptionsMap) {
+        exceptionsMap.putAll(ex.getExceptionsMap());
+      }
+      return true;
+    }
+    return false;
+  }
+
   private Set<Index> getBucketIndexesForPRIndexes(Region bucket, Set<Index> indexes) {
     Set<Index> bucketIndexes = new HashSet<Index>();
     for (Index ind : indexes) {
@@ -2014,6 +2014,7 @@ public class PartitionedRegionDataStore implements HasCachePerfStats {
           bucketRegion.getName(), returnTombstones);
     }
     invokeBucketReadHook();
+    bucketRegion.recordOperation();
     try {
       ret = bucketRegion.get(key, aCallbackArgument, true, disableCopyOnRead, preferCD,
           requestingClient, clientEvent, returnTombstones, opScopeIsLocal, false);
@@ -2059,6 +2060,7 @@ public class PartitionedRegionDataStore implements HasCachePerfStats {
           keyInfo.getBucketId(), bucketRegion.getName());
     }
     invokeBucketReadHook();
+    bucketRegion.recordOperation();
 
     try {
       RawValue result = bucketRegion.getSerialized(keyInfo, true, doNotLockEntry, requestingClient,
@@ -58,6 +58,9 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
   public static class MemberResultsList extends ArrayList {
     private boolean isLastChunkReceived = false;
 
+    /** the number of results received from the member that have been kept */
+    private int numResultsKept = 0;
+
     public boolean isLastChunkReceived() {
       return isLastChunkReceived;
     }
@@ -65,6 +68,14 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
     public void setLastChunkReceived(boolean isLastChunkReceived) {
       this.isLastChunkReceived = isLastChunkReceived;
     }
+
+    int getNumResultsKept() {
+      return numResultsKept;
+    }
+
+    void incNumResultsKept(int numResults) {
+      this.numResultsKept += numResults;
+    }
   }
 
   /**
@@ -95,6 +106,11 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
   private final IntOpenHashSet successfulBuckets;
   // set of members failed to execute query
   private Set<InternalDistributedMember> failedMembers;
+  /**
+   * The LIMIT of a query whose results from all members are simply concatenated, or -1 if the
+   * results must all be kept until they are merged.
+   */
+  private final int concatenatedResultsLimit;
 
   /**
    * Construct a PartitionedRegionQueryEvaluator
@@ -121,6 +137,30 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
     if (query != null && query.isTraced()) {
       prQueryTraceInfoList = new ConcurrentLinkedQueue();
     }
+    this.concatenatedResultsLimit = getConcatenatedResultsLimit(query, parameters);
+  }
+
+  /**
+   * Returns the LIMIT of the query if members' results are only concatenated to build the final
+   * result, so that the results received beyond the limit can be dropped as they arrive instead of
+   * being held until every member has replied. Returns -1 for queries whose results are sorted,
+   * grouped, counted or made distinct, since those need every result.
+   */
+  static int getConcatenatedResultsLimit(DefaultQuery query, Object[] parameters) {
+    if (query == null) {
+      return -1;
+    }
+    CompiledSelect cs = query.getSimpleSelect();
+    if (cs == null || cs.isDistinct() || cs.isCount() || cs.isOrderBy()
+        || cs.getType() == CompiledValue.GROUP_BY_SELECT) {
+      return -1;
+    }
+    try {
+      return query.getLimit(parameters);
+    } catch (QueryException e) {
+      // the limit can not be evaluated here, so keep all the results
+      return -1;
+    }
   }
 
   @Override
@@ -191,9 +231,21 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
       objects = sortIncomingData(objects, orderByAttribs);
     }
 
+    if (this.concatenatedResultsLimit >= 0) {
+      // count, trim and add under one lock, so that chunks arriving together from different
+      // members can not each keep up to the limit
+      synchronized (this.resultsPerMember) {
+        return addResults(results, dropResultsBeyondLimit(objects), lastInSequence);
+      }
+    }
+    return addResults(results, objects, lastInSequence);
+  }
+
+  private boolean addResults(Collection results, List objects, boolean lastInSequence) {
     synchronized (results) {
       if (!QueryMonitor.isLowMemory()) {
         results.add(objects);
+        ((MemberResultsList) results).incNumResultsKept(objects.size());
       } else {
         if (logger.isDebugEnabled()) {
           logger.debug("query canceled while gathering results, aborting");
@@ -213,6 +265,38 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
     return true;
   }
 
+  /**
+   * Returns the part of a chunk of results that is still needed to satisfy the query's LIMIT. Only
+   * results kept from members that are still in {@link #resultsPerMember} are counted, so results
+   * discarded for a retry do not count against the limit.
+   */
+  private List dropResultsBeyondLimit(List objects) {
+    int numResultsNeeded = getNumResultsNeeded();
+    if (objects.size() <= numResultsNeeded) {
+      return objects;
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Dropping {} results received beyond the query limit of {}",
+          objects.size() - numResultsNeeded, this.concatenatedResultsLimit);
+    }
+    // copy so the dropped results are not held on to by a sub list
+    return new ArrayList(objects.subList(0, numResultsNeeded));
+  }
+
+  /**
+   * Returns the number of results still needed to satisfy the query's LIMIT. The caller must hold
+   * the lock on {@link #resultsPerMember}.
+   */
+  private int getNumResultsNeeded() {
+    int numResultsKept = 0;
+    for (Collection<Collection> memberResults : this.resultsPerMember.values()) {
+      synchronized (memberResults) {
+        numResultsKept += ((MemberResultsList) memberResults).getNumResultsKept();
+      }
+    }
+    return Math.max(0, this.concatenatedResultsLimit - numResultsKept);
+  }
+
   // TODO Asif: optimize it by creating a Sorted SelectResults Object at the time of fromData , so
   // that processData already recieves ordered data.
   private List sortIncomingData(List objects, List<CompiledSortCriterion> orderByAttribs) {
@@ -958,10 +1042,14 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
         // Add results to the results-list. If prior successfully completed
         // results exist from previous executions on different buckets, add (to) those results as
         // well.
-        MemberResultsList otherResults =
-            (MemberResultsList) this.resultsPerMember.put(me, resultCollector);
-        if (otherResults != null) {
-          resultCollector.addAll(otherResults);
+        if (this.concatenatedResultsLimit >= 0) {
+          synchronized (this.resultsPerMember) {
+            PRQueryProcessor.trimToLimit(resultCollector, getNumResultsNeeded());
+            resultCollector.incNumResultsKept(PRQueryProcessor.countResults(resultCollector));
+            addLocalResults(me, resultCollector);
+          }
+        } else {
+          addLocalResults(me, resultCollector);
         }
 
       } catch (ForceReattemptException retryRequired) {
@@ -975,6 +1063,15 @@ public class PartitionedRegionQueryEvaluator extends StreamingPartitionOperation
     return false;
   }
 
+  private void addLocalResults(InternalDistributedMember me, MemberResultsList resultCollector) {
+    MemberResultsList otherResults =
+        (MemberResultsList) this.resultsPerMember.put(me, resultCollector);
+    if (otherResults != null) {
+      resultCollector.addAll(otherResults);
+      resultCollector.incNumResultsKept(otherResults.getNumResultsKept());
+    }
+  }
+
   protected PRQueryProcessor createLocalPRQueryProcessor(List<Integer> bucketList) {
     return new PRQueryProcessor(this.pr, query, parameters, bucketList);
   }
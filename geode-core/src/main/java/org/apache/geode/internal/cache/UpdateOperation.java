@@ -34,6 +34,7 @@ import org.apache.geode.cache.EntryNotFoundException;
 import org.apache.geode.distributed.internal.ConflationKey;
 import org.apache.geode.distributed.internal.DM;
 import org.apache.geode.distributed.internal.DirectReplyProcessor;
+import org.apache.geode.distributed.internal.DistributionManager;
 import org.apache.geode.distributed.internal.ReplyException;
 import org.apache.geode.distributed.internal.ReplyMessage;
 import org.apache.geode.internal.Assert;
@@ -315,6 +316,11 @@ public class UpdateOperation extends AbstractUpdateOperation {
       return result;
     }
 
+    @Override
+    public Object getOrderingKey(DistributionManager dm) {
+      return _getOrderingKey(dm, this.key);
+    }
+
     @Override
     protected void appendFields(StringBuilder buff) {
       super.appendFields(buff);
@@ -526,6 +532,12 @@ public class UpdateOperation extends AbstractUpdateOperation {
       this.clientID = msg.clientID;
     }
 
+    @Override
+    public Object getOrderingKey(DistributionManager dm) {
+      // client events must stay in order across keys, see _getOrderingKey
+      return null;
+    }
+
     @Override
     protected void appendFields(StringBuilder buff) {
       super.appendFields(buff);
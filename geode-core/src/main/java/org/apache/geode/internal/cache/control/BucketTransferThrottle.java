@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.control;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.CancelCriterion;
+import org.apache.geode.distributed.internal.DistributionConfig;
+
+/**
+ * Limits how many bucket images this member sends at the same time and how many bytes per second
+ * they may use, so that the bucket transfers of a rebalance or of redundancy recovery do not starve
+ * the member's other traffic. The limits are enforced by the
+ * {@link org.apache.geode.internal.cache.InitialImageFlowControl} of each bucket image and can be
+ * changed while transfers are in progress. A limit of zero means unlimited.
+ *
+ * @since Geode 1.4
+ */
+public class BucketTransferThrottle {
+
+  /**
+   * The initial maximum number of bucket images this member sends concurrently. Zero is unlimited.
+   */
+  public static final int MAX_BUCKET_TRANSFERS = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "ResourceManager.MAX_BUCKET_TRANSFERS", 0);
+
+  /**
+   * The initial number of bytes per second this member may send for all its bucket images
+   * together. Zero is unlimited.
+   */
+  public static final long BUCKET_TRANSFER_BYTES_PER_SECOND = Long.getLong(
+      DistributionConfig.GEMFIRE_PREFIX + "ResourceManager.BUCKET_TRANSFER_BYTES_PER_SECOND", 0);
+
+  /** The longest a sender sleeps before checking for cancellation or new limits */
+  private static final long MAX_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  // all fields are guarded by this
+
+  private int maxTransfers;
+
+  private int activeTransfers;
+
+  private long bytesPerSecond;
+
+  /** The time before which the bytes already granted are not yet used up */
+  private long nextFreeNanos = Long.MIN_VALUE;
+
+  /** Incremented when the bandwidth changes, so that senders stop waiting at the old rate */
+  private int bandwidthGeneration;
+
+  public BucketTransferThrottle() {
+    this(MAX_BUCKET_TRANSFERS, BUCKET_TRANSFER_BYTES_PER_SECOND);
+  }
+
+  public BucketTransferThrottle(int maxTransfers, long bytesPerSecond) {
+    this.maxTransfers = Math.max(0, maxTransfers);
+    this.bytesPerSecond = Math.max(0, bytesPerSecond);
+  }
+
+  public synchronized int getMaxTransfers() {
+    return this.maxTransfers;
+  }
+
+  /**
+   * Sets the maximum number of bucket images sent concurrently. Transfers already started are not
+   * affected; waiting ones start as soon as the new limit allows.
+   */
+  public synchronized void setMaxTransfers(int maxTransfers) {
+    this.maxTransfers = Math.max(0, maxTransfers);
+    notifyAll();
+  }
+
+  public synchronized long getBytesPerSecond() {
+    return this.bytesPerSecond;
+  }
+
+  /**
+   * Sets the number of bytes per second all bucket images may use together. Senders waiting at the
+   * old rate continue immediately.
+   */
+  public synchronized void setBytesPerSecond(long bytesPerSecond) {
+    this.bytesPerSecond = Math.max(0, bytesPerSecond);
+    this.nextFreeNanos = Long.MIN_VALUE;
+    this.bandwidthGeneration++;
+  }
+
+  /**
+   * Returns true if sending a bucket image may have to wait for a transfer slot or for bandwidth.
+   */
+  public synchronized boolean isLimited() {
+    return this.maxTransfers > 0 || this.bytesPerSecond > 0;
+  }
+
+  public synchronized int getActiveTransfers() {
+    return this.activeTransfers;
+  }
+
+  /**
+   * Waits until another transfer may start and counts it as started.
+   *
+   * @return false if the timeout elapsed first
+   */
+  public synchronized boolean tryStartTransfer(long timeoutMillis) throws InterruptedException {
+    long end = System.currentTimeMillis() + timeoutMillis;
+    while (this.maxTransfers > 0 && this.activeTransfers >= this.maxTransfers) {
+      long remaining = end - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return false;
+      }
+      wait(remaining);
+    }
+    this.activeTransfers++;
+    return true;
+  }
+
+  /**
+   * Ends a transfer started with {@link #tryStartTransfer(long)}.
+   */
+  public synchronized void endTransfer() {
+    this.activeTransfers--;
+    notifyAll();
+  }
+
+  /**
+   * Waits until the given number of bytes may be sent without exceeding the bandwidth.
+   */
+  public void acquireBytes(int bytes, CancelCriterion cancelCriterion)
+      throws InterruptedException {
+    long sendTime;
+    int generation;
+    synchronized (this) {
+      if (this.bytesPerSecond <= 0) {
+        return;
+      }
+      sendTime = reserve(bytes, System.nanoTime());
+      generation = this.bandwidthGeneration;
+    }
+    while (true) {
+      cancelCriterion.checkCancelInProgress(null);
+      long remaining = sendTime - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+      synchronized (this) {
+        if (generation != this.bandwidthGeneration) {
+          return;
+        }
+      }
+      TimeUnit.NANOSECONDS.sleep(Math.min(remaining, MAX_SLEEP_NANOS));
+    }
+  }
+
+  /**
+   * Grants the given number of bytes after those already granted.
+   *
+   * @return the time at which the bytes may be sent
+   */
+  synchronized long reserve(int bytes, long nowNanos) {
+    long sendTime = Math.max(nowNanos, this.nextFreeNanos);
+    this.nextFreeNanos = sendTime + bytes * NANOS_PER_SECOND / this.bytesPerSecond;
+    return sendTime;
+  }
+}
@@ -89,6 +89,8 @@ public class InternalResourceManager implements ResourceManager {
 
   private LoadProbe loadProbe;
 
+  private final BucketTransferThrottle bucketTransferThrottle = new BucketTransferThrottle();
+
   private final ResourceManagerStats stats;
   private final ResourceAdvisor resourceAdvisor;
   private boolean closed = true;
@@ -552,6 +554,14 @@ public class InternalResourceManager implements ResourceManager {
     return this.loadProbe;
   }
 
+  /**
+   * Returns the limits on the bucket images this member sends during rebalancing and redundancy
+   * recovery. They may be changed while a rebalance is in progress.
+   */
+  public BucketTransferThrottle getBucketTransferThrottle() {
+    return this.bucketTransferThrottle;
+  }
+
   /**
    * This method is test purposes only.
    */
@@ -626,4 +636,46 @@ public class InternalResourceManager implements ResourceManager {
   public float getEvictionHeapPercentage() {
     return getHeapMonitor().getEvictionThreshold();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setMaxBucketTransfers(int maxTransfers) {
+    if (maxTransfers < 0) {
+      throw new IllegalArgumentException(
+          LocalizedStrings.InternalResourceManager_MAX_BUCKET_TRANSFERS_NEGATIVE_0
+              .toLocalizedString(maxTransfers));
+    }
+    this.bucketTransferThrottle.setMaxTransfers(maxTransfers);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getMaxBucketTransfers() {
+    return this.bucketTransferThrottle.getMaxTransfers();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setBucketTransferBytesPerSecond(long bytesPerSecond) {
+    if (bytesPerSecond < 0) {
+      throw new IllegalArgumentException(
+          LocalizedStrings.InternalResourceManager_BUCKET_TRANSFER_BYTES_NEGATIVE_0
+              .toLocalizedString(bytesPerSecond));
+    }
+    this.bucketTransferThrottle.setBytesPerSecond(bytesPerSecond);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getBucketTransferBytesPerSecond() {
+    return this.bucketTransferThrottle.getBytesPerSecond();
+  }
 }
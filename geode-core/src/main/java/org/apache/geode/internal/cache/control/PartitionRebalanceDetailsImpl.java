@@ -15,11 +15,15 @@
 package org.apache.geode.internal.cache.control;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.partition.PartitionMemberInfo;
 import org.apache.geode.cache.partition.PartitionRebalanceInfo;
+import org.apache.geode.distributed.DistributedMember;
 import org.apache.geode.internal.cache.PartitionedRegion;
 
 /**
@@ -40,6 +44,8 @@ public class PartitionRebalanceDetailsImpl
   private long bucketTransferBytes;
   private long bucketTransferTime;
   private int bucketTransfersCompleted;
+  private Map<DistributedMember, Float> operationLoadsAfter = Collections.emptyMap();
+  private Map<DistributedMember, Float> operationLoadsBefore = Collections.emptyMap();
   private Set<PartitionMemberInfo> partitionMemberDetailsAfter;
   private Set<PartitionMemberInfo> partitionMemberDetailsBefore;
   private long primaryTransferTime;
@@ -83,6 +89,15 @@ public class PartitionRebalanceDetailsImpl
     this.partitionMemberDetailsBefore = before;
   }
 
+  /**
+   * Sets the operation loads of each member before and after a simulated rebalance.
+   */
+  public void setOperationLoads(Map<? extends DistributedMember, Float> before,
+      Map<? extends DistributedMember, Float> after) {
+    this.operationLoadsBefore = new HashMap<DistributedMember, Float>(before);
+    this.operationLoadsAfter = new HashMap<DistributedMember, Float>(after);
+  }
+
   public void setTime(long time) {
     this.time = time;
   }
@@ -131,6 +146,16 @@ public class PartitionRebalanceDetailsImpl
     return this.partitionMemberDetailsBefore;
   }
 
+  @Override
+  public Map<DistributedMember, Float> getOperationLoadsAfter() {
+    return Collections.unmodifiableMap(this.operationLoadsAfter);
+  }
+
+  @Override
+  public Map<DistributedMember, Float> getOperationLoadsBefore() {
+    return Collections.unmodifiableMap(this.operationLoadsBefore);
+  }
+
   public long getPrimaryTransferTime() {
     return TimeUnit.NANOSECONDS.toMillis(this.primaryTransferTime);
   }
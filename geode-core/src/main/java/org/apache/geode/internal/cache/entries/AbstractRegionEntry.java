@@ -1033,7 +1033,9 @@ public abstract class AbstractRegionEntry implements RegionEntry, HashEntry<Obje
   private static boolean checkOffHeapEquals(@Unretained StoredObject ohVal,
       @Unretained Object obj) {
     if (ohVal.isSerializedPdxInstance()) {
-      PdxInstance pi = InternalDataSerializer.readPdxInstance(ohVal.getSerializedValue(),
+      // ohVal stays retained by our caller for the duration of this check
+      // so the pdx fields can be compared without copying them to the heap.
+      PdxInstance pi = InternalDataSerializer.readPdxInstance(ohVal,
           GemFireCacheImpl.getForPdx("Could not check value equality"));
       return checkPdxEquals(pi, obj);
     }
@@ -1144,6 +1146,11 @@ public abstract class AbstractRegionEntry implements RegionEntry, HashEntry<Obje
           // obj is actually a byte[] which will never be equal to a PdxInstance
           return false;
         }
+        if (cdObj instanceof StoredObject && !((StoredObject) cdObj).isCompressed()) {
+          PdxInstance pi = InternalDataSerializer.readPdxInstance((StoredObject) cdObj,
+              GemFireCacheImpl.getForPdx("Could not check value equality"));
+          return pi != null && pi.equals(pdx);
+        }
         Object cdVal = cdObj.getValue();
         if (cdVal instanceof byte[]) {
           byte[] cdValBytes = (byte[]) cdVal;
@@ -21,6 +21,8 @@ import java.util.Arrays;
 
 import org.apache.geode.DataSerializable;
 import org.apache.geode.DataSerializer;
+import org.apache.geode.internal.InternalDataSerializer;
+import org.apache.geode.internal.Version;
 
 /**
  * A class which holds the load for a partitioned region on a given VM.
@@ -33,6 +35,8 @@ public class PRLoad implements DataSerializable {
   private final float weight;
   private final float[] bucketReadLoads;
   private final float[] bucketWriteLoads;
+  /** Recent reads and writes per second on each bucket, zero if not reported */
+  private final float[] bucketOperationRates;
 
   /**
    * Creates a new immutable instance of PRLoad from the provided DataInput. Actually
@@ -48,7 +52,13 @@ public class PRLoad implements DataSerializable {
     float weight = in.readFloat();
     float[] bucketReadLoads = DataSerializer.readFloatArray(in);
     float[] bucketWriteLoads = DataSerializer.readFloatArray(in);
-    return new PRLoad(weight, bucketReadLoads, bucketWriteLoads);
+    float[] bucketOperationRates;
+    if (InternalDataSerializer.getVersionForDataStream(in).compareTo(Version.GEODE_140) >= 0) {
+      bucketOperationRates = DataSerializer.readFloatArray(in);
+    } else {
+      bucketOperationRates = new float[bucketReadLoads.length];
+    }
+    return new PRLoad(weight, bucketReadLoads, bucketWriteLoads, bucketOperationRates);
   }
 
   /**
@@ -68,6 +78,7 @@ public class PRLoad implements DataSerializable {
     this.weight = weight;
     this.bucketReadLoads = new float[numBuckets];
     this.bucketWriteLoads = new float[numBuckets];
+    this.bucketOperationRates = new float[numBuckets];
   }
 
   /**
@@ -79,9 +90,24 @@ public class PRLoad implements DataSerializable {
    * @param bucketWriteLoads the write loads for all buckets
    */
   public PRLoad(float weight, float[] bucketReadLoads, float[] bucketWriteLoads) {
+    this(weight, bucketReadLoads, bucketWriteLoads, new float[bucketReadLoads.length]);
+  }
+
+  /**
+   * Constructs a new PRLoad. The bucket loads and operation rates are backed by the provided arrays
+   * which will be owned and potentially modified by this instance.
+   *
+   * @param weight the weight of the PR
+   * @param bucketReadLoads the read loads for all buckets
+   * @param bucketWriteLoads the write loads for all buckets
+   * @param bucketOperationRates the operation rates for all buckets
+   */
+  public PRLoad(float weight, float[] bucketReadLoads, float[] bucketWriteLoads,
+      float[] bucketOperationRates) {
     this.weight = weight;
     this.bucketReadLoads = bucketReadLoads;
     this.bucketWriteLoads = bucketWriteLoads;
+    this.bucketOperationRates = bucketOperationRates;
   }
 
   /**
@@ -92,6 +118,22 @@ public class PRLoad implements DataSerializable {
     this.bucketWriteLoads[bucketId] = writeLoad;
   }
 
+  /**
+   * Set the recent number of reads and writes per second on a bucket
+   */
+  public void setOperationRate(int bucketId, float operationRate) {
+    this.bucketOperationRates[bucketId] = operationRate;
+  }
+
+  /**
+   * Get the recent number of reads and writes per second on a bucket
+   *
+   * @param bucketId the id of a bucket
+   */
+  public float getOperationRate(int bucketId) {
+    return this.bucketOperationRates[bucketId];
+  }
+
   /**
    * Get the read load for a bucket
    *
@@ -125,6 +167,7 @@ public class PRLoad implements DataSerializable {
     sb.append(", numBuckets: ").append(this.bucketReadLoads.length);
     sb.append(", bucketReadLoads: ").append(Arrays.toString(this.bucketReadLoads));
     sb.append(", bucketWriteLoads: ").append(Arrays.toString(this.bucketWriteLoads));
+    sb.append(", bucketOperationRates: ").append(Arrays.toString(this.bucketOperationRates));
     return sb.toString();
   }
 
@@ -132,6 +175,9 @@ public class PRLoad implements DataSerializable {
     out.writeFloat(this.weight);
     DataSerializer.writeFloatArray(this.bucketReadLoads, out);
     DataSerializer.writeFloatArray(this.bucketWriteLoads, out);
+    if (InternalDataSerializer.getVersionForDataStream(out).compareTo(Version.GEODE_140) >= 0) {
+      DataSerializer.writeFloatArray(this.bucketOperationRates, out);
+    }
   }
 
   /**
@@ -97,6 +97,9 @@ public class PartitionedRegionRebalanceOp {
 
   private volatile boolean membershipChange = false;
 
+  /** The operator used when simulating, null otherwise */
+  private SimulatedBucketOperator simulatedOperator;
+
   private final RebalanceDirector director;
 
   /**
@@ -201,6 +204,10 @@ public class PartitionedRegionRebalanceOp {
         details.setPartitionMemberDetailsBefore(
             model.getPartitionedMemberDetails(details.getRegionPath()));
       }
+      if (this.simulatedOperator != null) {
+        this.simulatedOperator.setOperationLoads(model.getMemberOperationLoads(),
+            model.getBucketOperationLoads());
+      }
 
       director.initialize(model);
 
@@ -238,10 +245,23 @@ public class PartitionedRegionRebalanceOp {
       debug("Rebalancing {} complete. Model:{}\n", leaderRegion, model);
       long end = System.nanoTime();
 
+      Map<InternalDistributedMember, Float> operationLoadsBefore = null;
+      Map<InternalDistributedMember, Float> operationLoadsAfter = null;
+      if (this.simulatedOperator != null) {
+        operationLoadsBefore = this.simulatedOperator.getOperationLoadsBefore();
+        operationLoadsAfter = this.simulatedOperator.getOperationLoadsAfter();
+        logger.info(LocalizedMessage.create(
+            LocalizedStrings.PartitionedRegionRebalanceOp_SIMULATED_LOADS_OF_0,
+            new Object[] {leaderRegion.getFullPath(), operationLoadsBefore, operationLoadsAfter}));
+      }
+
       for (PartitionRebalanceDetailsImpl details : serialOperator.getDetailSet()) {
         if (!simulate) {
           details.setTime(end - start);
         }
+        if (operationLoadsBefore != null) {
+          details.setOperationLoads(operationLoadsBefore, operationLoadsAfter);
+        }
         details.setPartitionMemberDetailsAfter(
             model.getPartitionedMemberDetails(details.getRegionPath()));
       }
@@ -419,8 +439,13 @@ public class PartitionedRegionRebalanceOp {
     for (Map.Entry<PartitionedRegion, InternalPRInfo> entry : detailsMap.entrySet()) {
       rebalanceDetails.add(new PartitionRebalanceDetailsImpl(entry.getKey()));
     }
-    BucketOperator operator =
-        simulate ? new SimulatedBucketOperator() : new BucketOperatorImpl(this);
+    BucketOperator operator;
+    if (simulate) {
+      this.simulatedOperator = new SimulatedBucketOperator();
+      operator = this.simulatedOperator;
+    } else {
+      operator = new BucketOperatorImpl(this);
+    }
     BucketOperatorWrapper wrapper =
         new BucketOperatorWrapper(operator, rebalanceDetails, stats, leaderRegion);
     return wrapper;
@@ -37,7 +37,8 @@ public class CompositeDirector extends RebalanceDirectorAdapter {
   private final RemoveOverRedundancy removeOverRedundancyDirector = new RemoveOverRedundancy();
   private final SatisfyRedundancy satisfyRedundancyDirector = new SatisfyRedundancy();
   private final MovePrimaries movePrimariesDirector = new MovePrimaries();
-  private final MoveBuckets moveBucketsDirector = new MoveBuckets();
+  private final RebalanceDirector moveBucketsDirector =
+      MoveBucketsByLoad.OPERATION_LOAD_PERCENT > 0 ? new MoveBucketsByLoad() : new MoveBuckets();
 
   private PartitionedRegionLoadModel model;
 
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.partitioned.rebalance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.cache.partitioned.rebalance.PartitionedRegionLoadModel.Move;
+
+/**
+ * A director that makes at most a given number of the bucket moves a full rebalance would make, so
+ * that a PR can be balanced a few buckets at a time. It attempts the best moves first, and it does
+ * not create or remove redundant copies or move primaries. The moves that succeeded can be read
+ * after the rebalance operation has executed.
+ *
+ * @since Geode 1.4
+ */
+public class LimitedMoveDirector extends RebalanceDirectorAdapter {
+
+  private final int maxMoves;
+
+  private final float operationWeight;
+
+  private final List<BucketMove> moves = new ArrayList<BucketMove>();
+
+  private int attemptedMoves;
+
+  private PartitionedRegionLoadModel model;
+
+  /**
+   * @param maxMoves the maximum number of bucket moves to attempt
+   */
+  public LimitedMoveDirector(int maxMoves) {
+    this.maxMoves = maxMoves;
+    this.operationWeight = Math.max(0, Math.min(100, MoveBucketsByLoad.OPERATION_LOAD_PERCENT))
+        / 100f;
+  }
+
+  @Override
+  public void initialize(PartitionedRegionLoadModel model) {
+    this.model = model;
+  }
+
+  @Override
+  public void membershipChanged(PartitionedRegionLoadModel model) {
+    initialize(model);
+  }
+
+  @Override
+  public boolean nextStep() {
+    if (this.attemptedMoves >= this.maxMoves) {
+      return false;
+    }
+
+    Move bestMove = this.operationWeight > 0 ? model.findBestLoadMove(this.operationWeight)
+        : model.findBestBucketMove();
+
+    if (bestMove == null) {
+      return false;
+    }
+
+    this.attemptedMoves++;
+    if (model.moveBucket(bestMove)) {
+      this.moves.add(new BucketMove(bestMove.getBucket().getId(),
+          bestMove.getSource().getDistributedMember(),
+          bestMove.getTarget().getDistributedMember(), bestMove.getBucket().getBytes()));
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the bucket moves that succeeded.
+   */
+  public List<BucketMove> getMoves() {
+    return Collections.unmodifiableList(this.moves);
+  }
+
+  /**
+   * A bucket that was moved from one member to another.
+   */
+  public static class BucketMove {
+    private final int bucketId;
+    private final InternalDistributedMember source;
+    private final InternalDistributedMember target;
+    private final long bytes;
+
+    public BucketMove(int bucketId, InternalDistributedMember source,
+        InternalDistributedMember target, long bytes) {
+      this.bucketId = bucketId;
+      this.source = source;
+      this.target = target;
+      this.bytes = bytes;
+    }
+
+    public int getBucketId() {
+      return this.bucketId;
+    }
+
+    public InternalDistributedMember getSource() {
+      return this.source;
+    }
+
+    public InternalDistributedMember getTarget() {
+      return this.target;
+    }
+
+    public long getBytes() {
+      return this.bytes;
+    }
+
+    @Override
+    public String toString() {
+      return "bucket " + this.bucketId + " (" + this.bytes + " bytes) from " + this.source + " to "
+          + this.target;
+    }
+  }
+}
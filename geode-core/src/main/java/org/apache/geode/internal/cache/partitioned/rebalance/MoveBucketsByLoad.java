@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.partitioned.rebalance;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.internal.cache.partitioned.rebalance.PartitionedRegionLoadModel.Move;
+
+/**
+ * A director to move buckets to balance both the bucket load and the operation load (the recent
+ * reads and writes per second) of a PR, so that a rebalance does not leave the busiest buckets
+ * together on one member. The composite director uses it instead of {@link MoveBuckets} when
+ * {@link #OPERATION_LOAD_PERCENT} is positive.
+ *
+ * @since Geode 1.4
+ */
+public class MoveBucketsByLoad extends RebalanceDirectorAdapter {
+
+  /**
+   * How much the operation load counts when choosing bucket moves, from 0 (only the bucket load
+   * counts, the default) to 100 (only the operation load counts).
+   */
+  public static final int OPERATION_LOAD_PERCENT = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "rebalance.OPERATION_LOAD_PERCENT", 0);
+
+  private final float operationWeight;
+
+  private PartitionedRegionLoadModel model;
+
+  public MoveBucketsByLoad() {
+    this(OPERATION_LOAD_PERCENT);
+  }
+
+  /**
+   * @param operationLoadPercent how much the operation load counts, from 0 to 100
+   */
+  public MoveBucketsByLoad(int operationLoadPercent) {
+    this.operationWeight = Math.max(0, Math.min(100, operationLoadPercent)) / 100f;
+  }
+
+  @Override
+  public void initialize(PartitionedRegionLoadModel model) {
+    this.model = model;
+  }
+
+  @Override
+  public void membershipChanged(PartitionedRegionLoadModel model) {
+    initialize(model);
+  }
+
+  @Override
+  public boolean nextStep() {
+    Move bestMove = model.findBestLoadMove(this.operationWeight);
+
+    if (bestMove == null) {
+      return false;
+    }
+
+    model.moveBucket(bestMove);
+
+    return true;
+  }
+}
@@ -130,6 +130,8 @@ public class PartitionedRegionLoadModel {
   private float primaryAverage = -1;
   /** The average bucket load on a member */
   private float averageLoad = -1;
+  /** The average operation load on a member */
+  private float averageOperationLoad = -1;
   /**
    * The minimum improvement in variance that we'll consider worth moving a primary
    */
@@ -183,6 +185,7 @@ public class PartitionedRegionLoadModel {
     Map<InternalDistributedMember, Member> regionMember =
         new HashMap<InternalDistributedMember, Member>();
     Bucket[] regionBuckets = new Bucket[this.buckets.length];
+    float[] operationLoads = getOperationLoads(memberDetailSet);
     for (InternalPartitionDetails memberDetails : memberDetailSet) {
       InternalDistributedMember memberId =
           (InternalDistributedMember) memberDetails.getDistributedMember();
@@ -198,8 +201,8 @@ public class PartitionedRegionLoadModel {
           Bucket bucket = regionBuckets[i];
           if (bucket == null) {
             Set<PersistentMemberID> offlineMembers = offlineDetails.getOfflineMembers(i);
-            bucket =
-                new Bucket(i, load.getReadLoad(i), memberDetails.getBucketSize(i), offlineMembers);
+            bucket = new Bucket(i, load.getReadLoad(i), memberDetails.getBucketSize(i),
+                operationLoads[i], offlineMembers);
             regionBuckets[i] = bucket;
           }
           bucket.addMember(member);
@@ -303,6 +306,32 @@ public class PartitionedRegionLoadModel {
     }
   }
 
+  /**
+   * Returns the operation load of each bucket of a region: the mean of the operation rates reported
+   * by the members hosting a copy of it. Each copy of the bucket is expected to carry this load
+   * wherever it is moved.
+   */
+  private float[] getOperationLoads(
+      Collection<? extends InternalPartitionDetails> memberDetailSet) {
+    float[] operationLoads = new float[this.buckets.length];
+    int[] copies = new int[this.buckets.length];
+    for (InternalPartitionDetails memberDetails : memberDetailSet) {
+      PRLoad load = memberDetails.getPRLoad();
+      for (int i = 0; i < operationLoads.length; i++) {
+        if (load.getReadLoad(i) > 0) {
+          operationLoads[i] += load.getOperationRate(i);
+          copies[i]++;
+        }
+      }
+    }
+    for (int i = 0; i < operationLoads.length; i++) {
+      if (copies[i] > 1) {
+        operationLoads[i] /= copies[i];
+      }
+    }
+    return operationLoads;
+  }
+
   public void initialize() {
     resetAverages();
     initOverRedundancyBuckets();
@@ -644,6 +673,24 @@ public class PartitionedRegionLoadModel {
     return this.averageLoad;
   }
 
+  /**
+   * Calculate the target weighted operation load on each node.
+   */
+  private float getAverageOperationLoad() {
+    if (this.averageOperationLoad == -1) {
+      float totalWeight = 0;
+      float totalLoad = 0;
+      for (Member member : this.members.values()) {
+        totalLoad += member.getOperationLoad();
+        totalWeight += member.getWeight();
+      }
+
+      this.averageOperationLoad = totalLoad / totalWeight;
+    }
+
+    return this.averageOperationLoad;
+  }
+
   /**
    * Calculate the minimum improvement in variance that will we consider worth while. Currently this
    * is calculated as the improvement in variance that would occur by removing the smallest bucket
@@ -703,6 +750,7 @@ public class PartitionedRegionLoadModel {
   private void resetAverages() {
     this.primaryAverage = -1;
     this.averageLoad = -1;
+    this.averageOperationLoad = -1;
     this.minPrimaryImprovement = -1;
     this.minImprovement = -1;
   }
@@ -764,6 +812,98 @@ public class PartitionedRegionLoadModel {
     return bestMove;
   }
 
+  /**
+   * Find the bucket move that best reduces the combined imbalance of the members' bucket loads and
+   * operation loads. Each imbalance is measured as the variance of the weighted loads relative to
+   * their average, so bytes and operations per second can be added together. A move is only
+   * considered if its combined improvement is at least that of moving the smallest bucket off a
+   * member at the average load, for the load whose smallest bucket counts the least.
+   *
+   * @param operationWeight how much the operation load counts, from 0 (bucket load only) to 1
+   *        (operation load only)
+   */
+  public Move findBestLoadMove(float operationWeight) {
+    float averageLoad = getAverageLoad();
+    float averageOperationLoad = getAverageOperationLoad();
+    if (averageOperationLoad <= 0) {
+      // no operations were reported, balance the bucket load alone
+      operationWeight = 0;
+    }
+    double minImprovement;
+    if (operationWeight == 0) {
+      minImprovement = getMinRelativeImprovement(false, averageLoad);
+    } else if (operationWeight == 1) {
+      minImprovement = getMinRelativeImprovement(true, averageOperationLoad);
+    } else {
+      minImprovement =
+          Math.min((1 - operationWeight) * getMinRelativeImprovement(false, averageLoad),
+              operationWeight * getMinRelativeImprovement(true, averageOperationLoad));
+    }
+    Move bestMove = null;
+    double bestImprovement = 0;
+    for (Member source : this.members.values()) {
+      for (Bucket bucket : source.getBuckets()) {
+        for (Member target : this.members.values()) {
+          if (bucket.getMembersHosting().contains(target)) {
+            continue;
+          }
+          if (!target.willAcceptBucket(bucket, source, true).willAccept()) {
+            continue;
+          }
+          double improvement = 0;
+          if (operationWeight < 1 && bucket.getLoad() > 0) {
+            improvement += (1 - operationWeight)
+                * improvement(source.getTotalLoad(), source.getWeight(), target.getTotalLoad(),
+                    target.getWeight(), bucket.getLoad(), averageLoad)
+                * bucket.getLoad() / (averageLoad * averageLoad);
+          }
+          if (operationWeight > 0 && bucket.getOperationLoad() > 0) {
+            improvement += operationWeight
+                * improvement(source.getOperationLoad(), source.getWeight(),
+                    target.getOperationLoad(), target.getWeight(), bucket.getOperationLoad(),
+                    averageOperationLoad)
+                * bucket.getOperationLoad() / (averageOperationLoad * averageOperationLoad);
+          }
+          if (improvement > bestImprovement && improvement > minImprovement) {
+            Move move = new Move(source, target, bucket);
+            if (!this.attemptedBucketMoves.contains(move)) {
+              bestImprovement = improvement;
+              bestMove = move;
+            }
+          }
+        }
+      }
+    }
+    return bestMove;
+  }
+
+  /**
+   * Calculate the relative improvement in variance that would occur by removing the smallest non
+   * empty bucket from a member with the largest weight and the average load.
+   *
+   * @param operations true to use the operation loads, false for the bucket loads
+   */
+  private double getMinRelativeImprovement(boolean operations, float average) {
+    if (average <= 0) {
+      return 0;
+    }
+    float largestWeight = 0;
+    float smallestBucket = 0;
+    for (Member member : this.members.values()) {
+      if (member.getWeight() > largestWeight) {
+        largestWeight = member.getWeight();
+      }
+      for (Bucket bucket : member.getBuckets()) {
+        float load = operations ? bucket.getOperationLoad() : bucket.getLoad();
+        if (load > 0 && (smallestBucket == 0 || load < smallestBucket)) {
+          smallestBucket = load;
+        }
+      }
+    }
+    double deviation = smallestBucket / (largestWeight * average);
+    return deviation * deviation;
+  }
+
   protected boolean moveBucket(Move bestMove) {
     Member bestSource = bestMove.getSource();
     Member bestTarget = bestMove.getTarget();
@@ -807,6 +947,44 @@ public class PartitionedRegionLoadModel {
     return result;
   }
 
+  /**
+   * Returns the operation load, in operations per second, of each member of the model.
+   */
+  public Map<InternalDistributedMember, Float> getMemberOperationLoads() {
+    Map<InternalDistributedMember, Float> result = new HashMap<InternalDistributedMember, Float>();
+    for (Member member : this.members.values()) {
+      result.put(member.getDistributedMember(), member.getOperationLoad());
+    }
+    return result;
+  }
+
+  /**
+   * Returns the operation load, in operations per second, of one copy of each bucket of the model.
+   */
+  public float[] getBucketOperationLoads() {
+    float[] result = new float[this.buckets.length];
+    for (int i = 0; i < this.buckets.length; i++) {
+      if (this.buckets[i] != null) {
+        result[i] = this.buckets[i].getOperationLoad();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * For testing only, calculate the total variance of the operation load of the members
+   */
+  public float getOperationVarianceForTest() {
+    float variance = 0;
+
+    for (Member member : this.members.values()) {
+      variance +=
+          variance(member.getOperationLoad(), member.getWeight(), getAverageOperationLoad());
+    }
+
+    return variance;
+  }
+
   /**
    * For testing only, calculate the total variance of the members
    */
@@ -930,10 +1108,11 @@ public class PartitionedRegionLoadModel {
      * Update the load on this member rollup with a change in size of one of the bucket rollups
      * hosted by this member
      */
-    public void updateLoad(float load, float primaryLoad, float bytes) {
+    public void updateLoad(float load, float primaryLoad, float bytes, float operationLoad) {
       this.totalLoad += load;
       this.totalPrimaryLoad += primaryLoad;
       this.totalBytes += bytes;
+      this.totalOperationLoad += operationLoad;
     }
 
     @Override
@@ -1053,6 +1232,7 @@ public class PartitionedRegionLoadModel {
         this.load += b.getLoad();
         this.primaryLoad += b.getPrimaryLoad();
         this.bytes += b.getBytes();
+        this.operationLoad += b.getOperationLoad();
         this.offlineMembers.addAll(b.getOfflineMembers());
 
         // Update the load on the members hosting this bucket
@@ -1063,7 +1243,7 @@ public class PartitionedRegionLoadModel {
           if (this.getPrimary() == member) {
             primaryLoad = b.getPrimaryLoad();
           }
-          rollup.updateLoad(b.getLoad(), primaryLoad, b.getBytes());
+          rollup.updateLoad(b.getLoad(), primaryLoad, b.getBytes(), b.getOperationLoad());
         }
         return true;
       }
@@ -1134,6 +1314,7 @@ public class PartitionedRegionLoadModel {
     protected float weight;
     protected float totalLoad;
     protected float totalPrimaryLoad;
+    protected float totalOperationLoad;
     protected long totalBytes;
     protected long localMaxMemory;
     private final Set<Bucket> buckets = new TreeSet<Bucket>();
@@ -1217,6 +1398,7 @@ public class PartitionedRegionLoadModel {
         bucket.addMember(this);
         this.totalBytes += bucket.getBytes();
         this.totalLoad += bucket.getLoad();
+        this.totalOperationLoad += bucket.getOperationLoad();
         return true;
       }
       return false;
@@ -1227,6 +1409,7 @@ public class PartitionedRegionLoadModel {
         bucket.removeMember(this);
         this.totalBytes -= bucket.getBytes();
         this.totalLoad -= bucket.getLoad();
+        this.totalOperationLoad -= bucket.getOperationLoad();
         return true;
       }
       return false;
@@ -1282,6 +1465,13 @@ public class PartitionedRegionLoadModel {
       return this.weight;
     }
 
+    /**
+     * Returns the sum of the operation loads of the buckets hosted by this member.
+     */
+    public float getOperationLoad() {
+      return this.totalOperationLoad;
+    }
+
     @Override
     public String toString() {
       return "Member(id=" + getMemberId() + ")";
@@ -1331,6 +1521,7 @@ public class PartitionedRegionLoadModel {
     private final int id;
     protected float load;
     protected float primaryLoad;
+    protected float operationLoad;
     private int redundancy = -1;
     private final Set<Member> membersHosting = new TreeSet<Member>();
     private Member primary;
@@ -1341,9 +1532,15 @@ public class PartitionedRegionLoadModel {
     }
 
     public Bucket(int id, float load, long bytes, Set<PersistentMemberID> offlineMembers) {
+      this(id, load, bytes, 0, offlineMembers);
+    }
+
+    public Bucket(int id, float load, long bytes, float operationLoad,
+        Set<PersistentMemberID> offlineMembers) {
       this(id);
       this.load = load;
       this.bytes = bytes;
+      this.operationLoad = operationLoad;
       this.offlineMembers = offlineMembers;
     }
 
@@ -1407,6 +1604,13 @@ public class PartitionedRegionLoadModel {
       return this.bytes;
     }
 
+    /**
+     * Returns the reads and writes per second on one copy of this bucket.
+     */
+    public float getOperationLoad() {
+      return this.operationLoad;
+    }
+
     @Override
     public String toString() {
       return "Bucket(id=" + getId() + ",load=" + load + ")";
@@ -14,6 +14,8 @@
  */
 package org.apache.geode.internal.cache.partitioned.rebalance;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
@@ -21,16 +23,29 @@ import org.apache.geode.distributed.internal.membership.InternalDistributedMembe
 /**
  * A BucketOperator which does nothing. Used for simulations.
  *
+ * If it is given the operation loads of the members and buckets with
+ * {@link #setOperationLoads(Map, float[])}, it applies each simulated operation to them, so that
+ * the predicted operation load of each member after the rebalance can be reported.
  */
 public class SimulatedBucketOperator implements BucketOperator {
 
+  private Map<InternalDistributedMember, Float> operationLoadsBefore = Collections.emptyMap();
+
+  private final Map<InternalDistributedMember, Float> operationLoadsAfter =
+      new HashMap<InternalDistributedMember, Float>();
+
+  private float[] bucketOperationLoads;
+
   public void createRedundantBucket(InternalDistributedMember targetMember, int i,
       Map<String, Long> colocatedRegionBytes, BucketOperator.Completion completion) {
+    addOperationLoad(targetMember, i, 1);
     completion.onSuccess();
   }
 
   public boolean moveBucket(InternalDistributedMember source, InternalDistributedMember target,
       int id, Map<String, Long> colocatedRegionBytes) {
+    addOperationLoad(source, id, -1);
+    addOperationLoad(target, id, 1);
     return true;
   }
 
@@ -41,9 +56,49 @@ public class SimulatedBucketOperator implements BucketOperator {
 
   public boolean removeBucket(InternalDistributedMember memberId, int id,
       Map<String, Long> colocatedRegionSizes) {
+    addOperationLoad(memberId, id, -1);
     return true;
   }
 
   @Override
   public void waitForOperations() {}
+
+  /**
+   * Sets the operation loads the simulation starts from.
+   *
+   * @param memberLoads the operation load of each member
+   * @param bucketLoads the operation load of one copy of each bucket
+   */
+  public synchronized void setOperationLoads(Map<InternalDistributedMember, Float> memberLoads,
+      float[] bucketLoads) {
+    this.operationLoadsBefore = new HashMap<InternalDistributedMember, Float>(memberLoads);
+    this.operationLoadsAfter.clear();
+    this.operationLoadsAfter.putAll(memberLoads);
+    this.bucketOperationLoads = bucketLoads;
+  }
+
+  /**
+   * Returns the operation load of each member before the simulated operations.
+   */
+  public synchronized Map<InternalDistributedMember, Float> getOperationLoadsBefore() {
+    return Collections.unmodifiableMap(this.operationLoadsBefore);
+  }
+
+  /**
+   * Returns the predicted operation load of each member after the simulated operations.
+   */
+  public synchronized Map<InternalDistributedMember, Float> getOperationLoadsAfter() {
+    return Collections.unmodifiableMap(new HashMap<InternalDistributedMember, Float>(
+        this.operationLoadsAfter));
+  }
+
+  private synchronized void addOperationLoad(InternalDistributedMember member, int bucketId,
+      int copies) {
+    if (this.bucketOperationLoads == null || bucketId >= this.bucketOperationLoads.length) {
+      return;
+    }
+    Float load = this.operationLoadsAfter.get(member);
+    float newLoad = (load == null ? 0 : load) + copies * this.bucketOperationLoads[bucketId];
+    this.operationLoadsAfter.put(member, newLoad);
+  }
 }
@@ -27,6 +27,10 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import org.apache.geode.DataSerializer;
 import org.apache.geode.cache.CacheClosedException;
@@ -68,6 +72,12 @@ public class GFSnapshot {
   /** the snapshot format version 2 */
   public static final int SNAP_VER_2 = 2;
 
+  /** the snapshot format version 3, identical to version 2 except that entries are compressed */
+  public static final int SNAP_VER_3 = 3;
+
+  /** the buffer size used when compressing or decompressing snapshot entries */
+  private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
   /** the snapshot file format */
   private static final byte[] SNAP_FMT = {0x47, 0x46, 0x53};
 
@@ -116,7 +126,21 @@ public class GFSnapshot {
    * @throws IOException error writing the snapshot file
    */
   public static SnapshotWriter create(File snapshot, String region) throws IOException {
-    final GFSnapshotExporter out = new GFSnapshotExporter(snapshot, region);
+    return create(snapshot, region, false);
+  }
+
+  /**
+   * Creates a snapshot file and provides a serializer to write entries to the snapshot.
+   *
+   * @param snapshot the snapshot file
+   * @param region the region name
+   * @param compressed true if the snapshot entries should be compressed
+   * @return the callback to allow the invoker to provide the snapshot entries
+   * @throws IOException error writing the snapshot file
+   */
+  public static SnapshotWriter create(File snapshot, String region, boolean compressed)
+      throws IOException {
+    final GFSnapshotExporter out = new GFSnapshotExporter(snapshot, region, compressed);
     return new SnapshotWriter() {
       @Override
       public void snapshotEntry(SnapshotRecord entry) throws IOException {
@@ -218,14 +242,28 @@ public class GFSnapshot {
     /** the output stream */
     private final DataOutputStream dos;
 
+    /** the output stream for entries, the same as dos unless the entries are compressed */
+    private final DataOutputStream entries;
+
+    /** the compressor, or null if the entries are not compressed */
+    private final Deflater deflater;
+
+    /** the compressing stream, or null if the entries are not compressed */
+    private final DeflaterOutputStream deflaterStream;
+
     public GFSnapshotExporter(File out, String region) throws IOException {
+      this(out, region, false);
+    }
+
+    public GFSnapshotExporter(File out, String region, boolean compressed) throws IOException {
       FileOutputStream fos = new FileOutputStream(out);
       fc = fos.getChannel();
 
-      dos = new DataOutputStream(new BufferedOutputStream(fos));
+      BufferedOutputStream bos = new BufferedOutputStream(fos);
+      dos = new DataOutputStream(bos);
 
       // write snapshot version
-      dos.writeByte(SNAP_VER_2);
+      dos.writeByte(compressed ? SNAP_VER_3 : SNAP_VER_2);
 
       // write format type
       dos.write(SNAP_FMT);
@@ -235,6 +273,18 @@ public class GFSnapshot {
 
       // write region name
       dos.writeUTF(region);
+
+      if (compressed) {
+        dos.flush();
+        deflater = new Deflater(Deflater.BEST_SPEED);
+        deflaterStream = new DeflaterOutputStream(bos, deflater, COMPRESSION_BUFFER_SIZE);
+        entries = new DataOutputStream(
+            new BufferedOutputStream(deflaterStream, COMPRESSION_BUFFER_SIZE));
+      } else {
+        deflater = null;
+        deflaterStream = null;
+        entries = dos;
+      }
     }
 
     /**
@@ -244,12 +294,19 @@ public class GFSnapshot {
      * @throws IOException unable to write entry
      */
     public void writeSnapshotEntry(SnapshotRecord entry) throws IOException {
-      InternalDataSerializer.invokeToData(entry, dos);
+      InternalDataSerializer.invokeToData(entry, entries);
     }
 
     public void close() throws IOException {
       // write entry terminator entry
-      DataSerializer.writeByteArray(null, dos);
+      DataSerializer.writeByteArray(null, entries);
+
+      // the pdx registry follows the compressed entries uncompressed
+      if (deflaterStream != null) {
+        entries.flush();
+        deflaterStream.finish();
+        deflater.end();
+      }
 
       // grab the pdx start location
       dos.flush();
@@ -290,6 +347,9 @@ public class GFSnapshot {
     /** the input stream */
     private final DataInputStream dis;
 
+    /** the decompressor, or null if the entries are not compressed */
+    private final Inflater inflater;
+
     public GFSnapshotImporter(File in) throws IOException, ClassNotFoundException {
       pdx = new ExportedRegistry();
 
@@ -307,7 +367,7 @@ public class GFSnapshot {
               LocalizedStrings.Snapshot_UNSUPPORTED_SNAPSHOT_VERSION_0.toLocalizedString(SNAP_VER_1)
                   + ": " + in);
 
-        } else if (version == SNAP_VER_2) {
+        } else if (version == SNAP_VER_2 || version == SNAP_VER_3) {
           // read format
           byte[] format = new byte[3];
           tmp.readFully(format);
@@ -344,8 +404,17 @@ public class GFSnapshot {
       checkPdxEnumCompatibility();
 
       // open new stream with buffering for reading entries
-      dis = new DataInputStream(new BufferedInputStream(new FileInputStream(in)));
-      dis.skip(entryPosition);
+      FileInputStream entries = new FileInputStream(in);
+      entries.getChannel().position(entryPosition);
+      if (version == SNAP_VER_3) {
+        inflater = new Inflater();
+        dis = new DataInputStream(new BufferedInputStream(
+            new InflaterInputStream(entries, inflater, COMPRESSION_BUFFER_SIZE),
+            COMPRESSION_BUFFER_SIZE));
+      } else {
+        inflater = null;
+        dis = new DataInputStream(new BufferedInputStream(entries));
+      }
     }
 
     /**
@@ -394,6 +463,9 @@ public class GFSnapshot {
 
     public void close() throws IOException {
       dis.close();
+      if (inflater != null) {
+        inflater.end();
+      }
     }
 
     private TypeRegistry getRegistry() {
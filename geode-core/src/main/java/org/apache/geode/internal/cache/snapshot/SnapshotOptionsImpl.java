@@ -36,6 +36,9 @@ public class SnapshotOptionsImpl<K, V> implements SnapshotOptions<K, V> {
   /** true if parallel mode is enabled */
   private volatile boolean parallel;
 
+  /** true if exported entries should be compressed */
+  private volatile boolean compressed;
+
   /** the file mapper, or null if parallel mode is not enabled */
   private volatile SnapshotFileMapper mapper;
 
@@ -78,6 +81,17 @@ public class SnapshotOptionsImpl<K, V> implements SnapshotOptions<K, V> {
     return parallel;
   }
 
+  @Override
+  public SnapshotOptions<K, V> setCompressed(boolean compressed) {
+    this.compressed = compressed;
+    return this;
+  }
+
+  @Override
+  public boolean isCompressed() {
+    return compressed;
+  }
+
   /**
    * Overrides the default file mapping for parallel import and export operations.
    *
@@ -108,7 +122,8 @@ public class SnapshotOptionsImpl<K, V> implements SnapshotOptions<K, V> {
   public String toString() {
     StringBuffer buf = new StringBuffer();
     buf.append("SnapshotOptionsImpl@").append(System.identityHashCode(this)).append(": ")
-        .append("parallel=").append(parallel).append("; invokeCallbacks=").append(invokeCallbacks)
+        .append("parallel=").append(parallel).append("; compressed=").append(compressed)
+        .append("; invokeCallbacks=").append(invokeCallbacks)
         .append("; filter=").append(filter).append("; mapper=").append(mapper);
     return buf.toString();
   }
@@ -217,11 +217,13 @@ public class ObjectPartList implements DataSerializableFixedID, Releasable {
 
   public void fromData(DataInput in) throws IOException, ClassNotFoundException {
     this.hasKeys = in.readBoolean();
+    int numObjects = in.readInt();
+    // size the lists up front so large results are not copied as they grow
     if (this.hasKeys) {
-      this.keys = new ArrayList();
+      this.keys = new ArrayList(numObjects);
     }
-    int numObjects = in.readInt();
     if (numObjects > 0) {
+      this.objects = new ArrayList(numObjects);
       for (int index = 0; index < numObjects; ++index) {
         if (this.hasKeys) {
           Object key = DataSerializer.readObject(in);
@@ -375,7 +375,8 @@ public class VersionedObjectList extends ObjectPartList implements Externalizabl
     if (this.serializeValues) {
       flags |= 0x10;
     }
-    if (logger.isTraceEnabled(LogMarker.VERSIONED_OBJECT_LIST)) {
+    final boolean isTraceEnabled_VOL = logger.isTraceEnabled(LogMarker.VERSIONED_OBJECT_LIST);
+    if (isTraceEnabled_VOL) {
       logger.trace(LogMarker.VERSIONED_OBJECT_LIST,
           "serializing {} with flags 0x{} startIndex={} numEntries={}", this,
           Integer.toHexString(flags), startIndex, numEntries);
@@ -401,7 +402,7 @@ public class VersionedObjectList extends ObjectPartList implements Externalizabl
       int idx = 0;
       int index = startIndex;
       for (int i = 0; i < numToWrite; i++, index++) {
-        writeObject(this.objects.get(index), idx++, out);
+        writeObject(this.objects.get(index), idx++, out, isTraceEnabled_VOL);
       }
     }
     if (hasTags) {
@@ -443,7 +444,7 @@ public class VersionedObjectList extends ObjectPartList implements Externalizabl
 
   @Override
   public void fromData(DataInput in) throws IOException, ClassNotFoundException {
-    final boolean isDebugEnabled_VOL = logger.isTraceEnabled(LogMarker.VERSIONED_OBJECT_LIST);
+    final boolean isTraceEnabled_VOL = logger.isTraceEnabled(LogMarker.VERSIONED_OBJECT_LIST);
     int flags = in.readByte();
     this.hasKeys = (flags & 0x01) == 0x01;
     boolean hasObjects = (flags & 0x02) == 0x02;
@@ -451,14 +452,14 @@ public class VersionedObjectList extends ObjectPartList implements Externalizabl
     this.regionIsVersioned = (flags & 0x08) == 0x08;
     this.serializeValues = (flags & 0x10) == 0x10;
     boolean persistent = (flags & 0x20) == 0x20;
-    if (isDebugEnabled_VOL) {
+    if (isTraceEnabled_VOL) {
       logger.trace(LogMarker.VERSIONED_OBJECT_LIST,
           "deserializing a VersionedObjectList with flags 0x{}", Integer.toHexString(flags));
     }
     if (this.hasKeys) {
       int size = (int) InternalDataSerializer.readUnsignedVL(in);
       this.keys = new ArrayList(size);
-      if (isDebugEnabled_VOL) {
+      if (isTraceEnabled_VOL) {
         logger.trace(LogMarker.VERSIONED_OBJECT_LIST, "reading {} keys", size);
       }
       for (int i = 0; i < size; i++) {
@@ -467,20 +468,20 @@ public class VersionedObjectList extends ObjectPartList implements Externalizabl
     }
     if (hasObjects) {
       int size = (int) InternalDataSerializer.readUnsignedVL(in);
-      if (isDebugEnabled_VOL) {
+      if (isTraceEnabled_VOL) {
         logger.trace(LogMarker.VERSIONED_OBJECT_LIST, "reading {} objects", size);
       }
       this.objects = new ArrayList(size);
       this.objectTypeArray = new byte[size];
       for (int i = 0; i < size; i++) {
-        readObject(i, in);
+        readObject(i, in, isTraceEnabled_VOL);
       }
     } else {
       this.objects = new ArrayList();
     }
     if (hasTags) {
       int size = (int) InternalDataSerializer.readUnsignedVL(in);
-      if (isDebugEnabled_VOL) {
+      if (isTraceEnabled_VOL) {
         logger.trace(LogMarker.VERSIONED_OBJECT_LIST, "reading {} version tags", size);
       }
       this.versionTags = new ArrayList<VersionTag>(size);
@@ -512,9 +513,10 @@ public class VersionedObjectList extends ObjectPartList implements Externalizabl
     }
   }
 
-  private void writeObject(Object value, int index, DataOutput out) throws IOException {
+  private void writeObject(Object value, int index, DataOutput out, boolean isTraceEnabled)
+      throws IOException {
     byte objectType = this.objectTypeArray[index];
-    if (logger.isTraceEnabled(LogMarker.VERSIONED_OBJECT_LIST)) {
+    if (isTraceEnabled) {
       logger.trace(LogMarker.VERSIONED_OBJECT_LIST, "writing object {} of type {}: {}", index,
           objectType, value);
     }
@@ -540,10 +542,11 @@ public class VersionedObjectList extends ObjectPartList implements Externalizabl
   }
 
 
-  private void readObject(int index, DataInput in) throws IOException, ClassNotFoundException {
+  private void readObject(int index, DataInput in, boolean isTraceEnabled)
+      throws IOException, ClassNotFoundException {
     Object value;
     this.objectTypeArray[index] = in.readByte();
-    if (logger.isTraceEnabled(LogMarker.VERSIONED_OBJECT_LIST)) {
+    if (isTraceEnabled) {
       logger.trace(LogMarker.VERSIONED_OBJECT_LIST, "reading object {} of type {}", index,
           objectTypeArray[index]);
     }
@@ -98,6 +98,7 @@ import org.apache.geode.distributed.DistributedMember;
 import org.apache.geode.distributed.DistributedSystem;
 import org.apache.geode.distributed.internal.DM;
 import org.apache.geode.distributed.internal.DistributionAdvisor;
+import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.i18n.LogWriterI18n;
@@ -113,6 +114,7 @@ import org.apache.geode.internal.cache.DiskStoreFactoryImpl;
 import org.apache.geode.internal.cache.DiskStoreImpl;
 import org.apache.geode.internal.cache.DiskStoreMonitor;
 import org.apache.geode.internal.cache.DistributedRegion;
+import org.apache.geode.internal.cache.DummyCachePerfStats;
 import org.apache.geode.internal.cache.ExpirationScheduler;
 import org.apache.geode.internal.cache.FilterProfile;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
@@ -165,6 +167,16 @@ import org.apache.geode.pdx.internal.TypeRegistry;
  */
 public class CacheCreation implements InternalCache {
 
+  /**
+   * The number of threads used to create the root regions declared in cache.xml. With the default
+   * of 1 they are created one after another; with more, roots that are not colocated with each
+   * other are created concurrently.
+   *
+   * @since Geode 1.4
+   */
+  static final int PARALLEL_REGION_CREATION_THREADS = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "Cache.PARALLEL_REGION_CREATION_THREADS", 1);
+
   /** The amount of time to wait for a distributed lock */
   private int lockTimeout = GemFireCacheImpl.DEFAULT_LOCK_TIMEOUT;
   private boolean hasLockTimeout = false;
@@ -558,10 +570,47 @@ public class CacheCreation implements InternalCache {
   }
 
   void initializeRegions(Map<String, Region<?, ?>> declarativeRegions, Cache cache) {
-    for (Region region : declarativeRegions.values()) {
-      RegionCreation regionCreation = (RegionCreation) region;
-      regionCreation.createRoot(cache);
+    initializeRegions(declarativeRegions, cache, PARALLEL_REGION_CREATION_THREADS);
+  }
+
+  void initializeRegions(Map<String, Region<?, ?>> declarativeRegions, Cache cache,
+      int numThreads) {
+    CachePerfStats stats = null;
+    if (cache instanceof InternalCache) {
+      stats = ((InternalCache) cache).getCachePerfStats();
+    }
+    if (stats == null) {
+      stats = new DummyCachePerfStats();
+    }
+    final CachePerfStats cachePerfStats = stats;
+    long start = cachePerfStats.startDeclaredRegionCreation();
+
+    if (numThreads > 1 && declarativeRegions.size() > 1) {
+      final PoolManagerImpl pm = this.poolManager;
+      new ParallelRegionCreator(numThreads).createRoots(declarativeRegions, cache,
+          regionCreation -> {
+            // the region creation threads look up pools the way the creating thread would
+            PoolManagerImpl previous = createInProgress.get();
+            createInProgress.set(pm);
+            try {
+              createRoot(regionCreation, cache, cachePerfStats);
+            } finally {
+              createInProgress.set(previous);
+            }
+          });
+    } else {
+      for (Region region : declarativeRegions.values()) {
+        createRoot((RegionCreation) region, cache, cachePerfStats);
+      }
     }
+
+    cachePerfStats.endDeclaredRegions(start);
+  }
+
+  private void createRoot(RegionCreation regionCreation, Cache cache, CachePerfStats stats) {
+    long start = stats.startDeclaredRegionCreation();
+    regionCreation.createRoot(cache);
+    stats.endDeclaredRegionCreation(start);
   }
 
   /**
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.xmlcache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.logging.LoggingThreadGroup;
+
+/**
+ * Creates the root regions declared in a cache.xml on several threads. Roots whose partitioned
+ * regions, or those of their subregions, are colocated with each other form a group that is created
+ * on one thread in declaration order, so a region is only created once the region it is colocated
+ * with exists. Independent groups are created concurrently, which lets their profile exchanges,
+ * disk recoveries and initial image operations overlap.
+ *
+ * @since Geode 1.4
+ */
+class ParallelRegionCreator {
+
+  private static final Logger logger = LogService.getLogger();
+
+  private final int maxThreads;
+
+  /**
+   * @param maxThreads the maximum number of threads creating regions
+   */
+  ParallelRegionCreator(int maxThreads) {
+    this.maxThreads = maxThreads;
+  }
+
+  /**
+   * Creates the given roots with the creator, returning once every root has been created. If the
+   * creation of a root fails no further roots are started, and the first failure is rethrown once
+   * the roots already being created are done.
+   */
+  void createRoots(Map<String, Region<?, ?>> roots, Cache cache, Consumer<RegionCreation> creator) {
+    List<List<RegionCreation>> groups = groupByColocation(roots, cache);
+    int numThreads = Math.min(this.maxThreads, groups.size());
+    if (numThreads <= 1) {
+      for (List<RegionCreation> group : groups) {
+        group.forEach(creator);
+      }
+      return;
+    }
+
+    logger.info("Creating {} declared regions in {} independent groups on {} threads",
+        roots.size(), groups.size(), numThreads);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    ExecutorService executor = createExecutor(numThreads);
+    try {
+      for (final List<RegionCreation> group : groups) {
+        executor.execute(() -> {
+          for (RegionCreation regionCreation : group) {
+            if (failure.get() != null) {
+              return;
+            }
+            try {
+              creator.accept(regionCreation);
+            } catch (RuntimeException | Error e) {
+              failure.compareAndSet(null, e);
+              return;
+            }
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      awaitTermination(executor);
+    }
+
+    Throwable t = failure.get();
+    if (t instanceof Error) {
+      throw (Error) t;
+    } else if (t != null) {
+      throw (RuntimeException) t;
+    }
+  }
+
+  /**
+   * Waits for the executor to finish. Regions that are being created cannot be abandoned, so an
+   * interrupt is only remembered until they are done.
+   */
+  private void awaitTermination(ExecutorService executor) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          if (executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private ExecutorService createExecutor(int numThreads) {
+    final ThreadGroup threadGroup =
+        LoggingThreadGroup.createThreadGroup("Region Creation Threads", logger);
+    ThreadFactory threadFactory = new ThreadFactory() {
+      private final AtomicInteger threadCount = new AtomicInteger(1);
+
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(threadGroup, runnable,
+            "Region Creation Thread " + this.threadCount.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+    return Executors.newFixedThreadPool(numThreads, threadFactory);
+  }
+
+  /**
+   * Groups the roots so that roots colocated with each other are in the same group. The roots of a
+   * group, and the groups, are in declaration order.
+   */
+  static List<List<RegionCreation>> groupByColocation(Map<String, Region<?, ?>> roots,
+      Cache cache) {
+    List<RegionCreation> creations = new ArrayList<>(roots.size());
+    Map<String, Integer> indexes = new HashMap<>();
+    for (Region<?, ?> root : roots.values()) {
+      RegionCreation regionCreation = (RegionCreation) root;
+      indexes.put(regionCreation.getName(), creations.size());
+      creations.add(regionCreation);
+    }
+
+    int[] parents = new int[creations.size()];
+    for (int i = 0; i < parents.length; i++) {
+      parents[i] = i;
+    }
+    for (int i = 0; i < creations.size(); i++) {
+      List<String> colocatedRoots = new ArrayList<>();
+      addColocatedRoots(creations.get(i), cache, colocatedRoots);
+      for (String colocatedRoot : colocatedRoots) {
+        Integer other = indexes.get(colocatedRoot);
+        if (other != null) {
+          parents[find(parents, i)] = find(parents, other);
+        }
+      }
+    }
+
+    Map<Integer, List<RegionCreation>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < creations.size(); i++) {
+      groups.computeIfAbsent(find(parents, i), k -> new ArrayList<>()).add(creations.get(i));
+    }
+    return new ArrayList<>(groups.values());
+  }
+
+  private static int find(int[] parents, int i) {
+    while (parents[i] != i) {
+      parents[i] = parents[parents[i]];
+      i = parents[i];
+    }
+    return i;
+  }
+
+  /**
+   * Adds the names of the roots that the region, or any of its subregions, is colocated with.
+   */
+  private static void addColocatedRoots(RegionCreation regionCreation, Cache cache,
+      List<String> colocatedRoots) {
+    String colocatedWith = getColocatedWith(regionCreation.getAttributes(), cache);
+    if (colocatedWith != null) {
+      String path = colocatedWith.startsWith(Region.SEPARATOR)
+          ? colocatedWith.substring(Region.SEPARATOR.length()) : colocatedWith;
+      int end = path.indexOf(Region.SEPARATOR);
+      colocatedRoots.add(end < 0 ? path : path.substring(0, end));
+    }
+    for (Object subregion : regionCreation.subregions(false)) {
+      addColocatedRoots((RegionCreation) subregion, cache, colocatedRoots);
+    }
+  }
+
+  /**
+   * Returns the region the attributes are colocated with, looking at the named region attributes
+   * they inherit from if they do not have partition attributes of their own.
+   */
+  private static String getColocatedWith(RegionAttributes<?, ?> attrs, Cache cache) {
+    if (attrs == null) {
+      return null;
+    }
+    PartitionAttributes<?, ?> partitionAttributes = attrs.getPartitionAttributes();
+    if (partitionAttributes == null && attrs instanceof RegionAttributesCreation) {
+      String refid = ((RegionAttributesCreation) attrs).getRefid();
+      RegionAttributes<?, ?> parent = refid == null ? null : cache.getRegionAttributes(refid);
+      if (parent != null) {
+        partitionAttributes = parent.getPartitionAttributes();
+      }
+    }
+    return partitionAttributes == null ? null : partitionAttributes.getColocatedWith();
+  }
+}
@@ -233,4 +233,20 @@ public class ResourceManagerCreation implements ResourceManager {
   public boolean hasEvictionOffHeap() {
     return this.evictionOffHeapSet;
   }
+
+  public void setMaxBucketTransfers(int maxTransfers) {
+    throw new IllegalArgumentException("Unused");
+  }
+
+  public int getMaxBucketTransfers() {
+    throw new IllegalArgumentException("Unused");
+  }
+
+  public void setBucketTransferBytesPerSecond(long bytesPerSecond) {
+    throw new IllegalArgumentException("Unused");
+  }
+
+  public long getBucketTransferBytesPerSecond() {
+    throw new IllegalArgumentException("Unused");
+  }
 }
@@ -7713,6 +7713,18 @@ public class LocalizedStrings {
       new StringId(6664, "{0}: Providing synchronization event for key={1}; timestamp={2}: {3}");
   public static final StringId AbstractGatewaySender_ENQUEUEING_SYNCHRONIZATION_EVENT =
       new StringId(6665, "{0}: Enqueueing synchronization event: {1}");
+  public static final StringId InitialImageOperation_REGION_0_REQUESTING_SLICE_1_OF_2_FROM_3 =
+      new StringId(6666, "Region {0} requesting slice {1} of {2} of its initial image from {3}");
+  public static final StringId InitialImageOperation_REGION_0_MATCHED_1_OF_2_KEY_RANGES_WITH_3 =
+      new StringId(6667,
+          "Region {0} matched {1} of {2} key ranges with {3}; kept {4} recovered entries without transferring them");
+  public static final StringId PartitionedRegionRebalanceOp_SIMULATED_LOADS_OF_0 =
+      new StringId(6668,
+          "Simulated rebalance of {0} predicts operations per second on each member of {1} before and {2} after");
+  public static final StringId InternalResourceManager_MAX_BUCKET_TRANSFERS_NEGATIVE_0 =
+      new StringId(6669, "The maximum number of bucket transfers must not be negative: {0}");
+  public static final StringId InternalResourceManager_BUCKET_TRANSFER_BYTES_NEGATIVE_0 =
+      new StringId(6670, "The bucket transfer bytes per second must not be negative: {0}");
 
   /** Testing strings, messageId 90000-99999 **/
 
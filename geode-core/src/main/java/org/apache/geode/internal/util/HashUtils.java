@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.Version;
+
+/**
+ * Hash codes that every member of a distributed system computes alike.
+ *
+ * @since Geode 1.4
+ */
+public class HashUtils {
+
+  private HashUtils() {}
+
+  /**
+   * Returns a hash code of the given object that is the same in every JVM, for assigning objects to
+   * slices or stripes that several members must agree on. {@link Object#hashCode()} does not have
+   * that property for enums, or for classes that do not override it, since their identity hash code
+   * differs from JVM to JVM. Strings, Integers and Longs use their specified hash code, any other
+   * object the hash of its serialized form. The serialized form of a class may change between
+   * versions, so the hash code is only guaranteed to be the same for members of the same version.
+   *
+   * @throws IllegalArgumentException if the object can not be serialized
+   */
+  public static int stableHashCode(Object obj) {
+    Class<?> c = obj.getClass();
+    if (c == String.class || c == Integer.class || c == Long.class) {
+      return obj.hashCode();
+    }
+    HeapDataOutputStream hdos = new HeapDataOutputStream(Version.CURRENT);
+    try {
+      DataSerializer.writeObject(obj, hdos);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Could not serialize " + obj, e);
+    }
+    return Arrays.hashCode(hdos.toByteArray());
+  }
+}
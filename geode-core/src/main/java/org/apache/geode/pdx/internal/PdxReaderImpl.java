@@ -49,6 +49,8 @@ import org.apache.geode.pdx.internal.AutoSerializableManager.PdxFieldWrapper;
 public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
 
   private static final long serialVersionUID = -6094553093860427759L;
+
+  private static final PdxStringDictionary STRING_DICTIONARY = PdxStringDictionary.getInstance();
   /**
    * This is the type the blob we are reading was encoded with.
    */
@@ -307,11 +309,11 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
   }
 
   public String readString(PdxField ft) {
-    return this.dis.readString(getPositionForField(ft));
+    return STRING_DICTIONARY.canonicalize(this.dis.readString(getPositionForField(ft)));
   }
 
   public String readString() {
-    return this.dis.readString();
+    return STRING_DICTIONARY.canonicalize(this.dis.readString());
   }
 
   public Object readObject(String fieldName) {
@@ -510,11 +512,11 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
   }
 
   public String[] readStringArray(PdxField ft) {
-    return this.dis.readStringArray(getPositionForField(ft));
+    return STRING_DICTIONARY.canonicalize(this.dis.readStringArray(getPositionForField(ft)));
   }
 
   public String[] readStringArray() {
-    return this.dis.readStringArray();
+    return STRING_DICTIONARY.canonicalize(this.dis.readStringArray());
   }
 
   public Object[] readObjectArray(String fieldName) {
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+
+/**
+ * A bounded dictionary used to canonicalize short pdx string field values as they are read. Low
+ * cardinality fields (status codes, country names, currencies, ...) are repeated in a huge number
+ * of values; when those values are deserialized each of them would otherwise hold its own copy of
+ * the same String.
+ * <p>
+ * The dictionary is disabled unless {@link #MAX_SIZE_PROPERTY} is set to a positive value. Once
+ * the dictionary is full new strings are returned as is, so a high cardinality field can not cause
+ * it to grow without bound.
+ *
+ * @since Geode 1.4
+ */
+public class PdxStringDictionary {
+
+  /**
+   * The maximum number of distinct strings kept in the dictionary. Zero, the default, disables it.
+   */
+  public static final String MAX_SIZE_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "pdx.stringDictionary.maxSize";
+
+  /**
+   * Strings longer than this are never added to the dictionary.
+   */
+  public static final String MAX_LENGTH_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "pdx.stringDictionary.maxLength";
+
+  private static final PdxStringDictionary INSTANCE = new PdxStringDictionary(
+      Integer.getInteger(MAX_SIZE_PROPERTY, 0), Integer.getInteger(MAX_LENGTH_PROPERTY, 64));
+
+  private final int maxSize;
+
+  private final int maxLength;
+
+  private final ConcurrentHashMap<String, String> strings;
+
+  public PdxStringDictionary(int maxSize, int maxLength) {
+    this.maxSize = maxSize;
+    this.maxLength = maxLength;
+    this.strings = maxSize > 0 ? new ConcurrentHashMap<>() : null;
+  }
+
+  public static PdxStringDictionary getInstance() {
+    return INSTANCE;
+  }
+
+  public boolean isEnabled() {
+    return this.strings != null;
+  }
+
+  /**
+   * Returns the dictionary's instance of the given string, adding it if there is room.
+   */
+  public String canonicalize(String s) {
+    if (s == null || this.strings == null || s.length() > this.maxLength) {
+      return s;
+    }
+    String result = this.strings.get(s);
+    if (result != null) {
+      return result;
+    }
+    if (this.strings.size() >= this.maxSize) {
+      return s;
+    }
+    result = this.strings.putIfAbsent(s, s);
+    return result == null ? s : result;
+  }
+
+  public String[] canonicalize(String[] strings) {
+    if (strings == null || this.strings == null) {
+      return strings;
+    }
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = canonicalize(strings[i]);
+    }
+    return strings;
+  }
+
+  public int size() {
+    return this.strings == null ? 0 : this.strings.size();
+  }
+
+  public void clear() {
+    if (this.strings != null) {
+      this.strings.clear();
+    }
+  }
+}
@@ -16,12 +16,12 @@ package org.apache.geode.pdx.internal;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.Logger;
 
@@ -96,11 +96,9 @@ public class PeerTypeRegistration implements TypeRegistration {
    * that type in the region. And, if a type is present in this map, that means we read the type
    * while holding the dlock, which means the type was distributed to all members.
    */
-  private Map<PdxType, Integer> typeToId =
-      Collections.synchronizedMap(new HashMap<PdxType, Integer>());
+  private final Map<PdxType, Integer> typeToId = new ConcurrentHashMap<PdxType, Integer>();
 
-  private Map<EnumInfo, EnumId> enumToId =
-      Collections.synchronizedMap(new HashMap<EnumInfo, EnumId>());
+  private final Map<EnumInfo, EnumId> enumToId = new ConcurrentHashMap<EnumInfo, EnumId>();
 
   private final Map<String, Set<PdxType>> classToType =
       new CopyOnWriteHashMap<String, Set<PdxType>>();
@@ -377,6 +375,11 @@ public class PeerTypeRegistration implements TypeRegistration {
     }
     lock();
     try {
+      // another thread may have defined this type while we waited for the dlock
+      existingId = typeToId.get(newType);
+      if (existingId != null) {
+        return existingId;
+      }
       int id = getExistingIdForType(newType);
       if (id != -1) {
         return id;
@@ -638,6 +641,10 @@ public class PeerTypeRegistration implements TypeRegistration {
     }
     lock();
     try {
+      existingId = enumToId.get(ei);
+      if (existingId != null) {
+        return existingId.intValue();
+      }
       EnumId id = getExistingIdForEnum(ei);
       if (id != null) {
         return id.intValue();
@@ -685,6 +692,10 @@ public class PeerTypeRegistration implements TypeRegistration {
     }
     lock();
     try {
+      existingId = enumToId.get(newInfo);
+      if (existingId != null) {
+        return existingId.intValue();
+      }
       EnumId id = getExistingIdForEnum(newInfo);
       if (id != null) {
         return id.intValue();
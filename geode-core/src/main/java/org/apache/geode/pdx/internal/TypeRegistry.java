@@ -16,6 +16,7 @@ package org.apache.geode.pdx.internal;
 
 import static java.lang.Integer.*;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -43,6 +44,15 @@ public class TypeRegistry {
   private static final boolean DISABLE_TYPE_REGISTRY =
       Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "TypeRegistry.DISABLE_PDX_REGISTRY");
 
+  /**
+   * If true, a peer does not load the existing types and enums into its local caches when the
+   * registry is initialized.
+   */
+  private static final boolean DISABLE_TYPE_PREFETCH =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "TypeRegistry.DISABLE_TYPE_PREFETCH");
+
+  private static final int TYPE_LOOKUP_STRIPES = 64;
+
   private final Map<Integer, PdxType> idToType = new CopyOnWriteHashMap<>();
 
   private final Map<PdxType, Integer> typeToId = new CopyOnWriteHashMap<>();
@@ -65,8 +75,17 @@ public class TypeRegistry {
 
   private final InternalCache cache;
 
+  /**
+   * Locks used to look up a type id that is not yet cached locally. Lookups of different ids do not
+   * wait on each other.
+   */
+  private final Object[] typeLookupLocks = new Object[TYPE_LOOKUP_STRIPES];
+
   public TypeRegistry(InternalCache cache, boolean disableTypeRegistry) {
     this.cache = cache;
+    for (int i = 0; i < this.typeLookupLocks.length; i++) {
+      this.typeLookupLocks[i] = new Object();
+    }
 
     if (DISABLE_TYPE_REGISTRY || disableTypeRegistry) {
       this.distributedTypeRegistry = new NullTypeRegistration();
@@ -115,7 +134,41 @@ public class TypeRegistry {
   public void initialize() {
     if (!this.cache.getPdxPersistent() || this.cache.getPdxDiskStore() == null
         || this.cache.findDiskStore(this.cache.getPdxDiskStore()) != null) {
-      this.distributedTypeRegistry.initialize();
+      initializeDistributedTypeRegistry();
+    }
+  }
+
+  private void initializeDistributedTypeRegistry() {
+    this.distributedTypeRegistry.initialize();
+    prefetchTypes();
+  }
+
+  /**
+   * Loads the types and enums already stored in the peer registry region into the local caches so
+   * that serialization threads find them without going to the region once the cache is open.
+   */
+  private void prefetchTypes() {
+    if (DISABLE_TYPE_PREFETCH || !(this.distributedTypeRegistry instanceof PeerTypeRegistration)) {
+      return;
+    }
+    Map<Integer, PdxType> types = this.distributedTypeRegistry.types();
+    Map<PdxType, Integer> typeIds = new HashMap<>(types.size());
+    for (Map.Entry<Integer, PdxType> entry : types.entrySet()) {
+      typeIds.put(entry.getValue(), entry.getKey());
+    }
+    this.idToType.putAll(types);
+    this.typeToId.putAll(typeIds);
+
+    Map<Integer, EnumInfo> enums = this.distributedTypeRegistry.enums();
+    Map<EnumInfo, Integer> enumIds = new HashMap<>(enums.size());
+    for (Map.Entry<Integer, EnumInfo> entry : enums.entrySet()) {
+      enumIds.put(entry.getValue(), entry.getKey());
+    }
+    this.idToEnum.putAll(enums);
+    this.enumInfoToId.putAll(enumIds);
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("Prefetched {} pdx types and {} pdx enums", types.size(), enums.size());
     }
   }
 
@@ -132,7 +185,11 @@ public class TypeRegistry {
       return pdxType;
     }
 
-    synchronized (this) {
+    synchronized (this.typeLookupLocks[(typeId & 0x7FFFFFFF) % TYPE_LOOKUP_STRIPES]) {
+      pdxType = this.idToType.get(typeId);
+      if (pdxType != null) {
+        return pdxType;
+      }
       pdxType = this.distributedTypeRegistry.getType(typeId);
       if (pdxType != null) {
         this.idToType.put(typeId, pdxType);
@@ -272,7 +329,7 @@ public class TypeRegistry {
   public void creatingDiskStore(DiskStore dsi) {
     if (this.cache.getPdxDiskStore() != null
         && dsi.getName().equals(this.cache.getPdxDiskStore())) {
-      this.distributedTypeRegistry.initialize();
+      initializeDistributedTypeRegistry();
     }
   }
 
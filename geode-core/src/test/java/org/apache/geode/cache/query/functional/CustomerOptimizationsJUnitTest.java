@@ -608,6 +608,49 @@ public class CustomerOptimizationsJUnitTest {
     CacheUtils.compareResultsOfWithAndWithoutIndex(sr, this);
   }
 
+  @Test
+  public void testLargeAndOperandIsIteratedInsteadOfIntersected() throws Exception {
+    QueryService qs = CacheUtils.getQueryService();
+    Region rgn = CacheUtils.getRegion("/pos");
+    for (int i = 100; i < 5000; ++i) {
+      rgn.put("" + i, new Portfolio(i));
+    }
+    String[] queries =
+        new String[] {"select * from /pos p where p.ID < 200 AND p.status = 'active'"};
+    SelectResults[][] sr = new SelectResults[queries.length][2];
+
+    for (int i = 0; i < queries.length; ++i) {
+      Query q = qs.newQuery(queries[i]);
+      sr[i][0] = (SelectResults) q.execute();
+    }
+
+    qs.createIndex("PortFolioID", IndexType.FUNCTIONAL, "ID", "/pos");
+    qs.createIndex("Status", IndexType.FUNCTIONAL, "status", "/pos");
+    final boolean[] actualIntersectionCallback = new boolean[queries.length];
+    QueryObserverHolder.setInstance(new QueryObserverAdapter() {
+      private int i = 0;
+
+      public void invokedQueryUtilsIntersection(SelectResults r1, SelectResults r2) {
+        actualIntersectionCallback[i] = true;
+      }
+
+      public void afterQueryEvaluation(Object result) {
+        ++i;
+      }
+    });
+
+    for (int i = 0; i < queries.length; ++i) {
+      Query q = qs.newQuery(queries[i]);
+      sr[i][1] = (SelectResults) q.execute();
+      // the status operand matches more than ten times the entries left after the ID operand, so
+      // it is evaluated on those entries rather than looked up and intersected
+      assertEquals(false, actualIntersectionCallback[i]);
+      assertEquals(100, sr[i][1].size());
+    }
+
+    CacheUtils.compareResultsOfWithAndWithoutIndex(sr, this);
+  }
+
   @Test
   public void testNestedJunction() throws Exception {
     QueryService qs = CacheUtils.getQueryService();
@@ -231,6 +231,29 @@ public class MultiIndexCreationJUnitTest {
 
   }
 
+  @Test
+  public void testMultiIndexCreationPopulatesAllLocalBuckets() throws Exception {
+    Region pr =
+        CacheUtils.getCache().createRegionFactory(RegionShortcut.PARTITION).create(prRegionName);
+    for (int i = 0; i < 500; i++) {
+      pr.put("" + i, new Portfolio(i));
+    }
+
+    QueryService qs = CacheUtils.getQueryService();
+    qs.defineIndex("statusIndex", "status", pr.getFullPath());
+    qs.defineIndex("IDIndex", "ID", pr.getFullPath());
+    List<Index> indexes = qs.createDefinedIndexes();
+    assertEquals(2, indexes.size());
+
+    assertEquals(500, qs.getIndex(pr, "statusIndex").getStatistics().getNumberOfValues());
+    assertEquals(500, qs.getIndex(pr, "IDIndex").getStatistics().getNumberOfValues());
+
+    SelectResults sr = (SelectResults) qs
+        .newQuery("select * from " + pr.getFullPath() + " where status = 'active' and ID < 100")
+        .execute();
+    assertEquals(50, sr.size());
+  }
+
   @Test
   public void testIndexCreationOnMultipleRegions() throws Exception {
     Region pr =
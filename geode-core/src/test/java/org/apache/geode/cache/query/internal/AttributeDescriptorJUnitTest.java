@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.query.NameNotFoundException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class AttributeDescriptorJUnitTest {
+
+  private static final MethodInvocationAuthorizer ALLOW_ALL = (method, target) -> {
+  };
+
+  @Test
+  public void readsPublicFieldsAndGetters() throws Exception {
+    Value value = new Value();
+    assertEquals(3, new AttributeDescriptor(ALLOW_ALL, "id").read(value));
+    assertEquals("active", new AttributeDescriptor(ALLOW_ALL, "status").read(value));
+    assertEquals(QueryService.UNDEFINED, new AttributeDescriptor(ALLOW_ALL, "id").read(null));
+  }
+
+  @Test
+  public void readMemberIsResolvedOnce() throws Exception {
+    Member field = new AttributeDescriptor(ALLOW_ALL, "id").getReadMember(Value.class);
+    Member method = new AttributeDescriptor(ALLOW_ALL, "status").getReadMember(Value.class);
+    assertTrue(field instanceof Field);
+    assertTrue(method instanceof Method);
+    assertSame(field, new AttributeDescriptor(ALLOW_ALL, "id").getReadMember(Value.class));
+    assertSame(method, new AttributeDescriptor(ALLOW_ALL, "status").getReadMember(Value.class));
+  }
+
+  @Test(expected = NameNotFoundException.class)
+  public void unknownAttributeThrowsNameNotFound() throws Exception {
+    new AttributeDescriptor(ALLOW_ALL, "missing").getReadMember(Value.class);
+  }
+
+  public static class Value {
+    public int id = 3;
+
+    public String getStatus() {
+      return "active";
+    }
+  }
+}
@@ -14,10 +14,15 @@
  */
 package org.apache.geode.cache.query.internal;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -28,7 +33,11 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.CacheUtils;
 import org.apache.geode.cache.query.QueryInvalidException;
 import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.Struct;
 import org.apache.geode.cache.query.data.Portfolio;
+import org.apache.geode.cache.query.internal.types.ObjectTypeImpl;
+import org.apache.geode.cache.query.internal.types.StructTypeImpl;
+import org.apache.geode.cache.query.types.ObjectType;
 import org.apache.geode.internal.i18n.LocalizedStrings;
 import org.apache.geode.test.junit.categories.IntegrationTest;
 
@@ -141,6 +150,36 @@ public class CompiledGroupBySelectJUnitTest {
     }
   }
 
+  @Test
+  public void testCombineBucketResults() throws Exception {
+    String queryStr = "select pf.status, sum(pf.ID), avg(pf.ID), count(pf.ID) from /portfolio pf"
+        + " group by pf.status";
+    QueryService qs = CacheUtils.getQueryService();
+    CompiledGroupBySelect cgs =
+        (CompiledGroupBySelect) ((DefaultQuery) qs.newQuery(queryStr)).getSimpleSelect();
+
+    ObjectType objectType = new ObjectTypeImpl(Object.class);
+    StructTypeImpl type = new StructTypeImpl(new String[] {"status", "sum", "avg", "count"},
+        new ObjectType[] {objectType, objectType, objectType, objectType});
+    List bucketResults = Arrays.asList(
+        new StructImpl(type, new Object[] {"active", 3, new Object[] {1, 3}, 1}),
+        new StructImpl(type, new Object[] {"active", 4, new Object[] {2, 4}, 2}),
+        new StructImpl(type, new Object[] {"inactive", 5, new Object[] {1, 5}, 1}));
+
+    List combined = cgs.combineBucketResults(bucketResults);
+    assertEquals(2, combined.size());
+    Object[] active = ((Struct) combined.get(0)).getFieldValues();
+    assertEquals("active", active[0]);
+    assertEquals(7, active[1]);
+    assertArrayEquals(new Object[] {3, 7}, (Object[]) active[2]);
+    assertEquals(3, active[3]);
+    Object[] inactive = ((Struct) combined.get(1)).getFieldValues();
+    assertEquals("inactive", inactive[0]);
+    assertEquals(5, inactive[1]);
+    assertArrayEquals(new Object[] {1, 5}, (Object[]) inactive[2]);
+    assertEquals(1, inactive[3]);
+  }
+
   @Test
   public void testUnsupportedQuery() throws Exception {
     String queryStr = "select count(*)  from /portfolio pf where pf.ID > 0  group by pf.shortID";
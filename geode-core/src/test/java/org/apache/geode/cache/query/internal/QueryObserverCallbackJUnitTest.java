@@ -326,6 +326,10 @@ public class QueryObserverCallbackJUnitTest {
 
     }
 
+    public void afterIndexSizeEstimate(Index index, Object key, int estimate) {
+
+    }
+
     public void afterQueryEvaluation(Object result) {
 
     }
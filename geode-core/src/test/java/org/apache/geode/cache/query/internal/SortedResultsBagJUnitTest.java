@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class SortedResultsBagJUnitTest {
+
+  private static final Comparator<Integer> NATURAL_ORDER = Comparator.naturalOrder();
+
+  @Test
+  public void boundedBagKeepsSmallestElements() {
+    SortedResultsBag<Integer> bag = new SortedResultsBag<>(NATURAL_ORDER, true);
+    bag.setMaxSize(3);
+    for (int i : new int[] {5, 1, 4, 1, 3, 6}) {
+      bag.add(i);
+    }
+    assertEquals(3, bag.size());
+    assertEquals(Arrays.asList(1, 1, 3), bag.asList());
+  }
+
+  @Test
+  public void boundedBagDropsTrailingNulls() {
+    SortedResultsBag<Integer> bag = new SortedResultsBag<>(NATURAL_ORDER, false);
+    bag.setMaxSize(2);
+    bag.add(null);
+    bag.add(2);
+    bag.add(1);
+    assertEquals(Arrays.asList(1, 2), bag.asList());
+  }
+
+  @Test
+  public void boundedBagKeepsLeadingNulls() {
+    SortedResultsBag<Integer> bag = new SortedResultsBag<>(NATURAL_ORDER, true);
+    bag.setMaxSize(2);
+    bag.add(null);
+    bag.add(2);
+    bag.add(1);
+    assertEquals(Arrays.asList(null, 1), bag.asList());
+  }
+
+  @Test
+  public void unboundedBagKeepsAllElements() {
+    SortedResultsBag<Integer> bag = new SortedResultsBag<>(NATURAL_ORDER, true);
+    for (int i : new int[] {3, 2, 1}) {
+      bag.add(i);
+    }
+    assertEquals(Arrays.asList(1, 2, 3), bag.asList());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void preorderedBagCanNotBeBounded() {
+    new SortedResultsBag<Integer>(true).setMaxSize(1);
+  }
+}
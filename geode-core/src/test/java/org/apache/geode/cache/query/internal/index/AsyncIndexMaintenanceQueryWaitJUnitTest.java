@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.index;
+
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionFactory;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.data.Portfolio;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+/**
+ * Verifies that with {@link IndexManager#ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME} set, a query on
+ * a region with asynchronous index maintenance sees the writes made before it started.
+ */
+@Category(IntegrationTest.class)
+public class AsyncIndexMaintenanceQueryWaitJUnitTest {
+
+  private Cache cache;
+
+  private CountDownLatch updaterReleased;
+
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    IndexManager.ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME = TimeUnit.MINUTES.toMillis(1);
+    updaterReleased = new CountDownLatch(1);
+    // hold back the index updater thread until the test releases it
+    IndexManager.testHook = spot -> {
+      if (spot == 6 && Thread.currentThread().getName().startsWith("OqlIndexUpdater")) {
+        try {
+          updaterReleased.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    executor = Executors.newSingleThreadExecutor();
+    cache = new CacheFactory().set(MCAST_PORT, "0").create();
+  }
+
+  @After
+  public void tearDown() {
+    updaterReleased.countDown();
+    IndexManager.testHook = null;
+    IndexManager.ASYNC_INDEX_MAINTENANCE_QUERY_WAIT_TIME = 0;
+    executor.shutdownNow();
+    cache.close();
+  }
+
+  @Test
+  public void queryWaitsForQueuedIndexUpdates() throws Exception {
+    RegionFactory rf = cache.createRegionFactory(RegionShortcut.REPLICATE);
+    rf.setIndexMaintenanceSynchronous(false);
+    Region region = rf.create("portfolios");
+    cache.getQueryService().createIndex("idIndex", "ID", "/portfolios");
+
+    for (int i = 0; i < 100; i++) {
+      region.put(i, new Portfolio(i));
+    }
+
+    Future<SelectResults> results = executor.submit(() -> (SelectResults) cache.getQueryService()
+        .newQuery("select * from /portfolios where ID >= 0").execute());
+
+    Thread.sleep(500);
+    assertFalse(results.isDone());
+
+    updaterReleased.countDown();
+    assertEquals(100, results.get(1, TimeUnit.MINUTES).size());
+  }
+}
@@ -84,6 +84,19 @@ public class IndexElemArrayJUnitTest {
     });
   }
 
+  @Test
+  public void defaultArrayHoldsTwoEntriesWithoutGrowing() {
+    IndexElemArray array = new IndexElemArray();
+    Object dataBefore = array.getElementData();
+    array.add(1);
+    array.add(2);
+    assertSame(dataBefore, array.getElementData());
+    assertEquals(2, array.getElementData().length);
+    array.add(3);
+    assertEquals(3, array.size());
+    assertEquals(3, array.get(2));
+  }
+
   private Integer add(Integer i) {
     list.add(i);
     return i;
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Collection;
+import java.util.Collections;
 
 import org.junit.After;
 import org.junit.Before;
@@ -38,6 +39,7 @@ import org.apache.geode.cache.query.internal.IndexTrackingQueryObserver.IndexInf
 import org.apache.geode.cache.query.internal.QueryObserver;
 import org.apache.geode.cache.query.internal.QueryObserverHolder;
 import org.apache.geode.cache.query.internal.index.IndexTrackingQueryObserverDUnitTest.IndexTrackingTestHook;
+import org.apache.geode.cache.query.internal.parse.OQLLexerTokenTypes;
 import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.test.junit.categories.IntegrationTest;
 
@@ -162,4 +164,31 @@ public class IndexTrackingQueryObserverJUnitTest {
     assertEquals(results.size(), ((Integer) rslts).intValue());
   }
 
+  @Test
+  public void testIndexInfoReportsSizeEstimate() throws Exception {
+    AttributesFactory af = new AttributesFactory();
+    af.setScope(Scope.LOCAL);
+    region = CacheUtils.createRegion("portfolio", af.create(), false);
+    qs = CacheUtils.getQueryService();
+    keyIndex1 =
+        (IndexProtocol) qs.createIndex(INDEX_NAME, IndexType.FUNCTIONAL, "ID", "/portfolio ");
+
+    IndexTrackingQueryObserver observer = new IndexTrackingQueryObserver();
+    observer.afterIndexSizeEstimate(keyIndex1, 1, 40);
+    observer.beforeIndexLookup(keyIndex1, OQLLexerTokenTypes.TOK_GT, 1);
+    observer.afterIndexLookup(Collections.nCopies(50, "result"));
+
+    IndexInfo indexInfo = (IndexInfo) observer.getUsedIndexes().get(INDEX_NAME);
+    assertEquals("(Estimated: 40, Results: 50)", indexInfo.toString());
+
+    observer.reset();
+
+    // a lookup that was not estimated first only reports its results
+    observer.beforeIndexLookup(keyIndex1, OQLLexerTokenTypes.TOK_GT, 1);
+    observer.afterIndexLookup(Collections.nCopies(50, "result"));
+    indexInfo = (IndexInfo) observer.getUsedIndexes().get(INDEX_NAME);
+    assertEquals("(Results: 50)", indexInfo.toString());
+    observer.reset();
+  }
+
 }
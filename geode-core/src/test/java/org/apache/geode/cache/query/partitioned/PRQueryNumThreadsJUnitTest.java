@@ -14,9 +14,15 @@
  */
 package org.apache.geode.cache.query.partitioned;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -27,8 +33,13 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.cache.query.data.PortfolioData;
+import org.apache.geode.cache.query.data.PortfolioPdx;
+import org.apache.geode.cache.query.internal.DefaultQuery;
+import org.apache.geode.cache.query.internal.IndexTrackingQueryObserver;
+import org.apache.geode.cache.query.internal.QueryObserverHolder;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.cache.PRQueryProcessor;
+import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.cache.PartitionedRegionTestHelper;
 import org.apache.geode.test.junit.categories.IntegrationTest;
 
@@ -137,6 +148,111 @@ public class PRQueryNumThreadsJUnitTest {
     }
   }
 
+  @Test
+  public void testLimitQuery() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioData[] portfolios = new PortfolioData[100];
+    for (int j = 0; j < 100; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+    try {
+      populateData(region, portfolios);
+
+      String queryString = "select * from /" + region.getName() + " p where p.ID < 50 limit 3";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+      assertEquals(3, sr.size());
+
+      // the results of the local buckets, as sent to the member executing the query
+      PartitionedRegion pr = (PartitionedRegion) region;
+      PRQueryProcessor processor = new PRQueryProcessor(pr, (DefaultQuery) query, null,
+          new ArrayList<>(pr.getDataStore().getAllLocalBucketIds()));
+      List<Collection> resultCollector = new ArrayList<>();
+      processor.executeQuery(resultCollector);
+      int numResults = 0;
+      for (Collection results : resultCollector) {
+        numResults += results.size();
+      }
+      assertEquals(3, numResults);
+
+      queryString = "select p.ID from /" + region.getName() + " p limit 0";
+      query = region.getCache().getQueryService().newQuery(queryString);
+      sr = (SelectResults) query.execute();
+      assertEquals(0, sr.size());
+    } finally {
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      region.close();
+    }
+  }
+
+  @Test
+  public void testPdxReadSerializedQueryDoesNotDeserializeOnBucketThreads() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioPdx[] portfolios = new PortfolioPdx[100];
+    for (int j = 0; j < 100; j++) {
+      portfolios[j] = new PortfolioPdx(j);
+    }
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+    try {
+      populateData(region, portfolios);
+      PortfolioPdx.numInstance = 0;
+
+      String queryString = "select p.ID from /" + region.getName() + " p where p.ID < 5";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+
+      assertEquals(5, sr.size());
+      assertEquals(0, PortfolioPdx.numInstance);
+    } finally {
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      region.close();
+    }
+  }
+
+  @Test
+  public void testTracedQueryReportsIndexesUsedOnBucketThreads() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioData[] portfolios = new PortfolioData[100];
+    for (int j = 0; j < 100; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    UsedIndexesRecorder recorder = new UsedIndexesRecorder();
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+    try {
+      populateData(region, portfolios);
+      region.getCache().getQueryService().createIndex("idIndex", "p.ID",
+          "/" + region.getName() + " p");
+      QueryObserverHolder.setInstance(recorder);
+
+      String queryString =
+          "<trace> select * from /" + region.getName() + " p where p.ID < 5";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+
+      assertEquals(5, sr.size());
+      assertTrue(recorder.usedIndexes.containsKey("idIndex"));
+    } finally {
+      QueryObserverHolder.reset();
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      region.getCache().getQueryService().removeIndexes();
+      region.close();
+    }
+  }
+
+  /**
+   * Records the indexes used by a traced query when the query resets the observer.
+   */
+  private static class UsedIndexesRecorder extends IndexTrackingQueryObserver {
+    private final Map usedIndexes = new HashMap();
+
+    @Override
+    public void reset() {
+      this.usedIndexes.putAll(getUsedIndexes());
+      super.reset();
+    }
+  }
+
   /**
    * Populates the region with the Objects stores in the data Object array.
    *
@@ -107,6 +107,40 @@ public class RegionSnapshotJUnitTest extends SnapshotTestCase {
     }
   }
 
+  @Test
+  public void testCompressedExportAndImport() throws Exception {
+    for (final RegionType rt : RegionType.values()) {
+      for (final SerializationType st : SerializationType.values()) {
+        String name = "test-" + rt.name() + "-" + st.name();
+        Region<Integer, MyObject> region =
+            regionGenerator.createRegion(cache, diskStore.getName(), rt, name);
+        final Map<Integer, MyObject> expected = createExpected(st);
+
+        region.putAll(expected);
+        RegionSnapshotService<Integer, MyObject> rss = region.getSnapshotService();
+        rss.save(snapshotFile, SnapshotFormat.GEMFIRE, rss.createOptions().setCompressed(true));
+
+        final Map<Integer, Object> read = new HashMap<>();
+        try (SnapshotIterator<Integer, Object> iter = SnapshotReader.read(snapshotFile)) {
+          while (iter.hasNext()) {
+            Entry<Integer, Object> entry = iter.next();
+            read.put(entry.getKey(), entry.getValue());
+          }
+        }
+        assertEquals("Comparison failure for " + rt.name() + "/" + st.name(), expected, read);
+
+        region.destroyRegion();
+        region = regionGenerator.createRegion(cache, diskStore.getName(), rt, name);
+
+        rss = region.getSnapshotService();
+        rss.load(snapshotFile, SnapshotFormat.GEMFIRE, rss.createOptions());
+
+        assertEquals("Comparison failure for " + rt.name() + "/" + st.name(), expected.entrySet(),
+            region.entrySet());
+      }
+    }
+  }
+
   @Test
   public void testFilterOnExport() throws Exception {
     SnapshotFilter<Integer, MyObject> odd =
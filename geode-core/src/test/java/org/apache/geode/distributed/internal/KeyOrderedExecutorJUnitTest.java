@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class KeyOrderedExecutorJUnitTest {
+
+  private ExecutorService pool;
+
+  @Before
+  public void setUp() {
+    this.pool = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void tearDown() {
+    this.pool.shutdownNow();
+  }
+
+  @Test
+  public void tasksWithTheSameKeyRunInOrder() throws Exception {
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(this.pool, 4, null);
+    int numKeys = 10;
+    int numTasks = 1000;
+    final List<List<Integer>> results = new ArrayList<>();
+    for (int k = 0; k < numKeys; k++) {
+      results.add(Collections.synchronizedList(new ArrayList<>()));
+    }
+    final CountDownLatch done = new CountDownLatch(numTasks);
+    for (int i = 0; i < numTasks; i++) {
+      final int key = i % numKeys;
+      final int value = i;
+      executor.execute(key, () -> {
+        results.get(key).add(value);
+        done.countDown();
+      });
+    }
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    for (int k = 0; k < numKeys; k++) {
+      List<Integer> values = results.get(k);
+      assertEquals(numTasks / numKeys, values.size());
+      for (int i = 0; i < values.size(); i++) {
+        assertEquals(Integer.valueOf(k + i * numKeys), values.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void taskWithoutKeyRunsAlone() throws Exception {
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(this.pool, 4, null);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger completed = new AtomicInteger();
+    final AtomicBoolean barrierDone = new AtomicBoolean();
+    final AtomicBoolean failed = new AtomicBoolean();
+    final CountDownLatch done = new CountDownLatch(1);
+    int tasksPerSide = 200;
+    for (int i = 0; i < tasksPerSide; i++) {
+      executor.execute(i, () -> {
+        running.incrementAndGet();
+        if (barrierDone.get()) {
+          failed.set(true);
+        }
+        completed.incrementAndGet();
+        running.decrementAndGet();
+      });
+    }
+    executor.execute(null, () -> {
+      if (running.get() != 0 || completed.get() != tasksPerSide) {
+        failed.set(true);
+      }
+      barrierDone.set(true);
+    });
+    for (int i = 0; i < tasksPerSide; i++) {
+      executor.execute(i, () -> {
+        if (!barrierDone.get()) {
+          failed.set(true);
+        }
+        if (completed.incrementAndGet() == 2 * tasksPerSide) {
+          done.countDown();
+        }
+      });
+    }
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    assertFalse(failed.get());
+  }
+
+  @Test
+  public void consecutiveTasksWithoutKeyRunInOrder() throws Exception {
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(this.pool, 3, null);
+    final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch done = new CountDownLatch(1);
+    for (int i = 0; i < 100; i++) {
+      final int value = i;
+      executor.execute(null, () -> order.add(value));
+    }
+    executor.execute(null, done::countDown);
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Integer.valueOf(i), order.get(i));
+    }
+  }
+
+  @Test
+  public void failedTaskDoesNotStopLane() throws Exception {
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(this.pool, 1, null);
+    final CountDownLatch done = new CountDownLatch(1);
+    executor.execute("key", () -> {
+      throw new IllegalStateException("expected");
+    });
+    executor.execute("key", done::countDown);
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void taskFailingWithErrorDoesNotStopLane() throws Exception {
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(this.pool, 1, null);
+    final CountDownLatch done = new CountDownLatch(2);
+    executor.execute("key", () -> {
+      throw new AssertionError("expected");
+    });
+    executor.execute(null, () -> {
+      done.countDown();
+      throw new AssertionError("expected");
+    });
+    executor.execute("key", done::countDown);
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void laneOfNegativeHashCodeIsInRange() {
+    Object key = new Object() {
+      @Override
+      public int hashCode() {
+        return -7;
+      }
+    };
+    assertEquals(3, KeyOrderedExecutor.laneOf(key, 4));
+  }
+}
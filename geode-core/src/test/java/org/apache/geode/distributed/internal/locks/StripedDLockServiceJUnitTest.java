@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.locks;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.junit.Assert.*;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.distributed.DistributedSystem;
+import org.apache.geode.distributed.internal.InternalDistributedSystem;
+import org.apache.geode.internal.util.HashUtils;
+import org.apache.geode.test.junit.categories.DLockTest;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+@Category({IntegrationTest.class, DLockTest.class})
+public class StripedDLockServiceJUnitTest {
+
+  private InternalDistributedSystem system;
+
+  private StripedDLockService service;
+
+  @Before
+  public void setUp() {
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.system = (InternalDistributedSystem) DistributedSystem.connect(props);
+    this.service = StripedDLockService.create("StripedDLockServiceJUnitTest", this.system, 4);
+  }
+
+  @After
+  public void tearDown() {
+    this.service.destroy();
+    this.system.disconnect();
+  }
+
+  @Test
+  public void locksAreSpreadOverStripes() {
+    for (int i = 0; i < 100; i++) {
+      assertTrue(this.service.lock("key" + i, -1, -1));
+      assertTrue(this.service.isHeldByCurrentThread("key" + i));
+    }
+    for (int i = 0; i < 4; i++) {
+      String stripeName = StripedDLockService.getStripeName(this.service.getName(), i);
+      assertNotNull(DLockService.getServiceNamed(stripeName));
+    }
+    for (int i = 0; i < 100; i++) {
+      this.service.unlock("key" + i);
+      assertFalse(this.service.isHeldByCurrentThread("key" + i));
+    }
+  }
+
+  @Test
+  public void becomeLockGrantorTakesEveryStripe() {
+    this.service.becomeLockGrantor();
+    assertTrue(this.service.isLockGrantor());
+    assertEquals(4, this.service.getGrantedStripes());
+  }
+
+  @Test
+  public void suspendLockingBlocksEveryStripe() throws Exception {
+    assertTrue(this.service.suspendLocking(-1));
+    assertTrue(this.service.isLockingSuspendedByCurrentThread());
+    final AtomicInteger granted = new AtomicInteger();
+    Thread other = new Thread(() -> {
+      for (int i = 0; i < 8; i++) {
+        if (this.service.lock("key" + i, 0, -1)) {
+          granted.incrementAndGet();
+          this.service.unlock("key" + i);
+        }
+      }
+    });
+    other.start();
+    other.join(30000);
+    assertEquals(0, granted.get());
+    this.service.resumeLocking();
+    assertFalse(this.service.isLockingSuspendedByCurrentThread());
+  }
+
+  @Test
+  public void suspendingOneStripeDoesNotSuspendTheService() {
+    DLockService stripe = (DLockService) DLockService
+        .getServiceNamed(StripedDLockService.getStripeName(this.service.getName(), 2));
+    assertTrue(stripe.suspendLocking(-1));
+    try {
+      assertTrue(stripe.isLockingSuspendedByCurrentThread());
+      assertFalse(this.service.isLockingSuspendedByCurrentThread());
+    } finally {
+      stripe.resumeLocking();
+    }
+  }
+
+  @Test
+  public void reentryWithCoveredLeaseIsGrantedLocally() {
+    DistributedLockStats stats = DLockService.getDistributedLockStats();
+    long before = stats.getLocalReentrantGrants();
+    assertTrue(this.service.lock("key", -1, -1));
+    assertTrue(this.service.lock("key", -1, 60000));
+    assertEquals(before + 1, stats.getLocalReentrantGrants());
+    this.service.unlock("key");
+    assertTrue(this.service.isHeldByCurrentThread("key"));
+    this.service.unlock("key");
+    assertFalse(this.service.isHeldByCurrentThread("key"));
+  }
+
+  @Test
+  public void stripeOfNegativeHashCodeIsInRange() {
+    assertEquals(3, StripedDLockService.stripeOf(-7, 4));
+    assertEquals(3, StripedDLockService.stripeOf(Integer.MIN_VALUE + 1, 4));
+  }
+
+  @Test
+  public void stripeOfEnumNameDoesNotDependOnIdentityHashCode() {
+    for (TimeUnit name : TimeUnit.values()) {
+      assertEquals(Math.abs(HashUtils.stableHashCode(name) % 4),
+          StripedDLockService.stripeOf(name, 4));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nameThatCanNotBeSerializedIsRejected() {
+    this.service.lock(new Object(), -1, -1);
+  }
+}
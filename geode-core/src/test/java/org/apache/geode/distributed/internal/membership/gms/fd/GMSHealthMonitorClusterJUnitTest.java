@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.membership.gms.fd;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Logger;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.distributed.internal.DM;
+import org.apache.geode.distributed.internal.DMStats;
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.distributed.internal.DistributionConfigImpl;
+import org.apache.geode.distributed.internal.DistributionManager;
+import org.apache.geode.distributed.internal.DistributionMessage;
+import org.apache.geode.distributed.internal.DistributionStats;
+import org.apache.geode.distributed.internal.InternalDistributedSystem;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.distributed.internal.membership.NetView;
+import org.apache.geode.distributed.internal.membership.gms.ServiceConfig;
+import org.apache.geode.distributed.internal.membership.gms.Services;
+import org.apache.geode.distributed.internal.membership.gms.Services.Stopper;
+import org.apache.geode.distributed.internal.membership.gms.interfaces.JoinLeave;
+import org.apache.geode.distributed.internal.membership.gms.interfaces.Messenger;
+import org.apache.geode.distributed.internal.membership.gms.messages.HeartbeatRequestMessage;
+import org.apache.geode.distributed.internal.membership.gms.messages.SuspectMembersMessage;
+import org.apache.geode.distributed.internal.membership.gms.messages.SuspectRequest;
+import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.net.SocketCreatorFactory;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+import org.apache.geode.test.junit.categories.MembershipTest;
+
+/**
+ * Runs the health monitors of a large cluster in one JVM, connected by a messenger that delivers
+ * their messages to each other and loses some heartbeats, and crashes a few members. The ring and
+ * phi-accrual failure detectors are compared by how soon the crashed members are removed and by
+ * the heartbeat requests, suspect messages and final checks they cause. Both wait member-timeout
+ * for the reply to a heartbeat request, so they differ only in when they start checking a member.
+ */
+@Category({IntegrationTest.class, MembershipTest.class})
+public class GMSHealthMonitorClusterJUnitTest {
+
+  private static final Logger logger = LogService.getLogger();
+
+  private static final long MEMBER_TIMEOUT = 1000;
+
+  private static final int CLUSTER_SIZE = 50;
+
+  private static final int[] CRASHED_MEMBERS = {10, 25, 40};
+
+  private static final double HEARTBEAT_LOSS = 0.01;
+
+  private static final long WARMUP = 3000;
+
+  private static final long DURATION = 15000;
+
+  private final Random random = new Random(1234);
+
+  private InternalDistributedSystem system;
+
+  private ExecutorService deliveryExecutor;
+
+  private List<InternalDistributedMember> members;
+
+  private Map<InternalDistributedMember, GMSHealthMonitor> monitors;
+
+  private Set<InternalDistributedMember> crashed;
+
+  private Map<InternalDistributedMember, Long> crashTimes;
+
+  private Map<InternalDistributedMember, Long> checkTimes;
+
+  private Map<InternalDistributedMember, Long> removalTimes;
+
+  private AtomicInteger suspectsOfLiveMembers;
+
+  private NetView view;
+
+  @Before
+  public void setUp() {
+    SocketCreatorFactory.setDistributionConfig(new DistributionConfigImpl(new Properties()));
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.system = InternalDistributedSystem.newInstanceForTesting(mock(DM.class), props);
+  }
+
+  @After
+  public void tearDown() {
+    SocketCreatorFactory.close();
+  }
+
+  @Test
+  public void phiAccrualChecksCrashedMembersSoonerWithSameCheckWait() throws Exception {
+    ClusterResult ring = runCluster(false);
+    ClusterResult phiAccrual = runCluster(true);
+    logger.info(ring);
+    logger.info(phiAccrual);
+
+    for (ClusterResult result : new ClusterResult[] {ring, phiAccrual}) {
+      assertEquals(result.toString(), CRASHED_MEMBERS.length, result.crashesRemoved);
+      assertEquals(result.toString(), 0, result.liveMembersRemoved);
+    }
+    assertEquals(phiAccrual.toString(), 0, phiAccrual.suspectsOfLiveMembers);
+    assertTrue(ring + " / " + phiAccrual,
+        phiAccrual.getMeanCheckLatency() < ring.getMeanCheckLatency());
+  }
+
+  private ClusterResult runCluster(boolean usePhiAccrual) throws Exception {
+    this.deliveryExecutor = Executors.newFixedThreadPool(4);
+    this.members = new ArrayList<>();
+    this.monitors = new ConcurrentHashMap<>();
+    this.crashed = ConcurrentHashMap.newKeySet();
+    this.crashTimes = new ConcurrentHashMap<>();
+    this.checkTimes = new ConcurrentHashMap<>();
+    this.removalTimes = new ConcurrentHashMap<>();
+    this.suspectsOfLiveMembers = new AtomicInteger();
+    for (int i = 0; i < CLUSTER_SIZE; i++) {
+      InternalDistributedMember member = new InternalDistributedMember("localhost", 9000 + i);
+      member.setVmViewId(1);
+      if (i < 2) {
+        member.setVmKind(DistributionManager.LOCATOR_DM_TYPE);
+        member.getNetMember().setPreferredForCoordinator(true);
+      }
+      this.members.add(member);
+    }
+    this.view = createView(1, this.members);
+
+    Map<InternalDistributedMember, DMStats> stats = new HashMap<>();
+    for (InternalDistributedMember member : this.members) {
+      DistributionStats memberStats = new DistributionStats(this.system, member.getPort());
+      stats.put(member, memberStats);
+      GMSHealthMonitor monitor = new GMSHealthMonitor();
+      monitor.init(createServices(member, memberStats));
+      if (usePhiAccrual) {
+        monitor.usePhiAccrualDetector(GMSHealthMonitor.PHI_ACCRUAL_THRESHOLD);
+      }
+      this.monitors.put(member, monitor);
+    }
+    long start = System.currentTimeMillis();
+    for (GMSHealthMonitor monitor : this.monitors.values()) {
+      monitor.start();
+      monitor.started();
+      monitor.installView(this.view);
+    }
+
+    try {
+      Thread.sleep(WARMUP);
+      for (int index : CRASHED_MEMBERS) {
+        InternalDistributedMember member = this.members.get(index);
+        this.crashed.add(member);
+        this.crashTimes.put(member, System.currentTimeMillis());
+        this.monitors.get(member).playDead();
+        Thread.sleep(MEMBER_TIMEOUT);
+      }
+      Awaitility.await().atMost(30, TimeUnit.SECONDS)
+          .until(() -> this.removalTimes.keySet().containsAll(this.crashed));
+      // observe both detectors for the same time
+      long remaining = start + DURATION - System.currentTimeMillis();
+      if (remaining > 0) {
+        Thread.sleep(remaining);
+      }
+    } finally {
+      for (GMSHealthMonitor monitor : this.monitors.values()) {
+        monitor.stop();
+      }
+      this.deliveryExecutor.shutdownNow();
+    }
+
+    ClusterResult result = new ClusterResult(usePhiAccrual ? "phi-accrual" : "ring");
+    for (Map.Entry<InternalDistributedMember, Long> removal : this.removalTimes.entrySet()) {
+      Long crashTime = this.crashTimes.get(removal.getKey());
+      if (crashTime == null) {
+        result.liveMembersRemoved++;
+      } else {
+        result.crashesRemoved++;
+        result.totalLatency += removal.getValue() - crashTime;
+        result.totalCheckLatency += this.checkTimes.get(removal.getKey()) - crashTime;
+      }
+    }
+    for (DMStats memberStats : stats.values()) {
+      result.heartbeatRequests += memberStats.getHeartbeatRequestsSent();
+      result.suspects += memberStats.getSuspectsSent();
+      result.finalChecks += memberStats.getFinalCheckRequestsSent();
+    }
+    result.suspectsOfLiveMembers = this.suspectsOfLiveMembers.get();
+    return result;
+  }
+
+  /**
+   * Creates a view like the coordinator sends, with a failure detection port slot for every member
+   * but no ports, so that final checks request a heartbeat instead of connecting to the suspect.
+   */
+  private NetView createView(int viewId, List<InternalDistributedMember> viewMembers) {
+    return new NetView(this.members.get(0), viewId, new ArrayList<>(viewMembers), new HashSet<>(),
+        new HashSet<>());
+  }
+
+  private Services createServices(InternalDistributedMember member, DMStats stats) {
+    Services services = mock(Services.class);
+    ServiceConfig config = mock(ServiceConfig.class);
+    when(config.getDistributionConfig()).thenReturn(mock(DistributionConfig.class));
+    when(config.getMemberTimeout()).thenReturn(MEMBER_TIMEOUT);
+    when(config.getMembershipPortRange()).thenReturn(new int[] {0, 65535});
+    Messenger messenger = mock(Messenger.class);
+    when(messenger.getMemberID()).thenReturn(member);
+    when(messenger.send(any()))
+        .thenAnswer(invocation -> send(member, invocation.getArgument(0), false));
+    when(messenger.sendUnreliably(any()))
+        .thenAnswer(invocation -> send(member, invocation.getArgument(0), true));
+    JoinLeave joinLeave = mock(JoinLeave.class);
+    when(joinLeave.getMemberID()).thenReturn(member);
+    doAnswer(invocation -> {
+      remove(invocation.getArgument(0));
+      return null;
+    }).when(joinLeave).remove(any(), anyString());
+    Stopper stopper = mock(Stopper.class);
+
+    when(services.getConfig()).thenReturn(config);
+    when(services.getMessenger()).thenReturn(messenger);
+    when(services.getJoinLeave()).thenReturn(joinLeave);
+    when(services.getCancelCriterion()).thenReturn(stopper);
+    when(services.getStatistics()).thenReturn(stats);
+    return services;
+  }
+
+  /**
+   * Delivers the message to its recipients unless the sender or recipient has crashed. Messages
+   * sent unreliably are sometimes lost.
+   */
+  private Set<InternalDistributedMember> send(InternalDistributedMember sender,
+      DistributionMessage message, boolean unreliably) {
+    if (this.crashed.contains(sender) || this.deliveryExecutor.isShutdown()) {
+      return Collections.emptySet();
+    }
+    message.setSender(sender);
+    if (message instanceof HeartbeatRequestMessage) {
+      InternalDistributedMember target = ((HeartbeatRequestMessage) message).getTarget();
+      if (this.crashed.contains(target)) {
+        this.checkTimes.putIfAbsent(target, System.currentTimeMillis());
+      }
+    } else if (message instanceof SuspectMembersMessage) {
+      for (SuspectRequest request : ((SuspectMembersMessage) message).getMembers()) {
+        if (!this.crashed.contains(request.getSuspectMember())) {
+          this.suspectsOfLiveMembers.incrementAndGet();
+        }
+      }
+    }
+    for (InternalDistributedMember recipient : message.getRecipients()) {
+      GMSHealthMonitor monitor = this.monitors.get(recipient);
+      if (monitor == null || this.crashed.contains(recipient)
+          || (unreliably && this.random.nextDouble() < HEARTBEAT_LOSS)) {
+        continue;
+      }
+      this.deliveryExecutor.execute(() -> monitor.processMessage(message));
+    }
+    return Collections.emptySet();
+  }
+
+  /**
+   * Removes the member from the view of every remaining member, as the coordinator would when a
+   * final check fails.
+   */
+  private synchronized void remove(InternalDistributedMember member) {
+    if (this.removalTimes.putIfAbsent(member, System.currentTimeMillis()) != null) {
+      return;
+    }
+    List<InternalDistributedMember> remaining = new ArrayList<>(this.view.getMembers());
+    remaining.remove(member);
+    NetView newView = createView(this.view.getViewId() + 1, remaining);
+    this.view = newView;
+    for (InternalDistributedMember mbr : remaining) {
+      GMSHealthMonitor monitor = this.monitors.get(mbr);
+      this.deliveryExecutor.execute(() -> monitor.installView(newView));
+    }
+  }
+
+  private static class ClusterResult {
+    final String detector;
+    int crashesRemoved;
+    int liveMembersRemoved;
+    long totalLatency;
+    long totalCheckLatency;
+    long heartbeatRequests;
+    long suspects;
+    long finalChecks;
+    int suspectsOfLiveMembers;
+
+    ClusterResult(String detector) {
+      this.detector = detector;
+    }
+
+    long getMeanLatency() {
+      return this.crashesRemoved == 0 ? Long.MAX_VALUE : this.totalLatency / this.crashesRemoved;
+    }
+
+    long getMeanCheckLatency() {
+      return this.crashesRemoved == 0 ? Long.MAX_VALUE
+          : this.totalCheckLatency / this.crashesRemoved;
+    }
+
+    @Override
+    public String toString() {
+      return this.detector + ": " + CLUSTER_SIZE + " members, " + this.crashesRemoved + "/"
+          + CRASHED_MEMBERS.length + " crashed members checked after " + getMeanCheckLatency()
+          + "ms and removed after " + getMeanLatency() + "ms on average, "
+          + this.liveMembersRemoved + " live members removed, "
+          + this.heartbeatRequests + " heartbeat requests, " + this.suspects
+          + " suspect messages (" + this.suspectsOfLiveMembers + " of live members), "
+          + this.finalChecks + " final checks";
+    }
+  }
+}
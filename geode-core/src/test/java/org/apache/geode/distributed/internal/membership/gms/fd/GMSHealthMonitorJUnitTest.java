@@ -676,6 +676,30 @@ public class GMSHealthMonitorJUnitTest {
     Assert.assertTrue(gmsHealthMonitor.getStats().getTcpFinalCheckResponsesSent() > 0);
   }
 
+  @Test
+  public void testPhiAccrualDetectorRecordsPeriodicHeartbeats() {
+    installAView();
+    gmsHealthMonitor.usePhiAccrualDetector(GMSHealthMonitor.PHI_ACCRUAL_THRESHOLD);
+    PhiAccrualFailureDetector<InternalDistributedMember> detector =
+        gmsHealthMonitor.getPhiAccrualDetector();
+
+    HeartbeatMessage periodic = new HeartbeatMessage(-1);
+    periodic.setSender(mockMembers.get(myAddressIndex + 1));
+    gmsHealthMonitor.processMessage(periodic);
+    assertTrue(detector.isMonitoring(mockMembers.get(myAddressIndex + 1)));
+
+    // a reply to a heartbeat request is not a periodic heartbeat
+    HeartbeatMessage reply = new HeartbeatMessage(5);
+    reply.setSender(mockMembers.get(myAddressIndex + 2));
+    gmsHealthMonitor.processMessage(reply);
+    assertFalse(detector.isMonitoring(mockMembers.get(myAddressIndex + 2)));
+
+    List<InternalDistributedMember> remaining = new ArrayList<>(mockMembers);
+    remaining.remove(myAddressIndex + 1);
+    gmsHealthMonitor.installView(new NetView(mockMembers.get(0), 3, remaining));
+    assertFalse(detector.isMonitoring(mockMembers.get(myAddressIndex + 1)));
+  }
+
   @Test
   public void testBeSickAndPlayDead() throws Exception {
     NetView v = new NetView(mockMembers.get(0), 2, mockMembers);
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.membership.gms.fd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.MembershipTest;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category({UnitTest.class, MembershipTest.class})
+public class PhiAccrualFailureDetectorJUnitTest {
+
+  private static final long MEMBER_TIMEOUT = 5000;
+
+  private static final long HEARTBEAT_INTERVAL = MEMBER_TIMEOUT / GMSHealthMonitor.LOGICAL_INTERVAL;
+
+  private PhiAccrualFailureDetector<String> createDetector() {
+    return new PhiAccrualFailureDetector<>(8, 100, HEARTBEAT_INTERVAL / 10, 0, HEARTBEAT_INTERVAL);
+  }
+
+  @Test
+  public void unknownMemberIsAvailable() {
+    PhiAccrualFailureDetector<String> detector = createDetector();
+    assertFalse(detector.isMonitoring("member"));
+    assertEquals(0.0, detector.phi("member", 100000), 0.0);
+    assertTrue(detector.isAvailable("member", 100000));
+  }
+
+  @Test
+  public void phiGrowsWhileHeartbeatsAreMissing() {
+    PhiAccrualFailureDetector<String> detector = createDetector();
+    long time = 0;
+    for (int i = 0; i < 50; i++) {
+      detector.heartbeat("member", time);
+      time += HEARTBEAT_INTERVAL;
+    }
+    long last = time - HEARTBEAT_INTERVAL;
+    assertTrue(detector.phi("member", last + HEARTBEAT_INTERVAL) < 1);
+    assertTrue(detector.isAvailable("member", last + HEARTBEAT_INTERVAL + HEARTBEAT_INTERVAL / 2));
+    assertFalse(detector.isAvailable("member", last + 2 * HEARTBEAT_INTERVAL));
+    double previous = 0;
+    for (long t = last; t < last + 2 * HEARTBEAT_INTERVAL; t += 100) {
+      double phi = detector.phi("member", t);
+      assertTrue(phi >= previous);
+      previous = phi;
+    }
+  }
+
+  @Test
+  public void irregularHeartbeatsAreGivenMoreTime() {
+    PhiAccrualFailureDetector<String> regular = createDetector();
+    PhiAccrualFailureDetector<String> irregular = createDetector();
+    long regularTime = 0;
+    long irregularTime = 0;
+    for (int i = 0; i < 50; i++) {
+      regular.heartbeat("member", regularTime);
+      irregular.heartbeat("member", irregularTime);
+      regularTime += HEARTBEAT_INTERVAL;
+      irregularTime += (i % 2 == 0) ? HEARTBEAT_INTERVAL / 2 : HEARTBEAT_INTERVAL * 3 / 2;
+    }
+    long silence = HEARTBEAT_INTERVAL * 7 / 4;
+    assertTrue(regular.phi("member", regularTime - HEARTBEAT_INTERVAL + silence) > irregular
+        .phi("member", irregularTime - HEARTBEAT_INTERVAL / 2 + silence));
+  }
+
+  @Test
+  public void retainAllForgetsDepartedMembers() {
+    PhiAccrualFailureDetector<String> detector = createDetector();
+    detector.heartbeat("a", 0);
+    detector.heartbeat("b", 0);
+    detector.retainAll(Collections.singletonList("a"));
+    assertTrue(detector.isMonitoring("a"));
+    assertFalse(detector.isMonitoring("b"));
+    detector.remove("a");
+    assertFalse(detector.isMonitoring("a"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidThresholdIsRejected() {
+    new PhiAccrualFailureDetector<String>(0, 100, 1, 0, 1);
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.CopyHelper;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.distributed.internal.DistributionManager;
+import org.apache.geode.internal.cache.DistributedCacheOperation.CacheOperationMessage;
+import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+/**
+ * Checks that the entry messages of cache clients are applied even when the serial lanes of their
+ * sender may process them in a different order, see
+ * {@link DistributedCacheOperation.CacheOperationMessage#_getOrderingKey}.
+ */
+@Category(IntegrationTest.class)
+public class CacheOperationOrderingKeyJUnitTest {
+
+  private static final byte[] CLIENT_MEMBERSHIP_ID = {1, 2, 3, 4};
+
+  private InternalCache cache;
+
+  private DistributedRegion region;
+
+  private DistributionManager dm;
+
+  private ClientProxyMembershipID client;
+
+  @Before
+  public void setUp() {
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.cache = (InternalCache) new CacheFactory(props).create();
+    this.region = (DistributedRegion) this.cache.createRegionFactory(RegionShortcut.REPLICATE)
+        .setConcurrencyChecksEnabled(false).create("region");
+    this.dm = mock(DistributionManager.class);
+    when(this.dm.getExistingCache()).thenReturn(this.cache);
+    this.client = new ClientProxyMembershipID(this.cache.getMyId());
+  }
+
+  @After
+  public void tearDown() {
+    this.cache.close();
+  }
+
+  @Test
+  public void clientUpdatesOfDifferentKeysAreAllApplied() {
+    CacheOperationMessage first = createUpdateMessage("key1", "value1", 1);
+    CacheOperationMessage second = createUpdateMessage("key2", "value2", 2);
+
+    processAsSerialLanesMay(first, second);
+
+    assertEquals("value1", this.region.get("key1"));
+    assertEquals("value2", this.region.get("key2"));
+  }
+
+  @Test
+  public void clientDestroysOfDifferentKeysAreAllApplied() {
+    this.region.put("key1", "value1");
+    this.region.put("key2", "value2");
+    CacheOperationMessage first = createDestroyMessage("key1", 1);
+    CacheOperationMessage second = createDestroyMessage("key2", 2);
+
+    processAsSerialLanesMay(first, second);
+
+    assertFalse(this.region.containsKey("key1"));
+    assertFalse(this.region.containsKey("key2"));
+  }
+
+  @Test
+  public void clientMessagesAreOrderedWithAllOthers() {
+    assertNull(createUpdateMessage("key1", "value1", 1).getOrderingKey(this.dm));
+    assertNull(createDestroyMessage("key1", 2).getOrderingKey(this.dm));
+  }
+
+  @Test
+  public void peerMessagesAreOrderedByKey() {
+    this.client = null;
+    assertEquals(createUpdateMessage("key1", "value1", 1).getOrderingKey(this.dm),
+        createDestroyMessage("key1", 2).getOrderingKey(this.dm));
+    assertNotNull(createUpdateMessage("key1", "value1", 3).getOrderingKey(this.dm));
+  }
+
+  /**
+   * Processes the messages, which were sent in the given order, in an order their sender's serial
+   * lanes may process them: messages with different ordering keys are in different lanes, so the
+   * second may be processed first.
+   */
+  private void processAsSerialLanesMay(CacheOperationMessage first,
+      CacheOperationMessage second) {
+    Object firstKey = first.getOrderingKey(this.dm);
+    Object secondKey = second.getOrderingKey(this.dm);
+    if (firstKey != null && secondKey != null && !firstKey.equals(secondKey)) {
+      second.basicProcess(this.dm, this.region);
+      first.basicProcess(this.dm, this.region);
+    } else {
+      first.basicProcess(this.dm, this.region);
+      second.basicProcess(this.dm, this.region);
+    }
+  }
+
+  private CacheOperationMessage createUpdateMessage(Object key, Object value, long sequenceId) {
+    EntryEventImpl event = createEvent(Operation.CREATE, key, value, sequenceId);
+    UpdateOperation operation = new UpdateOperation(event, 0);
+    CacheOperationMessage message = operation.createMessage();
+    operation.initMessage(message, null);
+    return receive(message);
+  }
+
+  private CacheOperationMessage createDestroyMessage(Object key, long sequenceId) {
+    EntryEventImpl event = createEvent(Operation.DESTROY, key, null, sequenceId);
+    DestroyOperation operation = new DestroyOperation(event);
+    CacheOperationMessage message = operation.createMessage();
+    operation.initMessage(message, null);
+    return receive(message);
+  }
+
+  private EntryEventImpl createEvent(Operation op, Object key, Object value,
+      long sequenceId) {
+    EntryEventImpl event =
+        EntryEventImpl.create(this.region, op, key, value, null, false, this.cache.getMyId());
+    event.setEventId(new EventID(CLIENT_MEMBERSHIP_ID, 1, sequenceId));
+    if (this.client != null) {
+      event.setContext(this.client);
+    }
+    return event;
+  }
+
+  /**
+   * Returns a copy of the message as another member would receive it.
+   */
+  private CacheOperationMessage receive(CacheOperationMessage message) {
+    CacheOperationMessage received = (CacheOperationMessage) CopyHelper.deepCopy(message);
+    received.setSender(this.cache.getMyId());
+    return received;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.Scope;
+import org.apache.geode.distributed.internal.locks.DLockService;
+import org.apache.geode.distributed.internal.locks.StripedDLockService;
+import org.apache.geode.test.junit.categories.DLockTest;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+@Category({IntegrationTest.class, DLockTest.class})
+public class GlobalRegionLockStripesJUnitTest {
+
+  private InternalCache cache;
+
+  private DistributedRegion region;
+
+  @Before
+  public void setUp() {
+    System.setProperty(DistributedRegion.LOCK_STRIPES_PROPERTY, "4");
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.cache = (InternalCache) new CacheFactory(props).create();
+    this.region = (DistributedRegion) this.cache.createRegionFactory(RegionShortcut.REPLICATE)
+        .setScope(Scope.GLOBAL).create("region");
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(DistributedRegion.LOCK_STRIPES_PROPERTY);
+    this.cache.close();
+  }
+
+  private String getStripeName(int stripe) {
+    return StripedDLockService.getStripeName(this.region.getFullPath(), stripe);
+  }
+
+  @Test
+  public void globalRegionLocksAreStriped() {
+    StripedDLockService service = (StripedDLockService) this.region.getLockService();
+    assertEquals(4, service.getNumStripes());
+
+    this.region.put("key", "value");
+    Lock lock = this.region.getDistributedLock("key");
+    lock.lock();
+    try {
+      assertTrue(service.isHeldByCurrentThread("key"));
+    } finally {
+      lock.unlock();
+    }
+    assertFalse(service.isHeldByCurrentThread("key"));
+  }
+
+  @Test
+  public void regionLockSuspendsEveryStripe() {
+    Lock lock = this.region.getRegionDistributedLock();
+    lock.lock();
+    try {
+      assertTrue(this.region.getLockService().isLockingSuspendedByCurrentThread());
+      for (int i = 0; i < 4; i++) {
+        assertTrue(DLockService.getServiceNamed(getStripeName(i))
+            .isLockingSuspendedByCurrentThread());
+      }
+    } finally {
+      lock.unlock();
+    }
+    assertFalse(this.region.getLockService().isLockingSuspendedByCurrentThread());
+  }
+
+  @Test
+  public void closingTheRegionDestroysEveryStripe() {
+    this.region.getLockService();
+    assertNotNull(DLockService.getServiceNamed(getStripeName(0)));
+
+    this.region.close();
+
+    for (int i = 0; i < 4; i++) {
+      assertNull(DLockService.getServiceNamed(getStripeName(i)));
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.cache.persistence.DiskStoreID;
+import org.apache.geode.internal.util.HashUtils;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class ImageRangeDigestJUnitTest {
+
+  private final DiskStoreID member = new DiskStoreID(1, 2);
+
+  @Test
+  public void rangeOfIsWithinBounds() {
+    Object[] keys = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE, "key", 42L};
+    for (Object key : keys) {
+      int range = ImageRangeDigest.rangeOf(key, 7);
+      assertTrue(range >= 0 && range < 7);
+    }
+  }
+
+  @Test
+  public void enumKeysAreHashedByStableHashCode() {
+    for (TimeUnit key : TimeUnit.values()) {
+      assertEquals(Math.abs(HashUtils.stableHashCode(key) % 7), ImageRangeDigest.rangeOf(key, 7));
+    }
+  }
+
+  @Test
+  public void entryDigestDependsOnKeyAndVersion() {
+    long digest = ImageRangeDigest.entryDigest("key", member, 10, 1);
+    assertEquals(digest, ImageRangeDigest.entryDigest("key", new DiskStoreID(1, 2), 10, 1));
+    assertNotEquals(digest, ImageRangeDigest.entryDigest("key2", member, 10, 1));
+    assertNotEquals(digest, ImageRangeDigest.entryDigest("key", member, 11, 1));
+    assertNotEquals(digest, ImageRangeDigest.entryDigest("key", member, 10, 2));
+    assertNotEquals(digest, ImageRangeDigest.entryDigest("key", new DiskStoreID(3, 4), 10, 1));
+  }
+
+  @Test
+  public void matchingComparesEachRange() {
+    boolean[] matching =
+        ImageRangeDigest.matching(new long[] {1, 2, 3, 4}, new long[] {1, 5, 3, 6});
+    assertTrue(matching[0]);
+    assertFalse(matching[1]);
+    assertTrue(matching[2]);
+    assertFalse(matching[3]);
+    assertEquals(2, ImageRangeDigest.countMatching(matching));
+  }
+
+  @Test
+  public void digestsOfDifferentLengthNeverMatch() {
+    boolean[] matching = ImageRangeDigest.matching(new long[] {1, 2}, new long[] {1});
+    assertEquals(0, ImageRangeDigest.countMatching(matching));
+  }
+}
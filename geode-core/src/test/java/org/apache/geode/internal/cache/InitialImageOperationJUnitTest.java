@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.distributed.internal.DistributionManager;
+import org.apache.geode.internal.cache.InitialImageOperation.RequestImageMessage;
+import org.apache.geode.internal.cache.control.BucketTransferThrottle;
+import org.apache.geode.internal.cache.control.InternalResourceManager;
+import org.apache.geode.internal.util.HashUtils;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class InitialImageOperationJUnitTest {
+
+  @Test
+  public void unslicedRequestIncludesEveryKey() {
+    RequestImageMessage m = new RequestImageMessage();
+    for (int i = -50; i < 50; i++) {
+      assertTrue(m.isInSlice(i));
+      assertTrue(m.isInSlice("key" + i));
+    }
+  }
+
+  private RequestImageMessage[] createSlices(int sliceCount) {
+    RequestImageMessage[] slices = new RequestImageMessage[sliceCount];
+    for (int i = 0; i < slices.length; i++) {
+      slices[i] = new RequestImageMessage();
+      slices[i].sliceCount = slices.length;
+      slices[i].sliceIndex = i;
+    }
+    return slices;
+  }
+
+  @Test
+  public void everyKeyFallsIntoExactlyOneSlice() {
+    RequestImageMessage[] slices = createSlices(3);
+    Object[] keys = {Integer.MIN_VALUE, -7, 0, 7, Integer.MAX_VALUE, "a", "key-1", 12345L};
+    for (Object key : keys) {
+      int matches = 0;
+      for (RequestImageMessage slice : slices) {
+        if (slice.isInSlice(key)) {
+          matches++;
+        }
+      }
+      assertEquals("key " + key, 1, matches);
+    }
+  }
+
+  /**
+   * The identity hash code of an enum constant differs between JVMs, so enum keys must be assigned
+   * to slices by their serialized form for every provider to agree on their slice.
+   */
+  @Test
+  public void enumKeysAreSlicedByStableHashCode() {
+    RequestImageMessage[] slices = createSlices(3);
+    for (TimeUnit key : TimeUnit.values()) {
+      int expected = Math.abs(HashUtils.stableHashCode(key) % slices.length);
+      for (int i = 0; i < slices.length; i++) {
+        assertEquals("key " + key + " slice " + i, i == expected, slices[i].isInSlice(key));
+      }
+    }
+  }
+
+  private DistributionManager createDistributionManager(BucketTransferThrottle throttle) {
+    DistributionManager dm = mock(DistributionManager.class);
+    InternalCache cache = mock(InternalCache.class);
+    InternalResourceManager resourceManager = mock(InternalResourceManager.class);
+    when(dm.getCache()).thenReturn(cache);
+    when(dm.getWaitingThreadPool()).thenReturn(mock(ExecutorService.class));
+    when(cache.getInternalResourceManager()).thenReturn(resourceManager);
+    when(resourceManager.getBucketTransferThrottle()).thenReturn(throttle);
+    return dm;
+  }
+
+  private RequestImageMessage createRequest(String regionPath) {
+    RequestImageMessage m = new RequestImageMessage();
+    m.regionPath = regionPath;
+    return m;
+  }
+
+  @Test
+  public void throttledBucketImageIsSentFromWaitingPool() {
+    DistributionManager dm = createDistributionManager(new BucketTransferThrottle(1, 0));
+    RequestImageMessage m = createRequest(PartitionedRegionHelper.getBucketFullPath("/pr", 3));
+    assertTrue(m.isThrottledBucketImage(dm));
+
+    m.process(dm);
+
+    verify(dm.getWaitingThreadPool(), times(1)).execute(any(Runnable.class));
+    assertFalse(m.isThrottledBucketImage(dm));
+  }
+
+  @Test
+  public void onlyLimitedBucketImagesAreThrottled() {
+    String bucketPath = PartitionedRegionHelper.getBucketFullPath("/pr", 3);
+    assertTrue(createRequest(bucketPath)
+        .isThrottledBucketImage(createDistributionManager(new BucketTransferThrottle(0, 1000))));
+    assertFalse(createRequest(bucketPath)
+        .isThrottledBucketImage(createDistributionManager(new BucketTransferThrottle(0, 0))));
+    assertFalse(createRequest("/replicate")
+        .isThrottledBucketImage(createDistributionManager(new BucketTransferThrottle(1, 1000))));
+  }
+}
@@ -28,6 +28,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.awaitility.Awaitility;
@@ -217,6 +221,95 @@ public class PartitionedRegionQueryEvaluatorTest {
         .until(() -> !(bucketList.equals(prqe.getAllNodes(regionAdvisor))));
   }
 
+  @Test
+  public void resultsBeyondLimitAreDroppedAsTheyArrive() throws Exception {
+    when(query.getLimit(any())).thenReturn(4);
+    PartitionedRegionQueryEvaluator prqe = new PartitionedRegionQueryEvaluator(system, pr, query,
+        null, new LinkedResultSet(), new HashSet(createBucketList(1, 2, 3)));
+
+    prqe.processData(createResultObjects("1", "2", "3"), remoteNodeA, 0, true);
+    prqe.processData(createResultObjects("4", "5", "6"), remoteNodeB, 0, false);
+    prqe.processData(createResultObjects("7"), remoteNodeB, 1, true);
+
+    assertEquals(3, getNumResultsKept(prqe, remoteNodeA));
+    assertEquals(1, getNumResultsKept(prqe, remoteNodeB));
+  }
+
+  @Test
+  public void localResultsCountTowardsLimit() throws Exception {
+    when(query.getLimit(any())).thenReturn(4);
+    List resultsForMember1 = createResultObjects("1", "2", "3");
+    List resultsForMember2 = createResultObjects("4", "5", "6");
+
+    PartitionedQueryScenario scenario = new PartitionedQueryScenario(localNode, allNodes,
+        noFailingMembers, createFakeBucketMap(), new ProcessDataFaker() {
+          public void processData(PartitionedRegionQueryEvaluator prqe) {
+            prqe.processData(resultsForMember2, remoteNodeA, 0, true);
+          }
+
+          public void executeQueryLocally(Collection resultsCollector) {
+            resultsCollector.add(resultsForMember1);
+          }
+        });
+
+    Set allBucketsToQuery = scenario.getAllBucketsToQuery();
+    Queue<PartitionedQueryScenario> scenarios = createScenariosQueue(scenario);
+    dataStore.setScenarios(scenarios);
+
+    PartitionedRegionQueryEvaluator prqe = new ExtendedPartitionedRegionQueryEvaluator(system, pr,
+        query, null, new LinkedResultSet(), allBucketsToQuery, scenarios);
+    prqe.queryBuckets(null);
+
+    assertEquals(3, getNumResultsKept(prqe, localNode));
+    assertEquals(1, getNumResultsKept(prqe, remoteNodeA));
+  }
+
+  @Test
+  public void concurrentChunksKeepNoMoreThanLimit() throws Exception {
+    when(query.getLimit(any())).thenReturn(10);
+    PartitionedRegionQueryEvaluator prqe = new PartitionedRegionQueryEvaluator(system, pr, query,
+        null, new LinkedResultSet(), new HashSet(createBucketList(1, 2, 3)));
+    List<InternalDistributedMember> senders = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      senders.add(new InternalDistributedMember("localhost", 9000 + i));
+    }
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(senders.size());
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (InternalDistributedMember sender : senders) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < 100; i++) {
+            prqe.processData(createResultObjects("a", "b", "c"), sender, i, i == 99);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int numResultsKept = 0;
+    for (InternalDistributedMember sender : senders) {
+      numResultsKept += getNumResultsKept(prqe, sender);
+    }
+    assertEquals(10, numResultsKept);
+  }
+
+  private int getNumResultsKept(PartitionedRegionQueryEvaluator prqe,
+      InternalDistributedMember member) {
+    int numResults = 0;
+    for (Object chunk : (Collection) prqe.getResultsPerMember().get(member)) {
+      numResults += ((Collection) chunk).size();
+    }
+    return numResults;
+  }
+
   private Map<InternalDistributedMember, List<Integer>> createFakeBucketMap() {
     Map<InternalDistributedMember, List<Integer>> bucketToNodeMap = new HashMap<>();
     bucketToNodeMap.put(localNode, createBucketList(1, 2, 3));
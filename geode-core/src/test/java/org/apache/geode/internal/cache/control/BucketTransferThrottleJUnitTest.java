@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.control;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.CancelCriterion;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class BucketTransferThrottleJUnitTest {
+
+  @Test
+  public void transfersAreLimited() throws Exception {
+    BucketTransferThrottle throttle = new BucketTransferThrottle(2, 0);
+    assertTrue(throttle.tryStartTransfer(0));
+    assertTrue(throttle.tryStartTransfer(0));
+    assertFalse(throttle.tryStartTransfer(10));
+    assertEquals(2, throttle.getActiveTransfers());
+
+    throttle.endTransfer();
+    assertTrue(throttle.tryStartTransfer(0));
+  }
+
+  @Test
+  public void zeroMaxTransfersIsUnlimited() throws Exception {
+    BucketTransferThrottle throttle = new BucketTransferThrottle(0, 0);
+    for (int i = 0; i < 100; i++) {
+      assertTrue(throttle.tryStartTransfer(0));
+    }
+  }
+
+  @Test
+  public void throttleIsLimitedByEitherLimit() {
+    assertFalse(new BucketTransferThrottle(0, 0).isLimited());
+    assertTrue(new BucketTransferThrottle(1, 0).isLimited());
+    assertTrue(new BucketTransferThrottle(0, 1).isLimited());
+  }
+
+  @Test
+  public void raisingMaxTransfersReleasesWaiters() throws Exception {
+    final BucketTransferThrottle throttle = new BucketTransferThrottle(1, 0);
+    assertTrue(throttle.tryStartTransfer(0));
+    final CountDownLatch started = new CountDownLatch(1);
+    Thread waiter = new Thread(() -> {
+      try {
+        if (throttle.tryStartTransfer(30000)) {
+          started.countDown();
+        }
+      } catch (InterruptedException e) {
+        // the test fails on the latch
+      }
+    });
+    waiter.start();
+    assertFalse(started.await(100, TimeUnit.MILLISECONDS));
+
+    throttle.setMaxTransfers(2);
+    assertTrue(started.await(30, TimeUnit.SECONDS));
+    waiter.join();
+  }
+
+  @Test
+  public void reservationsAreSpacedByBandwidth() {
+    BucketTransferThrottle throttle = new BucketTransferThrottle(0, 1000);
+    long now = 1000;
+    assertEquals(now, throttle.reserve(500, now));
+    assertEquals(now + TimeUnit.MILLISECONDS.toNanos(500), throttle.reserve(500, now));
+    assertEquals(now + TimeUnit.SECONDS.toNanos(1), throttle.reserve(100, now));
+  }
+
+  @Test
+  public void idleTimeDoesNotAccumulate() {
+    BucketTransferThrottle throttle = new BucketTransferThrottle(0, 1000);
+    throttle.reserve(1000, 0);
+    long later = TimeUnit.SECONDS.toNanos(10);
+    assertEquals(later, throttle.reserve(1000, later));
+    assertEquals(later + TimeUnit.SECONDS.toNanos(1), throttle.reserve(1000, later));
+  }
+
+  @Test
+  public void changingBandwidthReleasesWaiters() throws Exception {
+    final BucketTransferThrottle throttle = new BucketTransferThrottle(0, 1);
+    final CancelCriterion cancelCriterion = mock(CancelCriterion.class);
+    throttle.acquireBytes(100, cancelCriterion);
+    final CountDownLatch sent = new CountDownLatch(1);
+    Thread sender = new Thread(() -> {
+      try {
+        throttle.acquireBytes(100, cancelCriterion);
+        sent.countDown();
+      } catch (InterruptedException e) {
+        // the test fails on the latch
+      }
+    });
+    sender.start();
+    assertFalse(sent.await(200, TimeUnit.MILLISECONDS));
+
+    throttle.setBytesPerSecond(0);
+    assertTrue(sent.await(30, TimeUnit.SECONDS));
+    sender.join();
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.control;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.control.RebalanceResults;
+import org.apache.geode.cache.partition.PartitionRebalanceInfo;
+import org.apache.geode.test.junit.categories.IntegrationTest;
+
+@Category(IntegrationTest.class)
+public class SimulatedRebalanceJUnitTest {
+
+  private Cache cache;
+
+  @Before
+  public void setUp() {
+    Properties props = new Properties();
+    props.setProperty(MCAST_PORT, "0");
+    props.setProperty(LOCATORS, "");
+    this.cache = new CacheFactory(props).create();
+    Region<Integer, String> region =
+        this.cache.<Integer, String>createRegionFactory(RegionShortcut.PARTITION).create("region");
+    for (int i = 0; i < 10; i++) {
+      region.put(i, "value" + i);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    this.cache.close();
+  }
+
+  @Test
+  public void simulationReportsOperationLoadsOfEachMember() throws Exception {
+    RebalanceResults results =
+        this.cache.getResourceManager().createRebalanceFactory().simulate().getResults();
+
+    Collection<PartitionRebalanceInfo> details = results.getPartitionRebalanceDetails();
+    assertEquals(1, details.size());
+    PartitionRebalanceInfo info = details.iterator().next();
+    assertEquals(this.cache.getDistributedSystem().getDistributedMember(),
+        info.getOperationLoadsBefore().keySet().iterator().next());
+    assertEquals(1, info.getOperationLoadsBefore().size());
+    assertEquals(info.getOperationLoadsBefore().keySet(), info.getOperationLoadsAfter().keySet());
+  }
+
+  @Test
+  public void rebalanceReportsNoOperationLoads() throws Exception {
+    RebalanceResults results =
+        this.cache.getResourceManager().createRebalanceFactory().start().getResults();
+
+    Collection<PartitionRebalanceInfo> details = results.getPartitionRebalanceDetails();
+    assertEquals(1, details.size());
+    PartitionRebalanceInfo info = details.iterator().next();
+    assertTrue(info.getOperationLoadsBefore().isEmpty());
+    assertTrue(info.getOperationLoadsAfter().isEmpty());
+  }
+}
@@ -15,6 +15,7 @@
 package org.apache.geode.internal.cache.partitioned;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.DataInput;
@@ -42,6 +43,7 @@ import org.apache.geode.cache.partition.PartitionMemberInfo;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.internal.cache.partitioned.rebalance.BucketOperator.Completion;
 import org.apache.geode.internal.cache.partitioned.rebalance.CompositeDirector;
+import org.apache.geode.internal.cache.partitioned.rebalance.MoveBucketsByLoad;
 import org.apache.geode.internal.cache.partitioned.rebalance.PartitionedRegionLoadModel;
 import org.apache.geode.internal.cache.partitioned.rebalance.PartitionedRegionLoadModel.AddressComparor;
 import org.apache.geode.internal.cache.partitioned.rebalance.RebalanceDirector;
@@ -953,6 +955,49 @@ public class PartitionedRegionLoadModelJUnitTest {
     assertEquals(expectedMoves, op.bucketMoves);
   }
 
+  /**
+   * Test that buckets are moved to spread the operation load when the bucket load is already
+   * balanced, and that the simulated operator predicts the resulting operation load.
+   */
+  @Test
+  public void testMoveBucketsByOperationLoad() throws Exception {
+    SimulatedBucketOperator operator = new SimulatedBucketOperator();
+    PartitionedRegionLoadModel model = new PartitionedRegionLoadModel(operator, 0, 4,
+        getAddressComparor(false), Collections.<InternalDistributedMember>emptySet(), null);
+    InternalDistributedMember member1 =
+        new InternalDistributedMember(InetAddress.getByName("127.0.0.1"), 1);
+    InternalDistributedMember member2 =
+        new InternalDistributedMember(InetAddress.getByName("127.0.0.1"), 2);
+    // the same number of buckets, but member1 has both of the busy ones
+    PartitionMemberInfoImpl details1 = buildDetails(member1, 500, 500, new long[] {1, 1, 0, 0},
+        new long[] {1, 1, 0, 0}, new float[] {100, 100, 0, 0});
+    PartitionMemberInfoImpl details2 = buildDetails(member2, 500, 500, new long[] {0, 0, 1, 1},
+        new long[] {0, 0, 1, 1}, new float[] {0, 0, 0, 0});
+    model.addRegion("a", Arrays.asList(details1, details2), new FakeOfflineDetails(), true);
+    model.initialize();
+
+    RebalanceDirector bytesOnly = new CompositeDirector(false, false, true, false);
+    bytesOnly.initialize(model);
+    assertFalse(bytesOnly.nextStep());
+
+    operator.setOperationLoads(model.getMemberOperationLoads(), model.getBucketOperationLoads());
+    RebalanceDirector director = new MoveBucketsByLoad(50);
+    director.initialize(model);
+    int moveCount = 0;
+    while (director.nextStep() && moveCount < MAX_MOVES) {
+      moveCount++;
+    }
+
+    // a busy bucket moves to member2 and an idle one comes back to member1
+    assertEquals(2, moveCount);
+    assertEquals(0, model.getVarianceForTest(), 0.0001);
+    assertEquals(0, model.getOperationVarianceForTest(), 0.0001);
+    assertEquals(200, operator.getOperationLoadsBefore().get(member1), 0.01);
+    assertEquals(0, operator.getOperationLoadsBefore().get(member2), 0.01);
+    assertEquals(100, operator.getOperationLoadsAfter().get(member1), 0.01);
+    assertEquals(100, operator.getOperationLoadsAfter().get(member2), 0.01);
+  }
+
   /**
    * Test to make sure that we honor the weight of a node while moving buckets.
    */
@@ -1545,6 +1590,11 @@ public class PartitionedRegionLoadModelJUnitTest {
 
   private PartitionMemberInfoImpl buildDetails(InternalDistributedMember id, float weight,
       long localMaxMemory, long[] loads, long[] primaryLoads) {
+    return buildDetails(id, weight, localMaxMemory, loads, primaryLoads, new float[loads.length]);
+  }
+
+  private PartitionMemberInfoImpl buildDetails(InternalDistributedMember id, float weight,
+      long localMaxMemory, long[] loads, long[] primaryLoads, float[] operationRates) {
     PRLoad load1 = new PRLoad(loads.length, weight);
     int size = 0;
     int primaryCount = 0;
@@ -1552,6 +1602,7 @@ public class PartitionedRegionLoadModelJUnitTest {
     long[] bucketSizes = new long[loads.length];
     for (int i = 0; i < loads.length; i++) {
       load1.addBucket(i, loads[i], primaryLoads[i]);
+      load1.setOperationRate(i, operationRates[i]);
       bucketSizes[i] = loads[i];
       size += bucketSizes[i];
       if (loads[i] != 0) {
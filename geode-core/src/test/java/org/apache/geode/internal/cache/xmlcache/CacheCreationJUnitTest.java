@@ -18,6 +18,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -66,6 +67,26 @@ public class CacheCreationJUnitTest {
     verify(declarativeRegion, times(1)).createRoot(this.cache);
   }
 
+  @Test
+  public void declarativeRegionsAreCreatedByParallelRegionCreation() {
+    CacheCreation cacheCreation = new CacheCreation();
+
+    Map<String, Region<?, ?>> declarativeRegions = new LinkedHashMap<>();
+    List<RegionCreation> regionCreations = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      RegionCreation declarativeRegion = mock(RegionCreation.class);
+      when(declarativeRegion.getName()).thenReturn("testRegion" + i);
+      declarativeRegions.put("testRegion" + i, declarativeRegion);
+      regionCreations.add(declarativeRegion);
+    }
+
+    cacheCreation.initializeRegions(declarativeRegions, this.cache, 4);
+
+    for (RegionCreation declarativeRegion : regionCreations) {
+      verify(declarativeRegion, times(1)).createRoot(this.cache);
+    }
+  }
+
   @Test
   public void defaultCacheServerIsNotCreatedWithDefaultPortWhenNoDeclarativeServerIsConfigured() {
     CacheCreation cacheCreation = new CacheCreation();
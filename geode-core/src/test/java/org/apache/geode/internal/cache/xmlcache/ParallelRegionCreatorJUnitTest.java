@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.xmlcache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class ParallelRegionCreatorJUnitTest {
+
+  private CacheCreation cacheCreation;
+
+  private Cache cache;
+
+  private Map<String, Region<?, ?>> roots;
+
+  @Before
+  public void setUp() {
+    this.cacheCreation = new CacheCreation();
+    this.cache = mock(Cache.class);
+    this.roots = new LinkedHashMap<>();
+  }
+
+  private RegionCreation addRoot(String name, String colocatedWith) {
+    RegionCreation root = new RegionCreation(this.cacheCreation, name);
+    setColocatedWith(root, colocatedWith);
+    this.roots.put(name, root);
+    return root;
+  }
+
+  private void setColocatedWith(RegionCreation regionCreation, String colocatedWith) {
+    if (colocatedWith != null) {
+      ((RegionAttributesCreation) regionCreation.getAttributes()).setPartitionAttributes(
+          new PartitionAttributesFactory<>().setColocatedWith(colocatedWith).create());
+    }
+  }
+
+  @Test
+  public void independentRootsAreInSeparateGroups() {
+    RegionCreation a = addRoot("a", null);
+    RegionCreation b = addRoot("b", null);
+
+    List<List<RegionCreation>> groups = ParallelRegionCreator.groupByColocation(this.roots, cache);
+
+    assertEquals(Arrays.asList(Collections.singletonList(a), Collections.singletonList(b)),
+        groups);
+  }
+
+  @Test
+  public void colocatedRootsAreGroupedInDeclarationOrder() {
+    RegionCreation parent = addRoot("parent", null);
+    RegionCreation other = addRoot("other", null);
+    RegionCreation child = addRoot("child", "/parent");
+    RegionCreation grandChild = addRoot("grandChild", "child");
+
+    List<List<RegionCreation>> groups = ParallelRegionCreator.groupByColocation(this.roots, cache);
+
+    assertEquals(2, groups.size());
+    assertEquals(Arrays.asList(parent, child, grandChild), groups.get(0));
+    assertEquals(Collections.singletonList(other), groups.get(1));
+  }
+
+  @Test
+  public void colocationOfSubregionsAndNamedAttributesIsFollowed() {
+    RegionCreation a = addRoot("a", null);
+    RegionCreation b = addRoot("b", null);
+    RegionCreation sub = new RegionCreation(this.cacheCreation, b, "sub", null);
+    setColocatedWith(sub, "/a");
+    b.addSubregion("sub", sub);
+    RegionCreation c = addRoot("c", null);
+    RegionCreation d = addRoot("d", null);
+    ((RegionAttributesCreation) d.getAttributes()).setRefid("colocatedWithC");
+    RegionAttributes namedAttributes = mock(RegionAttributes.class);
+    when(namedAttributes.getPartitionAttributes())
+        .thenReturn(new PartitionAttributesFactory<>().setColocatedWith("/c/sub").create());
+    when(this.cache.getRegionAttributes("colocatedWithC")).thenReturn(namedAttributes);
+
+    List<List<RegionCreation>> groups = ParallelRegionCreator.groupByColocation(this.roots, cache);
+
+    assertEquals(Arrays.asList(Arrays.asList(a, b), Arrays.asList(c, d)), groups);
+  }
+
+  @Test
+  public void independentGroupsAreCreatedConcurrently() {
+    addRoot("a", null);
+    addRoot("b", null);
+    final CountDownLatch bothStarted = new CountDownLatch(2);
+    final List<String> created = Collections.synchronizedList(new ArrayList<>());
+
+    new ParallelRegionCreator(2).createRoots(this.roots, this.cache, regionCreation -> {
+      bothStarted.countDown();
+      try {
+        assertTrue(bothStarted.await(30, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        fail("interrupted");
+      }
+      created.add(regionCreation.getName());
+    });
+
+    Collections.sort(created);
+    assertEquals(Arrays.asList("a", "b"), created);
+  }
+
+  @Test
+  public void firstFailureIsRethrownAndStopsItsGroup() {
+    addRoot("a", null);
+    addRoot("b", "a");
+    addRoot("c", null);
+    final IllegalStateException failure = new IllegalStateException("expected");
+    final List<String> created = Collections.synchronizedList(new ArrayList<>());
+
+    try {
+      new ParallelRegionCreator(2).createRoots(this.roots, this.cache, regionCreation -> {
+        if (regionCreation.getName().equals("a")) {
+          throw failure;
+        }
+        created.add(regionCreation.getName());
+      });
+      fail("expected the failure to be rethrown");
+    } catch (IllegalStateException e) {
+      assertSame(failure, e);
+    }
+    assertFalse(created.contains("b"));
+  }
+}
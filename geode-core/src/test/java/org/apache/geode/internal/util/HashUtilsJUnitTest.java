@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category(UnitTest.class)
+public class HashUtilsJUnitTest {
+
+  @Test
+  public void stringsAndNumbersUseTheirHashCode() {
+    assertEquals("key".hashCode(), HashUtils.stableHashCode("key"));
+    assertEquals(Integer.valueOf(-7).hashCode(), HashUtils.stableHashCode(-7));
+    assertEquals(Long.valueOf(1L << 40).hashCode(), HashUtils.stableHashCode(1L << 40));
+  }
+
+  @Test
+  public void enumsUseTheirSerializedForm() throws Exception {
+    for (TimeUnit unit : TimeUnit.values()) {
+      assertEquals(Arrays.hashCode(BlobHelper.serializeToBlob(unit)),
+          HashUtils.stableHashCode(unit));
+    }
+  }
+
+  @Test
+  public void identityHashCodeIsNotUsed() {
+    UnstableHashCode key = new UnstableHashCode("key");
+    int hash = HashUtils.stableHashCode(key);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(hash, HashUtils.stableHashCode(key));
+      assertEquals(hash, HashUtils.stableHashCode(new UnstableHashCode("key")));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void objectThatCanNotBeSerializedIsRejected() {
+    HashUtils.stableHashCode(new Object());
+  }
+
+  /**
+   * A key whose hash code changes on every call, like an identity hash code does from JVM to JVM
+   */
+  private static class UnstableHashCode implements Serializable {
+    private static int nextHashCode;
+
+    private final String name;
+
+    UnstableHashCode(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof UnstableHashCode && ((UnstableHashCode) other).name.equals(this.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return nextHashCode++;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.SerializationTest;
+import org.apache.geode.test.junit.categories.UnitTest;
+
+@Category({UnitTest.class, SerializationTest.class})
+public class PdxStringDictionaryJUnitTest {
+
+  @Test
+  public void disabledDictionaryReturnsSameInstance() {
+    PdxStringDictionary dictionary = new PdxStringDictionary(0, 64);
+    String s = new String("USD");
+    assertFalse(dictionary.isEnabled());
+    assertSame(s, dictionary.canonicalize(s));
+    assertEquals(0, dictionary.size());
+  }
+
+  @Test
+  public void equalStringsShareOneInstance() {
+    PdxStringDictionary dictionary = new PdxStringDictionary(10, 64);
+    String first = new String("USD");
+    String second = new String("USD");
+    assertSame(first, dictionary.canonicalize(first));
+    assertSame(first, dictionary.canonicalize(second));
+    assertEquals(1, dictionary.size());
+  }
+
+  @Test
+  public void longStringsAreNotAdded() {
+    PdxStringDictionary dictionary = new PdxStringDictionary(10, 3);
+    String s = new String("EURO");
+    assertSame(s, dictionary.canonicalize(s));
+    assertEquals(0, dictionary.size());
+  }
+
+  @Test
+  public void fullDictionaryStopsGrowing() {
+    PdxStringDictionary dictionary = new PdxStringDictionary(2, 64);
+    dictionary.canonicalize("a");
+    dictionary.canonicalize("b");
+    String c = new String("c");
+    assertSame(c, dictionary.canonicalize(c));
+    assertEquals(2, dictionary.size());
+    assertEquals("a", dictionary.canonicalize(new String("a")));
+  }
+
+  @Test
+  public void canonicalizesArrayElementsInPlace() {
+    PdxStringDictionary dictionary = new PdxStringDictionary(10, 64);
+    String first = new String("ok");
+    dictionary.canonicalize(first);
+    String[] strings = new String[] {new String("ok"), null};
+    assertSame(strings, dictionary.canonicalize(strings));
+    assertSame(first, strings[0]);
+    assertNull(strings[1]);
+  }
+}
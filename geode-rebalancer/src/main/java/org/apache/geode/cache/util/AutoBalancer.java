@@ -14,8 +14,13 @@
  */
 package org.apache.geode.cache.util;
 
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -26,6 +31,8 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.management.ObjectName;
+
 import org.apache.logging.log4j.Logger;
 import org.springframework.scheduling.support.CronSequenceGenerator;
 
@@ -38,13 +45,19 @@ import org.apache.geode.cache.control.RebalanceOperation;
 import org.apache.geode.cache.control.RebalanceResults;
 import org.apache.geode.cache.partition.PartitionMemberInfo;
 import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.DistributedMember;
 import org.apache.geode.distributed.internal.locks.DLockService;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.cache.partitioned.InternalPRInfo;
 import org.apache.geode.internal.cache.partitioned.LoadProbe;
+import org.apache.geode.internal.cache.partitioned.PartitionedRegionRebalanceOp;
+import org.apache.geode.internal.cache.partitioned.rebalance.LimitedMoveDirector;
+import org.apache.geode.internal.cache.partitioned.rebalance.LimitedMoveDirector.BucketMove;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.internal.MBeanJMXAdapter;
 
 /**
  * Re-balancing operation relocates data from heavily loaded members to lightly loaded members. In
@@ -65,7 +78,19 @@ import org.apache.geode.internal.logging.LogService;
  * {@link AutoBalancer} can be controlled using the following configurations
  * <OL>
  * <LI>{@link AutoBalancer#SCHEDULE}
- * <LI>TBD THRESHOLDS
+ * <LI>{@link AutoBalancer#SIZE_THRESHOLD_PERCENT}
+ * <LI>{@link AutoBalancer#MINIMUM_SIZE}
+ * <LI>{@link AutoBalancer#INCREMENTAL}
+ * <LI>{@link AutoBalancer#IMBALANCE_HIGH_PERCENT}
+ * <LI>{@link AutoBalancer#IMBALANCE_LOW_PERCENT}
+ * <LI>{@link AutoBalancer#MAX_MOVES_PER_AUDIT}
+ * </OL>
+ *
+ * <P>
+ * By default each audit decides whether a full rebalance is worth its cost. In
+ * {@link AutoBalancer#INCREMENTAL} mode each audit instead moves a few buckets of the regions that
+ * are out of balance, so the schedule should be frequent, e.g. {@code 0/30 * * * * ?}. The
+ * decisions are published through an {@link AutoBalancerMXBean}.
  */
 @Experimental("The autobalancer may be removed or the API may change in future releases")
 public class AutoBalancer implements Declarable {
@@ -119,6 +144,56 @@ public class AutoBalancer implements Declarable {
    */
   public static final int DEFAULT_MINIMUM_SIZE = 100 * 1024 * 1024;
 
+  /**
+   * Use this configuration to balance partitioned regions a few buckets at a time instead of with
+   * full rebalances. Each audit measures the imbalance of every partitioned region, see
+   * {@link AutoBalancerMXBean}, and moves at most {@link #MAX_MOVES_PER_AUDIT} buckets of the
+   * regions being balanced. A region starts being balanced when its imbalance reaches
+   * {@link #IMBALANCE_HIGH_PERCENT} and stops when it falls to {@link #IMBALANCE_LOW_PERCENT}.
+   * Regions smaller than {@link #MINIMUM_SIZE} are not balanced.
+   * <P>
+   * Default value false
+   */
+  public static final String INCREMENTAL = "incremental";
+
+  /**
+   * In {@link #INCREMENTAL} mode, the imbalance in percent at which a region starts being balanced.
+   * <P>
+   * Default value {@link #DEFAULT_IMBALANCE_HIGH_PERCENT}
+   */
+  public static final String IMBALANCE_HIGH_PERCENT = "imbalance-high-percent";
+
+  /**
+   * Default value of {@link AutoBalancer#IMBALANCE_HIGH_PERCENT}
+   */
+  public static final int DEFAULT_IMBALANCE_HIGH_PERCENT = 20;
+
+  /**
+   * In {@link #INCREMENTAL} mode, the imbalance in percent at which a region stops being balanced.
+   * It must be lower than {@link #IMBALANCE_HIGH_PERCENT}, so that a region close to the threshold
+   * does not alternate between being balanced and not.
+   * <P>
+   * Default value {@link #DEFAULT_IMBALANCE_LOW_PERCENT}
+   */
+  public static final String IMBALANCE_LOW_PERCENT = "imbalance-low-percent";
+
+  /**
+   * Default value of {@link AutoBalancer#IMBALANCE_LOW_PERCENT}
+   */
+  public static final int DEFAULT_IMBALANCE_LOW_PERCENT = 10;
+
+  /**
+   * In {@link #INCREMENTAL} mode, the maximum number of buckets of each region moved by one audit.
+   * <P>
+   * Default value {@link #DEFAULT_MAX_MOVES_PER_AUDIT}
+   */
+  public static final String MAX_MOVES_PER_AUDIT = "max-moves-per-audit";
+
+  /**
+   * Default value of {@link AutoBalancer#MAX_MOVES_PER_AUDIT}
+   */
+  public static final int DEFAULT_MAX_MOVES_PER_AUDIT = 1;
+
   /**
    * Name of the DistributedLockService that {@link AutoBalancer} will use to guard against
    * concurrent maintenance activity
@@ -128,7 +203,8 @@ public class AutoBalancer implements Declarable {
   public static final Object AUTO_BALANCER_LOCK = "__AUTO_B_LOCK";
 
   private final AuditScheduler scheduler;
-  private final OOBAuditor auditor;
+  private OOBAuditor auditor;
+  private final boolean defaultAuditor;
   private final TimeProvider clock;
   private final CacheOperationFacade cacheFacade;
 
@@ -143,6 +219,7 @@ public class AutoBalancer implements Declarable {
     this.cacheFacade = cacheFacade == null ? new GeodeCacheFacade() : cacheFacade;
     this.scheduler = scheduler == null ? new CronScheduler() : scheduler;
     this.auditor = auditor == null ? new SizeBasedOOBAuditor(this.cacheFacade) : auditor;
+    this.defaultAuditor = auditor == null;
     this.clock = clock == null ? new SystemClockTimeProvider() : clock;
   }
 
@@ -152,6 +229,10 @@ public class AutoBalancer implements Declarable {
       logger.debug("Initializing " + this.getClass().getSimpleName() + " with " + props);
     }
 
+    if (defaultAuditor && props != null
+        && Boolean.parseBoolean(props.getProperty(INCREMENTAL))) {
+      auditor = new IncrementalOOBAuditor(cacheFacade);
+    }
     auditor.init(props);
 
     String schedule = null;
@@ -338,6 +419,213 @@ public class AutoBalancer implements Declarable {
     }
   }
 
+  /**
+   * Moves a few buckets at a time of the partitioned regions that are out of balance
+   * <OL>
+   * <LI>acquires distributed lock
+   * <LI>measures the imbalance of each region
+   * <LI>moves buckets of the regions whose imbalance is outside the hysteresis band
+   * <LI>publishes the decisions
+   */
+  static class IncrementalOOBAuditor implements OOBAuditor {
+    private int highThreshold = DEFAULT_IMBALANCE_HIGH_PERCENT;
+    private int lowThreshold = DEFAULT_IMBALANCE_LOW_PERCENT;
+    private int maxMoves = DEFAULT_MAX_MOVES_PER_AUDIT;
+    private long sizeMinimum = DEFAULT_MINIMUM_SIZE;
+
+    /** Regions whose imbalance reached the high threshold and has not fallen to the low one */
+    private final Set<String> balancingRegions = new LinkedHashSet<>();
+
+    private final AutoBalancerStatus status = new AutoBalancerStatus();
+
+    private boolean published;
+
+    final CacheOperationFacade cache;
+
+    public IncrementalOOBAuditor(CacheOperationFacade cache) {
+      this.cache = cache;
+    }
+
+    @Override
+    public void init(Properties props) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Initializing " + this.getClass().getSimpleName());
+      }
+
+      if (props != null) {
+        if (props.getProperty(IMBALANCE_HIGH_PERCENT) != null) {
+          highThreshold = Integer.valueOf(props.getProperty(IMBALANCE_HIGH_PERCENT));
+        }
+        if (props.getProperty(IMBALANCE_LOW_PERCENT) != null) {
+          lowThreshold = Integer.valueOf(props.getProperty(IMBALANCE_LOW_PERCENT));
+        }
+        if (props.getProperty(MAX_MOVES_PER_AUDIT) != null) {
+          maxMoves = Integer.valueOf(props.getProperty(MAX_MOVES_PER_AUDIT));
+          if (maxMoves <= 0) {
+            throw new GemFireConfigException(MAX_MOVES_PER_AUDIT + " should be greater than 0");
+          }
+        }
+        if (props.getProperty(MINIMUM_SIZE) != null) {
+          sizeMinimum = Integer.valueOf(props.getProperty(MINIMUM_SIZE));
+          if (sizeMinimum <= 0) {
+            throw new GemFireConfigException(MINIMUM_SIZE + " should be greater than 0");
+          }
+        }
+      }
+      if (lowThreshold < 0 || highThreshold <= lowThreshold) {
+        throw new GemFireConfigException(IMBALANCE_LOW_PERCENT
+            + " should be at least 0 and lower than " + IMBALANCE_HIGH_PERCENT);
+      }
+    }
+
+    @Override
+    public void execute() {
+      if (!published) {
+        cache.publishStatus(status);
+        published = true;
+      }
+
+      boolean result = cache.acquireAutoBalanceLock();
+      status.setOwner(result);
+      if (!result) {
+        if (logger.isDebugEnabled()) {
+          logger.debug(
+              "Another member owns auto-balance lock. Skip this attempt to balance the cluster");
+        }
+        return;
+      }
+
+      cache.incrementAttemptCounter();
+
+      float maxImbalance = 0;
+      float maxProjectedImbalance = 0;
+      Map<String, Set<PartitionMemberInfo>> details = cache.getRegionMemberInfo();
+      balancingRegions.retainAll(details.keySet());
+      for (Map.Entry<String, Set<PartitionMemberInfo>> entry : details.entrySet()) {
+        String region = entry.getKey();
+        Map<DistributedMember, Long> sizes = new HashMap<>();
+        Map<DistributedMember, Long> capacities = new HashMap<>();
+        long totalSize = 0;
+        for (PartitionMemberInfo member : entry.getValue()) {
+          sizes.put(member.getDistributedMember(), member.getSize());
+          capacities.put(member.getDistributedMember(), member.getConfiguredMaxMemory());
+          totalSize += member.getSize();
+        }
+
+        float imbalance = getImbalancePercent(sizes, capacities);
+        maxImbalance = Math.max(maxImbalance, imbalance);
+        if (!needsMoves(region, imbalance, totalSize)) {
+          maxProjectedImbalance = Math.max(maxProjectedImbalance, imbalance);
+          continue;
+        }
+
+        List<BucketMove> moves = cache.moveBuckets(region, maxMoves);
+        for (BucketMove move : moves) {
+          addSize(sizes, move.getSource(), -move.getBytes());
+          addSize(sizes, move.getTarget(), move.getBytes());
+          status.bucketMoved(move.getBytes());
+        }
+        float projectedImbalance = getImbalancePercent(sizes, capacities);
+        maxProjectedImbalance = Math.max(maxProjectedImbalance, projectedImbalance);
+
+        String decision;
+        if (moves.isEmpty()) {
+          decision = MessageFormat.format(
+              "{0}: imbalance {1,number,#.#}%, no bucket move improves the balance", region,
+              imbalance);
+        } else {
+          decision = MessageFormat.format(
+              "{0}: imbalance {1,number,#.#}%, moved {2}, projected imbalance {3,number,#.#}%",
+              region, imbalance, moves, projectedImbalance);
+        }
+        status.addDecision(decision);
+        logger.info(decision);
+      }
+      status.auditCompleted(balancingRegions, maxImbalance, maxProjectedImbalance);
+    }
+
+    /**
+     * Applies the hysteresis band: a region starts being balanced when its imbalance reaches the
+     * high threshold and keeps being balanced until it falls to the low threshold.
+     */
+    boolean needsMoves(String region, float imbalance, long totalSize) {
+      boolean balancing = balancingRegions.contains(region);
+      if (balancing && imbalance <= lowThreshold) {
+        balancingRegions.remove(region);
+        status.addDecision(MessageFormat.format(
+            "{0}: imbalance {1,number,#.#}% is within {2}%, stopped balancing", region, imbalance,
+            lowThreshold));
+        return false;
+      }
+      if (!balancing) {
+        if (imbalance < highThreshold || totalSize < sizeMinimum) {
+          return false;
+        }
+        balancingRegions.add(region);
+        status.addDecision(MessageFormat.format(
+            "{0}: imbalance {1,number,#.#}% reached {2}%, started balancing", region, imbalance,
+            highThreshold));
+      }
+      return true;
+    }
+
+    private static void addSize(Map<DistributedMember, Long> sizes, DistributedMember member,
+        long delta) {
+      Long size = sizes.get(member);
+      sizes.put(member, (size == null ? 0 : size) + delta);
+    }
+
+    /**
+     * Returns how far, in percent, the most loaded member's share of the data exceeds its share in
+     * a perfect balance. Each member's share is proportional to its capacity; members without
+     * capacity are ignored.
+     */
+    static float getImbalancePercent(Map<DistributedMember, Long> sizes,
+        Map<DistributedMember, Long> capacities) {
+      long totalSize = 0;
+      long totalCapacity = 0;
+      for (Map.Entry<DistributedMember, Long> entry : capacities.entrySet()) {
+        Long size = sizes.get(entry.getKey());
+        if (entry.getValue() > 0 && size != null) {
+          totalSize += size;
+          totalCapacity += entry.getValue();
+        }
+      }
+      if (totalSize <= 0) {
+        return 0;
+      }
+      double average = (double) totalSize / totalCapacity;
+      double max = 0;
+      for (Map.Entry<DistributedMember, Long> entry : capacities.entrySet()) {
+        Long size = sizes.get(entry.getKey());
+        if (entry.getValue() > 0 && size != null) {
+          max = Math.max(max, (double) size / entry.getValue());
+        }
+      }
+      return (float) ((max / average - 1) * 100);
+    }
+
+    int getHighThreshold() {
+      return highThreshold;
+    }
+
+    int getLowThreshold() {
+      return lowThreshold;
+    }
+
+    int getMaxMoves() {
+      return maxMoves;
+    }
+
+    Set<String> getBalancingRegions() {
+      return Collections.unmodifiableSet(balancingRegions);
+    }
+
+    AutoBalancerStatus getStatus() {
+      return status;
+    }
+  }
+
   /**
    * Hides cache level details and exposes simple methods relevant for auto-balancing
    */
@@ -367,6 +655,47 @@ public class AutoBalancer implements Declarable {
       return detailsMap;
     }
 
+    @Override
+    public Map<String, Set<PartitionMemberInfo>> getRegionMemberInfo() {
+      Map<String, Set<PartitionMemberInfo>> infoMap = new HashMap<>();
+      for (Map.Entry<PartitionedRegion, InternalPRInfo> entry : getRegionMemberDetails()
+          .entrySet()) {
+        // colocated regions move with the region they are colocated with
+        if (entry.getKey().getColocatedWith() == null) {
+          infoMap.put(entry.getKey().getFullPath(), entry.getValue().getPartitionMemberInfo());
+        }
+      }
+      return infoMap;
+    }
+
+    @Override
+    public List<BucketMove> moveBuckets(String regionPath, int maxMoves) {
+      PartitionedRegion region = (PartitionedRegion) getCache().getRegion(regionPath);
+      if (region == null) {
+        return Collections.emptyList();
+      }
+      LimitedMoveDirector director = new LimitedMoveDirector(maxMoves);
+      PartitionedRegionRebalanceOp operation =
+          new PartitionedRegionRebalanceOp(region, false, director, true, true);
+      operation.execute();
+      return new ArrayList<>(director.getMoves());
+    }
+
+    @Override
+    public void publishStatus(AutoBalancerMXBean status) {
+      InternalCache cache = getCache();
+      try {
+        ManagementService service = ManagementService.getManagementService(cache);
+        ObjectName name = MBeanJMXAdapter.getObjectName(
+            "GemFire:service=AutoBalancer,type=Member,member=" + MBeanJMXAdapter
+                .getMemberNameOrId(cache.getInternalDistributedSystem().getDistributedMember()));
+        name = service.registerMBean(status, name);
+        service.federate(name, AutoBalancerMXBean.class, false);
+      } catch (Exception e) {
+        logger.warn("Failed to publish the AutoBalancer status", e);
+      }
+    }
+
     @Override
     public long getTotalDataSize(Map<PartitionedRegion, InternalPRInfo> details) {
       long totalSize = 0;
@@ -540,6 +869,12 @@ public class AutoBalancer implements Declarable {
     long getTotalDataSize(Map<PartitionedRegion, InternalPRInfo> details);
 
     long getTotalTransferSize();
+
+    Map<String, Set<PartitionMemberInfo>> getRegionMemberInfo();
+
+    List<BucketMove> moveBuckets(String regionPath, int maxMoves);
+
+    void publishStatus(AutoBalancerMXBean status);
   }
 
   OOBAuditor getOOBAuditor() {
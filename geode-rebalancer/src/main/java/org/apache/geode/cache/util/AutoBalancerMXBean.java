@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.util;
+
+import org.apache.geode.annotations.Experimental;
+import org.apache.geode.management.internal.security.ResourceOperation;
+import org.apache.geode.security.ResourcePermission.Operation;
+import org.apache.geode.security.ResourcePermission.Resource;
+
+/**
+ * MBean that publishes the decisions of an incremental {@link AutoBalancer} running on a member.
+ * Only the member that owns the auto-balancing responsibility moves buckets, the others report
+ * that they are not the owner.
+ *
+ * <P>
+ * The imbalance of a partitioned region is how far, in percent, the most loaded member's share of
+ * the region exceeds the share it would have if the region were perfectly balanced, relative to the
+ * member's configured capacity.
+ *
+ * @since Geode 1.4
+ */
+@Experimental("The autobalancer may be removed or the API may change in future releases")
+@ResourceOperation(resource = Resource.CLUSTER, operation = Operation.READ)
+public interface AutoBalancerMXBean {
+
+  /**
+   * Returns whether this member owns the auto-balancing responsibility.
+   */
+  boolean isOwner();
+
+  /**
+   * Returns the number of audits this member has run while owning the responsibility.
+   */
+  long getAudits();
+
+  /**
+   * Returns the number of buckets this member has moved.
+   */
+  long getBucketsMoved();
+
+  /**
+   * Returns the number of bytes in the buckets this member has moved.
+   */
+  long getBytesMoved();
+
+  /**
+   * Returns the paths of the regions that are being balanced, that is whose imbalance crossed the
+   * high threshold and has not yet fallen to the low threshold.
+   */
+  String[] getBalancingRegions();
+
+  /**
+   * Returns the largest imbalance of any region seen by the last audit, in percent.
+   */
+  float getImbalancePercent();
+
+  /**
+   * Returns the largest imbalance of any region expected once the bucket moves of the last audit
+   * are complete, in percent.
+   */
+  float getProjectedImbalancePercent();
+
+  /**
+   * Returns the most recent decisions, oldest first.
+   */
+  String[] getRecentDecisions();
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.util;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Date;
+
+import org.apache.geode.annotations.Experimental;
+
+/**
+ * The state an incremental {@link AutoBalancer} publishes through {@link AutoBalancerMXBean}. The
+ * class is public only so that it can be registered as an MBean.
+ *
+ * @since Geode 1.4
+ */
+@Experimental("The autobalancer may be removed or the API may change in future releases")
+public class AutoBalancerStatus implements AutoBalancerMXBean {
+
+  /** The number of decisions kept */
+  static final int MAX_DECISIONS = 20;
+
+  private volatile boolean owner;
+
+  private long audits;
+
+  private long bucketsMoved;
+
+  private long bytesMoved;
+
+  private String[] balancingRegions = new String[0];
+
+  private float imbalancePercent;
+
+  private float projectedImbalancePercent;
+
+  private final ArrayDeque<String> decisions = new ArrayDeque<>();
+
+  AutoBalancerStatus() {}
+
+  void setOwner(boolean owner) {
+    this.owner = owner;
+  }
+
+  synchronized void auditCompleted(Collection<String> balancingRegions, float imbalancePercent,
+      float projectedImbalancePercent) {
+    this.audits++;
+    this.balancingRegions = balancingRegions.toArray(new String[balancingRegions.size()]);
+    this.imbalancePercent = imbalancePercent;
+    this.projectedImbalancePercent = projectedImbalancePercent;
+  }
+
+  synchronized void bucketMoved(long bytes) {
+    this.bucketsMoved++;
+    this.bytesMoved += bytes;
+  }
+
+  synchronized void addDecision(String decision) {
+    if (this.decisions.size() == MAX_DECISIONS) {
+      this.decisions.removeFirst();
+    }
+    this.decisions.addLast(new Date() + " " + decision);
+  }
+
+  @Override
+  public boolean isOwner() {
+    return this.owner;
+  }
+
+  @Override
+  public synchronized long getAudits() {
+    return this.audits;
+  }
+
+  @Override
+  public synchronized long getBucketsMoved() {
+    return this.bucketsMoved;
+  }
+
+  @Override
+  public synchronized long getBytesMoved() {
+    return this.bytesMoved;
+  }
+
+  @Override
+  public synchronized String[] getBalancingRegions() {
+    return this.balancingRegions.clone();
+  }
+
+  @Override
+  public synchronized float getImbalancePercent() {
+    return this.imbalancePercent;
+  }
+
+  @Override
+  public synchronized float getProjectedImbalancePercent() {
+    return this.projectedImbalancePercent;
+  }
+
+  @Override
+  public synchronized String[] getRecentDecisions() {
+    return this.decisions.toArray(new String[this.decisions.size()]);
+  }
+}
@@ -20,10 +20,13 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -48,15 +51,19 @@ import org.apache.geode.cache.partition.PartitionMemberInfo;
 import org.apache.geode.cache.util.AutoBalancer.AuditScheduler;
 import org.apache.geode.cache.util.AutoBalancer.CacheOperationFacade;
 import org.apache.geode.cache.util.AutoBalancer.GeodeCacheFacade;
+import org.apache.geode.cache.util.AutoBalancer.IncrementalOOBAuditor;
 import org.apache.geode.cache.util.AutoBalancer.OOBAuditor;
 import org.apache.geode.cache.util.AutoBalancer.SizeBasedOOBAuditor;
 import org.apache.geode.cache.util.AutoBalancer.TimeProvider;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.apache.geode.internal.cache.PRHARedundancyProvider;
 import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.cache.control.InternalResourceManager;
 import org.apache.geode.internal.cache.partitioned.InternalPRInfo;
 import org.apache.geode.internal.cache.partitioned.LoadProbe;
+import org.apache.geode.internal.cache.partitioned.rebalance.LimitedMoveDirector.BucketMove;
 import org.apache.geode.test.junit.categories.IntegrationTest;
 
 /**
@@ -603,6 +610,149 @@ public class AutoBalancerJUnitTest {
     TimeUnit.MILLISECONDS.sleep(2 * timer);
   }
 
+  @Test
+  public void testIncrementalAuditorInit() {
+    AutoBalancer balancer = new AutoBalancer();
+    Properties props = getBasicConfig();
+    props.put(AutoBalancer.INCREMENTAL, "true");
+    balancer.init(props);
+    IncrementalOOBAuditor auditor = (IncrementalOOBAuditor) balancer.getOOBAuditor();
+    assertEquals(AutoBalancer.DEFAULT_IMBALANCE_HIGH_PERCENT, auditor.getHighThreshold());
+    assertEquals(AutoBalancer.DEFAULT_IMBALANCE_LOW_PERCENT, auditor.getLowThreshold());
+    assertEquals(AutoBalancer.DEFAULT_MAX_MOVES_PER_AUDIT, auditor.getMaxMoves());
+
+    props.put(AutoBalancer.IMBALANCE_HIGH_PERCENT, "30");
+    props.put(AutoBalancer.IMBALANCE_LOW_PERCENT, "5");
+    props.put(AutoBalancer.MAX_MOVES_PER_AUDIT, "3");
+    balancer = new AutoBalancer();
+    balancer.init(props);
+    auditor = (IncrementalOOBAuditor) balancer.getOOBAuditor();
+    assertEquals(30, auditor.getHighThreshold());
+    assertEquals(5, auditor.getLowThreshold());
+    assertEquals(3, auditor.getMaxMoves());
+  }
+
+  @Test(expected = GemFireConfigException.class)
+  public void testConfigImbalanceLowNotBelowHigh() {
+    AutoBalancer balancer = new AutoBalancer();
+    Properties props = getBasicConfig();
+    props.put(AutoBalancer.INCREMENTAL, "true");
+    props.put(AutoBalancer.IMBALANCE_HIGH_PERCENT, "10");
+    props.put(AutoBalancer.IMBALANCE_LOW_PERCENT, "10");
+    balancer.init(props);
+  }
+
+  @Test
+  public void testImbalancePercent() {
+    DistributedMember m1 = mockContext.mock(DistributedMember.class, "m1");
+    DistributedMember m2 = mockContext.mock(DistributedMember.class, "m2");
+    Map<DistributedMember, Long> sizes = new HashMap<>();
+    Map<DistributedMember, Long> capacities = new HashMap<>();
+    capacities.put(m1, 100L);
+    capacities.put(m2, 300L);
+
+    // balanced relative to capacity
+    sizes.put(m1, 25L);
+    sizes.put(m2, 75L);
+    assertEquals(0, IncrementalOOBAuditor.getImbalancePercent(sizes, capacities), 0.01);
+
+    // m1 holds half the data with a quarter of the capacity
+    sizes.put(m1, 50L);
+    sizes.put(m2, 50L);
+    assertEquals(100, IncrementalOOBAuditor.getImbalancePercent(sizes, capacities), 0.01);
+
+    sizes.put(m1, 0L);
+    sizes.put(m2, 0L);
+    assertEquals(0, IncrementalOOBAuditor.getImbalancePercent(sizes, capacities), 0.01);
+  }
+
+  @Test
+  public void testIncrementalAuditorHysteresis() {
+    final InternalDistributedMember m1 = mockContext.mock(InternalDistributedMember.class, "m1");
+    final InternalDistributedMember m2 = mockContext.mock(InternalDistributedMember.class, "m2");
+    final List<BucketMove> moves = Collections.singletonList(new BucketMove(1, m1, m2, 10));
+    final List<BucketMove> noMoves = Collections.emptyList();
+
+    // imbalance 10%, 40%, 16% and 4%
+    final Map<String, Set<PartitionMemberInfo>> audit1 = regionInfo(m1, 55, m2, 45);
+    final Map<String, Set<PartitionMemberInfo>> audit2 = regionInfo(m1, 70, m2, 30);
+    final Map<String, Set<PartitionMemberInfo>> audit3 = regionInfo(m1, 58, m2, 42);
+    final Map<String, Set<PartitionMemberInfo>> audit4 = regionInfo(m1, 52, m2, 48);
+
+    mockContext.checking(new Expectations() {
+      {
+        oneOf(mockScheduler).init(with(any(String.class)));
+        oneOf(mockCacheFacade).publishStatus(with(any(AutoBalancerMXBean.class)));
+        allowing(mockCacheFacade).acquireAutoBalanceLock();
+        will(returnValue(true));
+        allowing(mockCacheFacade).incrementAttemptCounter();
+        exactly(4).of(mockCacheFacade).getRegionMemberInfo();
+        will(onConsecutiveCalls(returnValue(audit1), returnValue(audit2), returnValue(audit3),
+            returnValue(audit4)));
+        exactly(2).of(mockCacheFacade).moveBuckets("/r", 1);
+        will(onConsecutiveCalls(returnValue(moves), returnValue(noMoves)));
+      }
+    });
+
+    AutoBalancer balancer = new AutoBalancer(mockScheduler, null, null, mockCacheFacade);
+    Properties props = getBasicConfig();
+    props.put(AutoBalancer.INCREMENTAL, "true");
+    props.put(AutoBalancer.MINIMUM_SIZE, "10");
+    balancer.init(props);
+    IncrementalOOBAuditor auditor = (IncrementalOOBAuditor) balancer.getOOBAuditor();
+    AutoBalancerStatus status = auditor.getStatus();
+
+    // below the high threshold
+    auditor.execute();
+    assertTrue(auditor.getBalancingRegions().isEmpty());
+    assertEquals(10, status.getImbalancePercent(), 0.01);
+
+    // above the high threshold, one bucket is moved
+    auditor.execute();
+    assertTrue(auditor.getBalancingRegions().contains("/r"));
+    assertEquals(40, status.getImbalancePercent(), 0.01);
+    assertEquals(20, status.getProjectedImbalancePercent(), 0.01);
+    assertEquals(1, status.getBucketsMoved());
+    assertEquals(10, status.getBytesMoved());
+
+    // between the thresholds while balancing, keep balancing
+    auditor.execute();
+    assertTrue(auditor.getBalancingRegions().contains("/r"));
+
+    // below the low threshold
+    auditor.execute();
+    assertTrue(auditor.getBalancingRegions().isEmpty());
+    assertEquals(4, status.getAudits());
+    assertTrue(status.isOwner());
+    assertTrue(status.getRecentDecisions().length > 0);
+  }
+
+  private int memberInfoCount;
+
+  private Map<String, Set<PartitionMemberInfo>> regionInfo(DistributedMember m1, long size1,
+      DistributedMember m2, long size2) {
+    Set<PartitionMemberInfo> members = new HashSet<>();
+    members.add(memberInfo(m1, size1));
+    members.add(memberInfo(m2, size2));
+    return Collections.singletonMap("/r", members);
+  }
+
+  private PartitionMemberInfo memberInfo(final DistributedMember member, final long size) {
+    final PartitionMemberInfo info =
+        mockContext.mock(PartitionMemberInfo.class, "info" + memberInfoCount++);
+    mockContext.checking(new Expectations() {
+      {
+        allowing(info).getDistributedMember();
+        will(returnValue(member));
+        allowing(info).getSize();
+        will(returnValue(size));
+        allowing(info).getConfiguredMaxMemory();
+        will(returnValue(100L));
+      }
+    });
+    return info;
+  }
+
   static Properties getBasicConfig() {
     Properties props = new Properties();
     // every second schedule